@@ -0,0 +1,113 @@
+package kr.co.mz.mzdinterviewassignment.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import kr.co.mz.mzdinterviewassignment.domain.member.MemberStatus;
+import kr.co.mz.mzdinterviewassignment.domain.profile.ProfileStatus;
+import kr.co.mz.mzdinterviewassignment.dto.response.ApiResponse;
+import kr.co.mz.mzdinterviewassignment.dto.response.member.MemberDetailsResponse;
+import kr.co.mz.mzdinterviewassignment.dto.response.member.MemberInfoResponse;
+import kr.co.mz.mzdinterviewassignment.dto.response.member.MemberSliceResponse;
+import kr.co.mz.mzdinterviewassignment.dto.response.profile.ProfileResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiResponseSerializationBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private ObjectWriter writer;
+    private ApiResponse<MemberDetailsResponse> detailsResponse;
+    private ApiResponse<MemberSliceResponse> sliceResponse;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        writer = objectMapper.writer();
+
+        LocalDateTime now = LocalDateTime.of(2024, 3, 1, 12, 0, 0);
+        List<ProfileResponse> profiles = List.of(profile(1L, ProfileStatus.MAIN, now),
+            profile(2L, ProfileStatus.NORMAL, now));
+        detailsResponse = ApiResponse.<MemberDetailsResponse>builder()
+            .data(MemberDetailsResponse.builder()
+                .memberNo(1L)
+                .loginId("member1234")
+                .name("홍길동")
+                .password("password1!")
+                .memberStatus(MemberStatus.ACTIVE)
+                .version(0L)
+                .createdAt(now)
+                .updatedAt(now)
+                .profiles(profiles)
+                .build())
+            .build();
+
+        List<MemberInfoResponse> members = new ArrayList<>(PAGE_SIZE);
+        for (long memberNo = 1; memberNo <= PAGE_SIZE; memberNo++) {
+            members.add(MemberInfoResponse.builder()
+                .memberNo(memberNo)
+                .loginId("member" + memberNo)
+                .name("홍길동")
+                .password("password1!")
+                .memberStatus(MemberStatus.ACTIVE)
+                .version(0L)
+                .createdAt(now)
+                .updatedAt(now)
+                .mainProfile(profile(memberNo, ProfileStatus.MAIN, now))
+                .build());
+        }
+        sliceResponse = ApiResponse.<MemberSliceResponse>builder()
+            .data(MemberSliceResponse.builder()
+                .members(members)
+                .page(0)
+                .size(PAGE_SIZE)
+                .hasNext(true)
+                .build())
+            .build();
+    }
+
+    @Benchmark
+    public byte[] serializeMemberDetails() throws JsonProcessingException {
+        return writer.writeValueAsBytes(detailsResponse);
+    }
+
+    @Benchmark
+    public byte[] serializeMemberSlice() throws JsonProcessingException {
+        return writer.writeValueAsBytes(sliceResponse);
+    }
+
+    private static ProfileResponse profile(final long profileNo,
+                                           final ProfileStatus profileStatus,
+                                           final LocalDateTime now) {
+        return ProfileResponse.builder()
+            .profileNo(profileNo)
+            .nickname("길동_" + profileNo)
+            .phoneNumber("01012345678")
+            .address("서울특별시 강남구")
+            .profileStatus(profileStatus)
+            .version(0L)
+            .createdAt(now)
+            .updatedAt(now)
+            .build();
+    }
+}
@@ -0,0 +1,31 @@
+package kr.co.mz.mzdinterviewassignment.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import kr.co.mz.mzdinterviewassignment.domain.profile.ProfileStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProfileStatusBenchmark {
+
+    @Param({"MAIN", "NORMAL"})
+    private String status;
+
+    @Benchmark
+    public ProfileStatus from() {
+        return ProfileStatus.from(status);
+    }
+}
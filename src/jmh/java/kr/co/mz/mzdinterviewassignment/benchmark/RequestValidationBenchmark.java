@@ -0,0 +1,118 @@
+package kr.co.mz.mzdinterviewassignment.benchmark;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import kr.co.mz.mzdinterviewassignment.dto.request.member.CreateMemberRequest;
+import kr.co.mz.mzdinterviewassignment.dto.request.profile.CreateProfileRequest;
+import kr.co.mz.mzdinterviewassignment.dto.request.validation.RequestFormats;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestValidationBenchmark {
+
+    private static final Pattern LOGIN_ID = Pattern.compile("^[a-z\\d]{4,20}$");
+    private static final Pattern NAME = Pattern.compile("^[가-힣]{2,8}$");
+    private static final Pattern PASSWORD = Pattern.compile("^[A-Za-z\\d~!@#$%^&*()+|=]{8,16}$");
+    private static final Pattern NICKNAME = Pattern.compile("^[가-힣a-zA-Z0-9-_]{2,8}$");
+    private static final Pattern PHONE_NUMBER = Pattern.compile("^01(?:0|1|[6-9])(?:\\d{7}|\\d{8})$");
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private CreateMemberRequest validRequest;
+    private CreateMemberRequest invalidRequest;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        validRequest = new CreateMemberRequest("member1234", "홍길동", "password1!",
+            new CreateProfileRequest("길동_01", "01012345678", "서울특별시 강남구"));
+        invalidRequest = new CreateMemberRequest("Member!", "hong", "short",
+            new CreateProfileRequest("길동@", "0212345678", "서울특별시 강남구"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CreateMemberRequest>> validateValidRequest() {
+        return validator.validate(validRequest);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CreateMemberRequest>> validateInvalidRequest() {
+        return validator.validate(invalidRequest);
+    }
+
+    @Benchmark
+    public boolean matchLoginId() {
+        return LOGIN_ID.matcher(validRequest.getLoginId()).matches();
+    }
+
+    @Benchmark
+    public boolean matchName() {
+        return NAME.matcher(validRequest.getName()).matches();
+    }
+
+    @Benchmark
+    public boolean matchPassword() {
+        return PASSWORD.matcher(validRequest.getPassword()).matches();
+    }
+
+    @Benchmark
+    public boolean matchNickname() {
+        return NICKNAME.matcher(validRequest.getProfile().getNickname()).matches();
+    }
+
+    @Benchmark
+    public boolean matchPhoneNumber() {
+        return PHONE_NUMBER.matcher(validRequest.getProfile().getPhoneNumber()).matches();
+    }
+
+    @Benchmark
+    public boolean checkLoginId() {
+        return RequestFormats.isLoginId(validRequest.getLoginId());
+    }
+
+    @Benchmark
+    public boolean checkName() {
+        return RequestFormats.isMemberName(validRequest.getName());
+    }
+
+    @Benchmark
+    public boolean checkPassword() {
+        return RequestFormats.isPassword(validRequest.getPassword());
+    }
+
+    @Benchmark
+    public boolean checkNickname() {
+        return RequestFormats.isNickname(validRequest.getProfile().getNickname());
+    }
+
+    @Benchmark
+    public boolean checkPhoneNumber() {
+        return RequestFormats.isPhoneNumber(validRequest.getProfile().getPhoneNumber());
+    }
+}
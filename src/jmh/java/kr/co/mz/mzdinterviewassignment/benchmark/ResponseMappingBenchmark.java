@@ -0,0 +1,63 @@
+package kr.co.mz.mzdinterviewassignment.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import kr.co.mz.mzdinterviewassignment.domain.member.Member;
+import kr.co.mz.mzdinterviewassignment.domain.profile.Profile;
+import kr.co.mz.mzdinterviewassignment.domain.profile.ProfileStatus;
+import kr.co.mz.mzdinterviewassignment.dto.response.member.MemberInfoResponse;
+import kr.co.mz.mzdinterviewassignment.dto.response.profile.ProfileResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResponseMappingBenchmark {
+
+    private Member member;
+    private Profile profile;
+    private ProfileResponse profileResponse;
+
+    @Setup
+    public void setUp() {
+        member = Member.builder()
+            .loginId("member1234")
+            .name("홍길동")
+            .password("password1!")
+            .build();
+        profile = Profile.builder()
+            .nickname("길동_01")
+            .phoneNumber("01012345678")
+            .address("서울특별시 강남구")
+            .profileStatus(ProfileStatus.MAIN)
+            .member(member)
+            .build();
+        profileResponse = ProfileResponse.generateProfile(profile);
+    }
+
+    @Benchmark
+    public ProfileResponse generateProfile() {
+        return ProfileResponse.generateProfile(profile);
+    }
+
+    @Benchmark
+    public MemberInfoResponse generateMemberInfo() {
+        return MemberInfoResponse.generateMemberInfo(member, profileResponse);
+    }
+
+    @Benchmark
+    public MemberInfoResponse generateMemberInfoWithProfile() {
+        return MemberInfoResponse.generateMemberInfo(member, ProfileResponse.generateProfile(profile));
+    }
+}
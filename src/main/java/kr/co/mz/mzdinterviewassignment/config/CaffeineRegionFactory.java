@@ -0,0 +1,83 @@
+package kr.co.mz.mzdinterviewassignment.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+
+@Slf4j
+public class CaffeineRegionFactory extends RegionFactoryTemplate {
+    public static final String MAXIMUM_SIZE = "hibernate.cache.caffeine.maximum_size";
+    public static final String EXPIRE_AFTER_WRITE_SECONDS =
+        "hibernate.cache.caffeine.expire_after_write_seconds";
+
+    private final Map<String, Cache<Object, Object>> caches = new ConcurrentHashMap<>();
+    private long maximumSize;
+    private long expireAfterWriteSeconds;
+
+    @Override
+    protected void prepareForUse(final SessionFactoryOptions settings,
+                                 final Map<String, Object> configValues) {
+        this.maximumSize = ConfigurationHelper.getLong(MAXIMUM_SIZE, configValues, 10_000);
+        this.expireAfterWriteSeconds =
+            ConfigurationHelper.getLong(EXPIRE_AFTER_WRITE_SECONDS, configValues, 600);
+        log.info("2차 캐시 시작 - 영역별 최대 {} 개, 저장 후 {} 초 만료", maximumSize,
+            expireAfterWriteSeconds);
+    }
+
+    @Override
+    protected void releaseFromUse() {
+        caches.values().forEach(Cache::invalidateAll);
+        caches.clear();
+    }
+
+    @Override
+    protected DomainDataStorageAccess createDomainDataStorageAccess(
+        final DomainDataRegionConfig regionConfig,
+        final DomainDataRegionBuildingContext buildingContext) {
+        return new CaffeineStorageAccess(createBoundedCache(regionConfig.getRegionName()));
+    }
+
+    @Override
+    protected StorageAccess createQueryResultsRegionStorageAccess(
+        final String regionName, final SessionFactoryImplementor sessionFactory) {
+        return new CaffeineStorageAccess(createBoundedCache(regionName));
+    }
+
+    @Override
+    protected StorageAccess createTimestampsRegionStorageAccess(
+        final String regionName, final SessionFactoryImplementor sessionFactory) {
+        Cache<Object, Object> cache = Caffeine.newBuilder()
+            .recordStats()
+            .build();
+        caches.put(regionName, cache);
+        return new CaffeineStorageAccess(cache);
+    }
+
+    public Map<String, Cache<Object, Object>> getCaches() {
+        return Collections.unmodifiableMap(caches);
+    }
+
+    private Cache<Object, Object> createBoundedCache(final String regionName) {
+        log.info("2차 캐시 영역 {} 생성", regionName);
+
+        Cache<Object, Object> cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+            .recordStats()
+            .build();
+        caches.put(regionName, cache);
+        return cache;
+    }
+}
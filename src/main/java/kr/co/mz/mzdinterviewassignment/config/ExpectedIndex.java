@@ -0,0 +1,24 @@
+package kr.co.mz.mzdinterviewassignment.config;
+
+import java.util.List;
+import lombok.Getter;
+
+@Getter
+public enum ExpectedIndex {
+    PROFILE_MEMBER_STATUS("profile_tbl", List.of("member_no", "profile_status")),
+    PROFILE_MAIN_MEMBER_NO("profile_tbl", List.of("main_member_no")),
+    PROFILE_UPDATED_AT("profile_tbl", List.of("updated_at")),
+    MEMBER_STATUS_MEMBER_NO("member_tbl", List.of("member_status", "member_no")),
+    MEMBER_UPDATED_AT("member_tbl", List.of("updated_at")),
+    MEMBER_NAME_GRAM_MEMBER_NO("member_name_gram", List.of("member_no")),
+    MEMBER_ARCHIVE_UPDATED_AT("member_archive", List.of("updated_at")),
+    PROFILE_ARCHIVE_UPDATED_AT("profile_archive", List.of("updated_at"));
+
+    private final String table;
+    private final List<String> columns;
+
+    ExpectedIndex(final String table, final List<String> columns) {
+        this.table = table;
+        this.columns = columns;
+    }
+}
@@ -0,0 +1,63 @@
+package kr.co.mz.mzdinterviewassignment.config;
+
+import java.util.Locale;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class IdSequenceInitializer implements InitializingBean {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        boolean h2 = isH2();
+        alignSequence(h2, "member_seq", "member_no", "member_tbl", "member_archive");
+        alignSequence(h2, "profile_seq", "profile_no", "profile_tbl", "profile_archive");
+    }
+
+    private void alignSequence(final boolean h2, final String sequence, final String idColumn,
+                               final String table, final String archiveTable) {
+        Long maxId = jdbcTemplate.queryForObject(
+            "select coalesce(max(" + idColumn + "), 0) from (select max(" + idColumn + ") as "
+                + idColumn + " from " + table + " union all select max(" + idColumn + ") from "
+                + archiveTable + ") ids", Long.class);
+        Long nextId = currentValue(h2, sequence);
+
+        if (nextId != null && maxId != null && nextId > maxId) {
+            return;
+        }
+
+        long restartId = maxId + 1;
+        jdbcTemplate.execute("alter sequence " + sequence + " restart with " + restartId);
+        log.info("{} 시퀀스를 기존 식별 번호 이후인 {} 부터 발급하도록 조정", sequence, restartId);
+    }
+
+    Long currentValue(final String sequence) {
+        return currentValue(isH2(), sequence);
+    }
+
+    private Long currentValue(final boolean h2, final String sequence) {
+        if (h2) {
+            return jdbcTemplate.queryForObject("""
+                select base_value from information_schema.sequences
+                where sequence_schema = schema() and sequence_name = ?
+                """, Long.class, sequence.toUpperCase(Locale.ROOT));
+        }
+        return jdbcTemplate.queryForObject("select next_not_cached_value from " + sequence,
+            Long.class);
+    }
+
+    private boolean isH2() {
+        return "H2".equals(jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+            connection.getMetaData().getDatabaseProductName()));
+    }
+}
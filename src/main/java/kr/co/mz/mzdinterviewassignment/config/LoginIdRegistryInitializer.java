@@ -0,0 +1,27 @@
+package kr.co.mz.mzdinterviewassignment.config;
+
+import kr.co.mz.mzdinterviewassignment.repository.LoginIdRegistryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class LoginIdRegistryInitializer implements InitializingBean {
+
+    private final LoginIdRegistryRepository loginIdRegistryRepository;
+
+    @Override
+    public void afterPropertiesSet() {
+        int registeredCount = loginIdRegistryRepository.registerMissing("member_tbl")
+            + loginIdRegistryRepository.registerMissing("member_archive");
+
+        if (registeredCount > 0) {
+            log.info("아이디 목록에 없던 기존 회원 아이디 {} 개 등록", registeredCount);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package kr.co.mz.mzdinterviewassignment.config;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Locale;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class MainProfileConstraintInitializer implements InitializingBean {
+
+    private static final String PROFILE_TABLE = "profile_tbl";
+    private static final String MAIN_MEMBER_NO_COLUMN = "main_member_no";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!isGeneratedColumn()) {
+            jdbcTemplate.execute("alter table profile_tbl drop column if exists main_member_no");
+            jdbcTemplate.execute("""
+                alter table profile_tbl add column main_member_no bigint
+                generated always as (case when profile_status = 'MAIN' then member_no end)
+                """);
+            log.info("PROFILE_TBL 에 회원별 메인 프로필 생성 컬럼 main_member_no 추가");
+        }
+
+        if (!hasUniqueIndex()) {
+            demoteDuplicatedMainProfiles();
+            jdbcTemplate.execute("alter table profile_tbl add constraint uk_profile_main_member_no "
+                + "unique (main_member_no)");
+            log.info("PROFILE_TBL 에 회원별 메인 프로필 유일성 제약 uk_profile_main_member_no 추가");
+        }
+    }
+
+    private void demoteDuplicatedMainProfiles() {
+        int demotedCount = jdbcTemplate.update("""
+            update profile_tbl
+            set profile_status = 'NORMAL'
+            where profile_no in (
+                select profile_no from (
+                    select p.profile_no
+                    from profile_tbl p
+                    join (select member_no, min(profile_no) as main_profile_no
+                          from profile_tbl
+                          where profile_status = 'MAIN'
+                          group by member_no) m on m.member_no = p.member_no
+                    where p.profile_status = 'MAIN' and p.profile_no > m.main_profile_no
+                ) duplicated)
+            """);
+
+        if (demotedCount > 0) {
+            log.warn("회원별 메인 프로필 유일성 제약 추가 전 중복 메인 프로필 {} 개를 일반 프로필로 전환",
+                demotedCount);
+        }
+    }
+
+    private boolean isGeneratedColumn() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            try (ResultSet columns = metaData.getColumns(connection.getCatalog(),
+                connection.getSchema(), identifier(metaData, PROFILE_TABLE),
+                identifier(metaData, MAIN_MEMBER_NO_COLUMN))) {
+                return columns.next() && "YES".equals(columns.getString("IS_GENERATEDCOLUMN"));
+            }
+        }));
+    }
+
+    private boolean hasUniqueIndex() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            try (ResultSet indexes = metaData.getIndexInfo(connection.getCatalog(),
+                connection.getSchema(), identifier(metaData, PROFILE_TABLE), true, true)) {
+                while (indexes.next()) {
+                    if (MAIN_MEMBER_NO_COLUMN.equalsIgnoreCase(indexes.getString("COLUMN_NAME"))) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+        }));
+    }
+
+    private static String identifier(final DatabaseMetaData metaData, final String name)
+        throws SQLException {
+        return metaData.storesUpperCaseIdentifiers() ? name.toUpperCase(Locale.ROOT) : name;
+    }
+}
@@ -0,0 +1,81 @@
+package kr.co.mz.mzdinterviewassignment.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+@Slf4j
+@Component
+public class QueryBudgetInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String STATISTICS_ATTRIBUTE =
+        QueryBudgetInterceptor.class.getName() + ".statistics";
+
+    private final QueryBudgetMode mode;
+    private final long defaultMaxStatements;
+
+    public QueryBudgetInterceptor(
+        @Value("${member.query-budget.mode:OFF}") final QueryBudgetMode mode,
+        @Value("${member.query-budget.default-max-statements:50}") final long defaultMaxStatements) {
+        this.mode = mode;
+        this.defaultMaxStatements = defaultMaxStatements;
+        log.info("요청 쿼리 수 한도 초기화, 모드 : {}, 기본 한도 : {}", mode, defaultMaxStatements);
+    }
+
+    @Override
+    public boolean preHandle(final HttpServletRequest request,
+                             final HttpServletResponse response,
+                             final Object handler) {
+        if (mode != QueryBudgetMode.OFF) {
+            request.setAttribute(STATISTICS_ATTRIBUTE, RequestStatistics.start(
+                maxStatements(handler), mode == QueryBudgetMode.REJECT));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(final HttpServletRequest request,
+                                               final HttpServletResponse response,
+                                               final Object handler) {
+        if (request.getAttribute(STATISTICS_ATTRIBUTE) instanceof RequestStatistics statistics) {
+            statistics.finish();
+        }
+    }
+
+    @Override
+    public void afterCompletion(final HttpServletRequest request,
+                                final HttpServletResponse response,
+                                final Object handler,
+                                final Exception ex) {
+        if (!(request.getAttribute(STATISTICS_ATTRIBUTE) instanceof RequestStatistics statistics)) {
+            return;
+        }
+        statistics.finish();
+
+        if (statistics.isExceeded() && !statistics.isReject()) {
+            log.warn("요청 쿼리 수 한도 초과. {} {}, 쿼리 수 : {}, 한도 : {}, 트랜잭션 수 : {}, "
+                    + "트랜잭션 최대 쿼리 수 : {}", request.getMethod(),
+                request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE),
+                statistics.getStatementCount(), statistics.getMaxStatements(),
+                statistics.getTransactionCount(), statistics.getMaxTransactionStatementCount());
+        }
+    }
+
+    private long maxStatements(final Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            QueryBudget budget = handlerMethod.getMethodAnnotation(QueryBudget.class);
+            if (budget == null) {
+                budget = handlerMethod.getBeanType().getAnnotation(QueryBudget.class);
+            }
+            if (budget != null) {
+                return budget.value();
+            }
+        }
+        return defaultMaxStatements;
+    }
+}
@@ -0,0 +1,7 @@
+package kr.co.mz.mzdinterviewassignment.config;
+
+public enum QueryBudgetMode {
+    OFF,
+    LOG,
+    REJECT
+}
@@ -0,0 +1,89 @@
+package kr.co.mz.mzdinterviewassignment.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+@Configuration
+@ConditionalOnProperty(name = "member.datasource.routing.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+    private static final String HIKARI_PREFIX = "spring.datasource.hikari";
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+        final DataSourceProperties properties,
+        final Environment environment,
+        final ObjectProvider<MeterRegistry> meterRegistry,
+        @Value("${member.datasource.replica.urls:}") final List<String> replicaUrls,
+        @Value("${member.datasource.replica.sticky-ms:1000}") final long stickyMillis,
+        @Value("${member.datasource.replica.health-check-interval-ms:5000}") final long healthCheckIntervalMillis,
+        @Value("${member.datasource.replica.validation-timeout-seconds:1}") final int validationTimeoutSeconds,
+        @Value("${member.datasource.replica.max-lag-seconds:5}") final long maxLagSeconds) {
+
+        Binder binder = Binder.get(environment);
+        HikariDataSource primary = createDataSource(properties, binder, meterRegistry,
+            properties.determineUrl(), "primary");
+        List<DataSource> replicas = new ArrayList<>();
+        for (String replicaUrl : replicaUrls) {
+            if (StringUtils.hasText(replicaUrl)) {
+                replicas.add(createDataSource(properties, binder, meterRegistry, replicaUrl.trim(),
+                    "replica-" + replicas.size()));
+            }
+        }
+
+        return new ReplicaRoutingDataSource(primary, replicas, stickyMillis, healthCheckIntervalMillis,
+            validationTimeoutSeconds, maxLagSeconds);
+    }
+
+    @Bean
+    public ReplicaStickinessInterceptor replicaStickinessInterceptor(
+        @Value("${member.datasource.replica.sticky-ms:1000}") final long stickyMillis) {
+        return new ReplicaStickinessInterceptor(stickyMillis);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer replicaConnectionHandlingCustomizer() {
+        return hibernateProperties -> hibernateProperties.put(AvailableSettings.CONNECTION_HANDLING,
+            PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(final ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    private HikariDataSource createDataSource(final DataSourceProperties properties,
+                                              final Binder binder,
+                                              final ObjectProvider<MeterRegistry> meterRegistry,
+                                              final String url,
+                                              final String poolName) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        binder.bind(HIKARI_PREFIX, Bindable.ofInstance(dataSource));
+        dataSource.setJdbcUrl(url);
+        dataSource.setPoolName(poolName);
+        meterRegistry.ifAvailable(registry ->
+            dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+        return dataSource;
+    }
+}
@@ -0,0 +1,222 @@
+package kr.co.mz.mzdinterviewassignment.config;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+import javax.sql.DataSource;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements DisposableBean {
+
+    private static final int NO_REPLICA = -1;
+    private static final long REPLICATION_STOPPED = Long.MAX_VALUE;
+
+    @Getter(AccessLevel.PACKAGE)
+    private final DataSource primary;
+    @Getter(AccessLevel.PACKAGE)
+    private final List<DataSource> replicas;
+    private final AtomicIntegerArray healthy;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final long stickyMillis;
+    private final int validationTimeoutSeconds;
+    private final long maxLagSeconds;
+    private final ScheduledExecutorService healthChecker;
+    private final LongAdder primaryRouteCount = new LongAdder();
+    private final LongAdder replicaRouteCount = new LongAdder();
+
+    public ReplicaRoutingDataSource(final DataSource primary,
+                                    final List<DataSource> replicas,
+                                    final long stickyMillis,
+                                    final long healthCheckIntervalMillis,
+                                    final int validationTimeoutSeconds,
+                                    final long maxLagSeconds) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.healthy = new AtomicIntegerArray(this.replicas.size());
+        this.stickyMillis = Math.max(0, stickyMillis);
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+        this.maxLagSeconds = maxLagSeconds;
+
+        checkHealth();
+        this.healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (!this.replicas.isEmpty() && healthCheckIntervalMillis > 0) {
+            healthChecker.scheduleWithFixedDelay(this::checkHealth, healthCheckIntervalMillis,
+                healthCheckIntervalMillis, TimeUnit.MILLISECONDS);
+        }
+        log.info("읽기 전용 트랜잭션 복제본 분기 초기화, 복제본 수 : {}, 쓰기 후 주 데이터베이스 유지 시간 : {}ms,"
+            + " 최대 복제 지연 : {}초", this.replicas.size(), stickyMillis, maxLagSeconds);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        int replica = determineReplica();
+        if (replica != NO_REPLICA) {
+            try {
+                Connection connection = replicas.get(replica).getConnection();
+                replicaRouteCount.increment();
+                return connection;
+            } catch (SQLException e) {
+                markDown(replica, e);
+            }
+        }
+
+        primaryRouteCount.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password)
+        throws SQLException {
+        throw new SQLException("복제본 분기 데이터 소스는 별도 계정으로 연결할 수 없습니다.");
+    }
+
+    public void checkHealth() {
+        for (int i = 0; i < replicas.size(); i++) {
+            boolean valid = isValid(replicas.get(i));
+            int previous = healthy.getAndSet(i, valid ? 1 : 0);
+            if (valid && previous == 0) {
+                log.info("복제본 {} 정상 확인, 읽기 전용 트랜잭션 분기 대상에 포함", i);
+            } else if (!valid && previous == 1) {
+                log.warn("복제본 {} 상태 확인 실패 또는 복제 지연 초과, 읽기 전용 트랜잭션을 다른 데이터베이스로 분기",
+                    i);
+            }
+        }
+    }
+
+    public long getPrimaryRouteCount() {
+        return primaryRouteCount.sum();
+    }
+
+    public long getReplicaRouteCount() {
+        return replicaRouteCount.sum();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        healthChecker.shutdownNow();
+        for (DataSource replica : replicas) {
+            close(replica);
+        }
+        close(primary);
+    }
+
+    private int determineReplica() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return NO_REPLICA;
+        }
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordWriteCommit();
+            return NO_REPLICA;
+        }
+
+        ReplicaStickiness stickiness = ReplicaStickiness.current();
+        if (stickiness != null && stickiness.isSticky(System.currentTimeMillis(), stickyMillis)) {
+            return NO_REPLICA;
+        }
+
+        return nextHealthyReplica();
+    }
+
+    private void recordWriteCommit() {
+        ReplicaStickiness stickiness = ReplicaStickiness.current();
+        if (stickyMillis == 0 || stickiness == null
+            || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                stickiness.recordWriteCommit(System.currentTimeMillis());
+            }
+        });
+    }
+
+    private int nextHealthyReplica() {
+        int size = replicas.size();
+        if (size == 0) {
+            return NO_REPLICA;
+        }
+
+        int start = Math.floorMod(nextReplica.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            int replica = (start + i) % size;
+            if (healthy.get(replica) == 1) {
+                return replica;
+            }
+        }
+        return NO_REPLICA;
+    }
+
+    private void markDown(final int replica, final SQLException e) {
+        if (healthy.getAndSet(replica, 0) == 1) {
+            log.warn("복제본 {} 연결 실패, 다음 상태 확인까지 주 데이터베이스로 분기 : {}", replica,
+                e.getMessage());
+        }
+    }
+
+    private boolean isValid(final DataSource replica) {
+        try (Connection connection = replica.getConnection()) {
+            if (!connection.isValid(validationTimeoutSeconds)) {
+                return false;
+            }
+            if (maxLagSeconds <= 0) {
+                return true;
+            }
+
+            long lagSeconds = findReplicationLagSeconds(connection);
+            if (lagSeconds > maxLagSeconds) {
+                log.warn("복제본 복제 지연 {}초, 허용 {}초 초과",
+                    lagSeconds == REPLICATION_STOPPED ? "알 수 없음(복제 중단)" : lagSeconds,
+                    maxLagSeconds);
+                return false;
+            }
+            return true;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private long findReplicationLagSeconds(final Connection connection) throws SQLException {
+        String productName = connection.getMetaData().getDatabaseProductName();
+        if (!"MariaDB".equalsIgnoreCase(productName) && !"MySQL".equalsIgnoreCase(productName)) {
+            return 0L;
+        }
+
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("show slave status")) {
+            if (!resultSet.next()) {
+                return 0L;
+            }
+
+            long lagSeconds = resultSet.getLong("Seconds_Behind_Master");
+            return resultSet.wasNull() ? REPLICATION_STOPPED : lagSeconds;
+        }
+    }
+
+    private void close(final DataSource dataSource) throws Exception {
+        if (dataSource instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package kr.co.mz.mzdinterviewassignment.config;
+
+import java.util.function.LongConsumer;
+
+public final class ReplicaStickiness {
+
+    private static final ThreadLocal<ReplicaStickiness> CURRENT = new ThreadLocal<>();
+
+    private long lastWriteCommittedAt;
+    private final LongConsumer writeCommitListener;
+
+    private ReplicaStickiness(final long lastWriteCommittedAt,
+                              final LongConsumer writeCommitListener) {
+        this.lastWriteCommittedAt = lastWriteCommittedAt;
+        this.writeCommitListener = writeCommitListener;
+    }
+
+    public static void bind(final long lastWriteCommittedAt,
+                            final LongConsumer writeCommitListener) {
+        CURRENT.set(new ReplicaStickiness(lastWriteCommittedAt, writeCommitListener));
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    static ReplicaStickiness current() {
+        return CURRENT.get();
+    }
+
+    boolean isSticky(final long now, final long stickyMillis) {
+        return lastWriteCommittedAt <= now && now - lastWriteCommittedAt < stickyMillis;
+    }
+
+    void recordWriteCommit(final long now) {
+        lastWriteCommittedAt = now;
+        if (writeCommitListener != null) {
+            writeCommitListener.accept(now);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package kr.co.mz.mzdinterviewassignment.config;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+@RequiredArgsConstructor
+public class ReplicaStickinessInterceptor implements HandlerInterceptor {
+
+    public static final String COOKIE_NAME = "member-last-write";
+
+    private final long stickyMillis;
+
+    @Override
+    public boolean preHandle(final HttpServletRequest request,
+                             final HttpServletResponse response,
+                             final Object handler) {
+        ReplicaStickiness.bind(findLastWriteCommittedAt(request),
+            committedAt -> addCookie(response, committedAt));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(final HttpServletRequest request,
+                                final HttpServletResponse response,
+                                final Object handler,
+                                final Exception ex) {
+        ReplicaStickiness.clear();
+    }
+
+    private void addCookie(final HttpServletResponse response, final long committedAt) {
+        if (response.isCommitted()) {
+            return;
+        }
+
+        Cookie cookie = new Cookie(COOKIE_NAME, String.valueOf(committedAt));
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(stickyMillis + 999)));
+        response.addCookie(cookie);
+    }
+
+    private static long findLastWriteCommittedAt(final HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0L;
+        }
+
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return 0L;
+                }
+            }
+        }
+        return 0L;
+    }
+}
@@ -0,0 +1,82 @@
+package kr.co.mz.mzdinterviewassignment.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+@RequiredArgsConstructor
+public class RequestMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    static final String EXCEPTION_ATTRIBUTE = RequestMetricsInterceptor.class.getName() + ".exception";
+    private static final String STATISTICS_ATTRIBUTE =
+        RequestMetricsInterceptor.class.getName() + ".statistics";
+    private static final String UNKNOWN = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(final HttpServletRequest request,
+                             final HttpServletResponse response,
+                             final Object handler) {
+        request.setAttribute(STATISTICS_ATTRIBUTE, RequestStatistics.start());
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(final HttpServletRequest request,
+                                               final HttpServletResponse response,
+                                               final Object handler) {
+        if (request.getAttribute(STATISTICS_ATTRIBUTE) instanceof RequestStatistics statistics) {
+            statistics.finish();
+        }
+    }
+
+    @Override
+    public void afterCompletion(final HttpServletRequest request,
+                                final HttpServletResponse response,
+                                final Object handler,
+                                final Exception ex) {
+        if (!(request.getAttribute(STATISTICS_ATTRIBUTE) instanceof RequestStatistics statistics)) {
+            return;
+        }
+        statistics.finish();
+
+        Tags tags = Tags.of("uri", uri(request), "outcome", outcome(response),
+            "exception", exception(request, ex));
+        record("member.request.statements", tags, statistics.getStatementCount());
+        record("member.request.entity.loads", tags, statistics.getEntityLoadCount());
+        record("member.request.flushes", tags, statistics.getFlushCount());
+    }
+
+    private void record(final String name, final Tags tags, final long amount) {
+        DistributionSummary.builder(name)
+            .tags(tags)
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(amount);
+    }
+
+    private static String uri(final HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? UNKNOWN : pattern.toString();
+    }
+
+    private static String outcome(final HttpServletResponse response) {
+        HttpStatus.Series series = HttpStatus.Series.resolve(response.getStatus());
+        return series == null ? UNKNOWN : series.name();
+    }
+
+    private static String exception(final HttpServletRequest request, final Exception ex) {
+        Object handled = request.getAttribute(EXCEPTION_ATTRIBUTE);
+        if (handled instanceof Exception exception) {
+            return exception.getClass().getSimpleName();
+        }
+        return ex == null ? "none" : ex.getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,89 @@
+package kr.co.mz.mzdinterviewassignment.config;
+
+import kr.co.mz.mzdinterviewassignment.exception.query.QueryBudgetExceededException;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class RequestStatistics {
+
+    public static final long UNLIMITED = Long.MAX_VALUE;
+
+    private static final ThreadLocal<RequestStatistics> CURRENT = new ThreadLocal<>();
+
+    @Getter(AccessLevel.NONE)
+    private final RequestStatistics parent;
+    private final long maxStatements;
+    private final boolean reject;
+    private long statementCount;
+    private long entityLoadCount;
+    private long flushCount;
+    private long transactionCount;
+    private long maxTransactionStatementCount;
+
+    public static RequestStatistics start() {
+        return start(UNLIMITED, false);
+    }
+
+    public static RequestStatistics start(final long maxStatements, final boolean reject) {
+        RequestStatistics statistics = new RequestStatistics(CURRENT.get(), maxStatements, reject);
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    public void finish() {
+        if (CURRENT.get() != this) {
+            return;
+        }
+
+        if (parent == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(parent);
+        }
+    }
+
+    public boolean isExceeded() {
+        return statementCount > maxStatements;
+    }
+
+    static void recordStatement() {
+        RequestStatistics rejected = null;
+        for (RequestStatistics statistics = CURRENT.get(); statistics != null;
+             statistics = statistics.parent) {
+            statistics.statementCount++;
+            if (rejected == null && statistics.reject && statistics.isExceeded()) {
+                rejected = statistics;
+            }
+        }
+
+        if (rejected != null) {
+            throw new QueryBudgetExceededException(rejected.statementCount, rejected.maxStatements);
+        }
+    }
+
+    static void recordEntityLoad() {
+        for (RequestStatistics statistics = CURRENT.get(); statistics != null;
+             statistics = statistics.parent) {
+            statistics.entityLoadCount++;
+        }
+    }
+
+    static void recordFlush() {
+        for (RequestStatistics statistics = CURRENT.get(); statistics != null;
+             statistics = statistics.parent) {
+            statistics.flushCount++;
+        }
+    }
+
+    static void recordTransaction(final long statementCount) {
+        for (RequestStatistics statistics = CURRENT.get(); statistics != null;
+             statistics = statistics.parent) {
+            statistics.transactionCount++;
+            statistics.maxTransactionStatementCount =
+                Math.max(statistics.maxTransactionStatementCount, statementCount);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package kr.co.mz.mzdinterviewassignment.config;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+public class RequestStatisticsDataSource extends DelegatingDataSource {
+
+    private static final ClassLoader CLASS_LOADER =
+        RequestStatisticsDataSource.class.getClassLoader();
+
+    public RequestStatisticsDataSource(final DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password)
+        throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private static Connection wrap(final Connection connection) {
+        return (Connection) Proxy.newProxyInstance(CLASS_LOADER, new Class<?>[]{Connection.class},
+            new ConnectionHandler(connection));
+    }
+
+    private static Object invoke(final Object target, final Method method, final Object[] args)
+        throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private static final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+        private long transactionStatementCount;
+
+        private ConnectionHandler(final Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args)
+            throws Throwable {
+            switch (method.getName()) {
+                case "commit", "rollback" -> {
+                    if (args == null) {
+                        RequestStatistics.recordTransaction(transactionStatementCount);
+                        transactionStatementCount = 0;
+                    }
+                }
+                case "close" -> transactionStatementCount = 0;
+                default -> {
+                }
+            }
+
+            Object result = RequestStatisticsDataSource.invoke(target, method, args);
+            if (result instanceof Statement statement) {
+                return Proxy.newProxyInstance(CLASS_LOADER, new Class<?>[]{method.getReturnType()},
+                    new StatementHandler(this, statement, (Connection) proxy));
+            }
+            return result;
+        }
+
+        private void recordStatement() {
+            transactionStatementCount++;
+            RequestStatistics.recordStatement();
+        }
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+
+        private final ConnectionHandler connection;
+        private final Statement target;
+        private final Connection connectionProxy;
+
+        private StatementHandler(final ConnectionHandler connection,
+                                 final Statement target,
+                                 final Connection connectionProxy) {
+            this.connection = connection;
+            this.target = target;
+            this.connectionProxy = connectionProxy;
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args)
+            throws Throwable {
+            String name = method.getName();
+            if (name.equals("getConnection")) {
+                return connectionProxy;
+            }
+            if (name.startsWith("execute")) {
+                connection.recordStatement();
+            }
+            return RequestStatisticsDataSource.invoke(target, method, args);
+        }
+    }
+}
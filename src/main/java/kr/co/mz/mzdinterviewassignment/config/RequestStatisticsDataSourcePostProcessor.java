@@ -0,0 +1,22 @@
+package kr.co.mz.mzdinterviewassignment.config;
+
+import javax.sql.DataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnExpression("'${member.query-budget.mode:OFF}' != 'OFF' or ${member.request-metrics.enabled:true}")
+public class RequestStatisticsDataSourcePostProcessor implements BeanPostProcessor {
+
+    private static final String DATA_SOURCE_BEAN_NAME = "dataSource";
+
+    @Override
+    public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        if (DATA_SOURCE_BEAN_NAME.equals(beanName) && bean instanceof DataSource dataSource
+            && !(bean instanceof RequestStatisticsDataSource)) {
+            return new RequestStatisticsDataSource(dataSource);
+        }
+        return bean;
+    }
+}
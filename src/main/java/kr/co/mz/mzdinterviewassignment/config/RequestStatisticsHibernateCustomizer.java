@@ -0,0 +1,23 @@
+package kr.co.mz.mzdinterviewassignment.config;
+
+import java.util.List;
+import java.util.Map;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.jpa.boot.spi.JpaSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnExpression("'${member.query-budget.mode:OFF}' != 'OFF' or ${member.request-metrics.enabled:true}")
+public class RequestStatisticsHibernateCustomizer implements HibernatePropertiesCustomizer {
+
+    @Override
+    public void customize(final Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+            RequestStatisticsSessionListener.class.getName());
+        hibernateProperties.put(JpaSettings.INTEGRATOR_PROVIDER,
+            (IntegratorProvider) () -> List.of(new RequestStatisticsIntegrator()));
+    }
+}
@@ -0,0 +1,33 @@
+package kr.co.mz.mzdinterviewassignment.config;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+public class RequestStatisticsIntegrator implements Integrator, PostLoadEventListener {
+
+    @Override
+    public void integrate(final Metadata metadata,
+                          final BootstrapContext bootstrapContext,
+                          final SessionFactoryImplementor sessionFactory) {
+        sessionFactory.getServiceRegistry()
+            .getService(EventListenerRegistry.class)
+            .appendListeners(EventType.POST_LOAD, this);
+    }
+
+    @Override
+    public void disintegrate(final SessionFactoryImplementor sessionFactory,
+                             final SessionFactoryServiceRegistry serviceRegistry) {
+    }
+
+    @Override
+    public void onPostLoad(final PostLoadEvent event) {
+        RequestStatistics.recordEntityLoad();
+    }
+}
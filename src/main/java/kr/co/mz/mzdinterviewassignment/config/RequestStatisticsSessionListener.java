@@ -0,0 +1,11 @@
+package kr.co.mz.mzdinterviewassignment.config;
+
+import org.hibernate.SessionEventListener;
+
+public class RequestStatisticsSessionListener implements SessionEventListener {
+
+    @Override
+    public void flushEnd(final int numberOfEntities, final int numberOfCollections) {
+        RequestStatistics.recordFlush();
+    }
+}
@@ -0,0 +1,96 @@
+package kr.co.mz.mzdinterviewassignment.config;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@DependsOn({"entityManagerFactory", "mainProfileConstraintInitializer"})
+@RequiredArgsConstructor
+public class SchemaIndexVerifier implements InitializingBean {
+
+    private final DataSource dataSource;
+
+    @Override
+    public void afterPropertiesSet() {
+        List<ExpectedIndex> missingIndexes;
+        try {
+            missingIndexes = findMissingIndexes();
+        } catch (SQLException e) {
+            log.warn("인덱스 점검 실패 : {}", e.getMessage());
+            return;
+        }
+
+        if (missingIndexes.isEmpty()) {
+            log.info("필요한 인덱스가 모두 존재");
+            return;
+        }
+
+        missingIndexes.forEach(index -> log.warn("{} 테이블에 ({}) 인덱스가 없습니다.",
+            index.getTable(), String.join(", ", index.getColumns())));
+    }
+
+    public List<ExpectedIndex> findMissingIndexes() throws SQLException {
+        List<ExpectedIndex> missingIndexes = new ArrayList<>();
+
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (ExpectedIndex expectedIndex : ExpectedIndex.values()) {
+                Collection<List<String>> indexes = findIndexColumns(connection, metaData,
+                    expectedIndex.getTable());
+                if (indexes.stream().noneMatch(columns -> startsWith(columns,
+                    expectedIndex.getColumns()))) {
+                    missingIndexes.add(expectedIndex);
+                }
+            }
+        }
+        return missingIndexes;
+    }
+
+    private static Collection<List<String>> findIndexColumns(final Connection connection,
+                                                             final DatabaseMetaData metaData,
+                                                             final String table)
+        throws SQLException {
+        String tableName = metaData.storesUpperCaseIdentifiers()
+            ? table.toUpperCase(Locale.ROOT) : table;
+        Map<String, TreeMap<Short, String>> indexes = new HashMap<>();
+
+        try (ResultSet resultSet = metaData.getIndexInfo(connection.getCatalog(),
+            connection.getSchema(), tableName, false, true)) {
+            while (resultSet.next()) {
+                String indexName = resultSet.getString("INDEX_NAME");
+                String columnName = resultSet.getString("COLUMN_NAME");
+                if (indexName == null || columnName == null) {
+                    continue;
+                }
+                indexes.computeIfAbsent(indexName, name -> new TreeMap<>())
+                    .put(resultSet.getShort("ORDINAL_POSITION"),
+                        columnName.toLowerCase(Locale.ROOT));
+            }
+        }
+
+        return indexes.values().stream()
+            .map(columns -> (List<String>) new ArrayList<>(columns.values()))
+            .toList();
+    }
+
+    private static boolean startsWith(final List<String> columns, final List<String> prefix) {
+        return columns.size() >= prefix.size()
+            && columns.subList(0, prefix.size()).equals(prefix);
+    }
+}
@@ -0,0 +1,32 @@
+package kr.co.mz.mzdinterviewassignment.config;
+
+import java.util.Map;
+import kr.co.mz.mzdinterviewassignment.facade.MemberLockMode;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class SecondLevelCacheHibernateCustomizer implements HibernatePropertiesCustomizer {
+
+    private final MemberLockMode lockMode;
+
+    public SecondLevelCacheHibernateCustomizer(
+        @Value("${member.lock.mode:LOCAL}") final MemberLockMode lockMode) {
+        this.lockMode = lockMode;
+    }
+
+    @Override
+    public void customize(final Map<String, Object> hibernateProperties) {
+        if (lockMode != MemberLockMode.ADVISORY) {
+            return;
+        }
+
+        log.info("여러 노드가 함께 쓰는 {} 잠금 모드에서는 노드별 2차 캐시를 사용하지 않음", lockMode);
+        hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, false);
+        hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, false);
+    }
+}
@@ -0,0 +1,50 @@
+package kr.co.mz.mzdinterviewassignment.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.filter.ServerHttpObservationFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final QueryBudgetInterceptor queryBudgetInterceptor;
+    private final ObjectProvider<ReplicaStickinessInterceptor> replicaStickinessInterceptor;
+    private final boolean requestMetricsEnabled;
+
+    public WebMvcConfig(final ObjectProvider<MeterRegistry> meterRegistry,
+                        final QueryBudgetInterceptor queryBudgetInterceptor,
+                        final ObjectProvider<ReplicaStickinessInterceptor> replicaStickinessInterceptor,
+                        @Value("${member.request-metrics.enabled:true}") final boolean requestMetricsEnabled) {
+        this.meterRegistry = meterRegistry;
+        this.queryBudgetInterceptor = queryBudgetInterceptor;
+        this.replicaStickinessInterceptor = replicaStickinessInterceptor;
+        this.requestMetricsEnabled = requestMetricsEnabled;
+    }
+
+    @Override
+    public void addInterceptors(final InterceptorRegistry registry) {
+        registry.addInterceptor(queryBudgetInterceptor);
+        replicaStickinessInterceptor.ifAvailable(registry::addInterceptor);
+        if (requestMetricsEnabled) {
+            meterRegistry.ifAvailable(
+                meters -> registry.addInterceptor(new RequestMetricsInterceptor(meters)));
+        }
+    }
+
+    @Override
+    public void extendHandlerExceptionResolvers(final List<HandlerExceptionResolver> resolvers) {
+        resolvers.add(0, (request, response, handler, ex) -> {
+            ServerHttpObservationFilter.findObservationContext(request)
+                .ifPresent(context -> context.setError(ex));
+            request.setAttribute(RequestMetricsInterceptor.EXCEPTION_ATTRIBUTE, ex);
+            return null;
+        });
+    }
+}
@@ -0,0 +1,60 @@
+package kr.co.mz.mzdinterviewassignment.controller;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.util.StringUtils;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class EntityTags {
+    private static final String ANY = "*";
+    private static final Pattern STRONG_VERSION_TAG = Pattern.compile("^\"(\\d{1,18})\"$");
+
+    public static String of(final long version) {
+        return "\"" + version + "\"";
+    }
+
+    public static String of(final long version, final long subVersion) {
+        return "\"" + version + "." + subVersion + "\"";
+    }
+
+    public static String of(final LocalDateTime lastModifiedAt) {
+        if (lastModifiedAt == null) {
+            return of(0, 0);
+        }
+        return of(lastModifiedAt.toEpochSecond(ZoneOffset.UTC), lastModifiedAt.getNano());
+    }
+
+    public static long toEpochMilli(final LocalDateTime lastModifiedAt) {
+        if (lastModifiedAt == null) {
+            return -1;
+        }
+        return lastModifiedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    public static Set<Long> parseIfMatch(final String ifMatch) {
+        if (!StringUtils.hasText(ifMatch)) {
+            return null;
+        }
+
+        Set<Long> versions = new HashSet<>();
+        for (String tag : ifMatch.split(",")) {
+            String value = tag.trim();
+            if (ANY.equals(value)) {
+                return null;
+            }
+
+            Matcher matcher = STRONG_VERSION_TAG.matcher(value);
+            if (matcher.matches()) {
+                versions.add(Long.parseLong(matcher.group(1)));
+            }
+        }
+        return versions;
+    }
+}
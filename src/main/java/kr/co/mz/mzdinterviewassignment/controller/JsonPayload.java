@@ -0,0 +1,25 @@
+package kr.co.mz.mzdinterviewassignment.controller;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class JsonPayload {
+    private final byte[] identity;
+    private final byte[] gzip;
+    private final String entityTag;
+    private final long lastModified;
+
+    public boolean hasGzip() {
+        return gzip != null;
+    }
+
+    public boolean matches(final String entityTag) {
+        return entityTag == null || entityTag.equals(this.entityTag);
+    }
+
+    public int getWeight() {
+        return identity.length + (gzip == null ? 0 : gzip.length);
+    }
+}
@@ -3,14 +3,22 @@ package kr.co.mz.mzdinterviewassignment.controller.advice;
 import jakarta.validation.ConstraintViolationException;
 import kr.co.mz.mzdinterviewassignment.dto.response.error.ErrorResponse;
 import kr.co.mz.mzdinterviewassignment.exception.member.DuplicateLoginIdException;
+import kr.co.mz.mzdinterviewassignment.exception.member.InvalidImportSourceException;
+import kr.co.mz.mzdinterviewassignment.exception.member.InvalidLoginIdException;
+import kr.co.mz.mzdinterviewassignment.exception.member.MemberLockTimeoutException;
+import kr.co.mz.mzdinterviewassignment.exception.member.NotFoundImportJobException;
 import kr.co.mz.mzdinterviewassignment.exception.member.NotFoundMemberException;
 import kr.co.mz.mzdinterviewassignment.exception.profile.CannotDeleteProfileException;
+import kr.co.mz.mzdinterviewassignment.exception.profile.DuplicateMainProfileException;
 import kr.co.mz.mzdinterviewassignment.exception.profile.EmptyProfileException;
 import kr.co.mz.mzdinterviewassignment.exception.profile.NonMatchMemberNoException;
 import kr.co.mz.mzdinterviewassignment.exception.profile.NotFoundProfileException;
+import kr.co.mz.mzdinterviewassignment.exception.profile.ProfileVersionMismatchException;
+import kr.co.mz.mzdinterviewassignment.exception.query.QueryBudgetExceededException;
 import kr.co.mz.mzdinterviewassignment.exception.status.InvalidStatusException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -104,6 +112,85 @@ public class ApiControllerAdvice {
                 .build());
     }
 
+    @ExceptionHandler(NotFoundImportJobException.class)
+    public ResponseEntity<ErrorResponse> handleNotFoundImportJobException(
+        NotFoundImportJobException e) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+            .body(ErrorResponse.builder()
+                .status(HttpStatus.NOT_FOUND.value())
+                .code(HttpStatus.NOT_FOUND.name())
+                .message(e.getMessage())
+                .build());
+    }
+
+    @ExceptionHandler(InvalidImportSourceException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidImportSourceException(
+        InvalidImportSourceException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+            .body(ErrorResponse.builder()
+                .status(HttpStatus.BAD_REQUEST.value())
+                .code(HttpStatus.BAD_REQUEST.name())
+                .message(e.getMessage())
+                .build());
+    }
+
+    @ExceptionHandler(InvalidLoginIdException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidLoginIdException(InvalidLoginIdException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+            .body(ErrorResponse.builder()
+                .status(HttpStatus.BAD_REQUEST.value())
+                .code(HttpStatus.BAD_REQUEST.name())
+                .message(e.getMessage())
+                .build());
+    }
+
+    @ExceptionHandler(MemberLockTimeoutException.class)
+    public ResponseEntity<ErrorResponse> handleMemberLockTimeoutException(
+        MemberLockTimeoutException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+            .body(ErrorResponse.builder()
+                .status(HttpStatus.CONFLICT.value())
+                .code(HttpStatus.CONFLICT.name())
+                .message(e.getMessage())
+                .build());
+    }
+
+    @ExceptionHandler(DuplicateMainProfileException.class)
+    public ResponseEntity<ErrorResponse> handleDuplicateMainProfileException(
+        DuplicateMainProfileException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+            .body(ErrorResponse.builder()
+                .status(HttpStatus.CONFLICT.value())
+                .code(HttpStatus.CONFLICT.name())
+                .message(e.getMessage())
+                .build());
+    }
+
+    @ExceptionHandler(ProfileVersionMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleProfileVersionMismatchException(
+        ProfileVersionMismatchException e) {
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+            .body(ErrorResponse.builder()
+                .status(HttpStatus.PRECONDITION_FAILED.value())
+                .code(HttpStatus.PRECONDITION_FAILED.name())
+                .message(e.getMessage())
+                .build());
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(
+        OptimisticLockingFailureException e) {
+
+        log.warn("Exception message : {}", e.getMessage());
+
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+            .body(ErrorResponse.builder()
+                .status(HttpStatus.CONFLICT.value())
+                .code(HttpStatus.CONFLICT.name())
+                .message("다른 요청에 의해 변경되었습니다. 다시 조회 후 시도해주세요.")
+                .build());
+    }
+
     @ExceptionHandler(EmptyProfileException.class)
     public ResponseEntity<ErrorResponse> handleEmptyProfileException(EmptyProfileException e) {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
@@ -154,4 +241,15 @@ public class ApiControllerAdvice {
                 .message(e.getMessage())
                 .build());
     }
-}
\ No newline at end of file
+
+    @ExceptionHandler(QueryBudgetExceededException.class)
+    public ResponseEntity<ErrorResponse> handleQueryBudgetExceededException(
+        QueryBudgetExceededException e) {
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+            .body(ErrorResponse.builder()
+                .status(HttpStatus.INTERNAL_SERVER_ERROR.value())
+                .code("QUERY_BUDGET_EXCEEDED")
+                .message(e.getMessage())
+                .build());
+    }
+}
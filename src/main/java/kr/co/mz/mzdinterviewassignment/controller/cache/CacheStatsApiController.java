@@ -0,0 +1,68 @@
+package kr.co.mz.mzdinterviewassignment.controller.cache;
+
+import java.util.List;
+import kr.co.mz.mzdinterviewassignment.controller.member.MemberResponseCache;
+import kr.co.mz.mzdinterviewassignment.dto.response.ApiResponse;
+import kr.co.mz.mzdinterviewassignment.dto.response.cache.CacheRegionStatsResponse;
+import kr.co.mz.mzdinterviewassignment.service.MemberDetailsCache;
+import kr.co.mz.mzdinterviewassignment.service.SecondLevelCacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/caches")
+public class CacheStatsApiController {
+
+    private final SecondLevelCacheService secondLevelCacheService;
+    private final MemberDetailsCache memberDetailsCache;
+    private final MemberResponseCache memberResponseCache;
+
+    @GetMapping("/second-level/stats")
+    public ResponseEntity<ApiResponse<List<CacheRegionStatsResponse>>> findSecondLevelStats() {
+        log.debug("2차 캐시 통계 조회 요청");
+
+        ApiResponse<List<CacheRegionStatsResponse>> response =
+            ApiResponse.<List<CacheRegionStatsResponse>>builder()
+                .code(HttpStatus.OK.name())
+                .message("2차 캐시 통계 조회 성공")
+                .data(secondLevelCacheService.findRegionStats())
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/member-details/stats")
+    public ResponseEntity<ApiResponse<CacheRegionStatsResponse>> findMemberDetailsStats() {
+        log.debug("회원 상세 정보 캐시 통계 조회 요청");
+
+        ApiResponse<CacheRegionStatsResponse> response =
+            ApiResponse.<CacheRegionStatsResponse>builder()
+                .code(HttpStatus.OK.name())
+                .message("회원 상세 정보 캐시 통계 조회 성공")
+                .data(memberDetailsCache.getStats())
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/member-responses/stats")
+    public ResponseEntity<ApiResponse<List<CacheRegionStatsResponse>>> findMemberResponseStats() {
+        log.debug("회원 응답 캐시 통계 조회 요청");
+
+        ApiResponse<List<CacheRegionStatsResponse>> response =
+            ApiResponse.<List<CacheRegionStatsResponse>>builder()
+                .code(HttpStatus.OK.name())
+                .message("회원 응답 캐시 통계 조회 성공")
+                .data(memberResponseCache.getStats())
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+}
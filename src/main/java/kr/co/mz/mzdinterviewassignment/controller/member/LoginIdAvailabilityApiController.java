@@ -0,0 +1,40 @@
+package kr.co.mz.mzdinterviewassignment.controller.member;
+
+import kr.co.mz.mzdinterviewassignment.dto.response.ApiResponse;
+import kr.co.mz.mzdinterviewassignment.dto.response.member.LoginIdAvailabilityResponse;
+import kr.co.mz.mzdinterviewassignment.service.LoginIdAvailabilityService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/members/login-ids")
+public class LoginIdAvailabilityApiController {
+
+    private final LoginIdAvailabilityService loginIdAvailabilityService;
+
+    @GetMapping("/{loginId}/availability")
+    public ResponseEntity<ApiResponse<LoginIdAvailabilityResponse>> checkAvailability(
+        @PathVariable("loginId") String loginId) {
+        log.debug("아이디 사용 가능 여부 조회 요청");
+
+        LoginIdAvailabilityResponse data = LoginIdAvailabilityResponse.generateLoginIdAvailability(
+            loginId, loginIdAvailabilityService.isAvailable(loginId));
+
+        ApiResponse<LoginIdAvailabilityResponse> response =
+            ApiResponse.<LoginIdAvailabilityResponse>builder()
+                .code(HttpStatus.OK.name())
+                .message("아이디 사용 가능 여부 조회 성공")
+                .data(data)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+}
@@ -1,16 +1,28 @@
 package kr.co.mz.mzdinterviewassignment.controller.member;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
 import java.net.URI;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Function;
+import kr.co.mz.mzdinterviewassignment.config.QueryBudget;
+import kr.co.mz.mzdinterviewassignment.controller.EntityTags;
+import kr.co.mz.mzdinterviewassignment.controller.JsonPayload;
 import kr.co.mz.mzdinterviewassignment.dto.request.member.CreateMemberRequest;
 import kr.co.mz.mzdinterviewassignment.dto.response.ApiResponse;
+import kr.co.mz.mzdinterviewassignment.dto.response.member.MemberCursorResponse;
 import kr.co.mz.mzdinterviewassignment.dto.response.member.MemberDetailsResponse;
+import kr.co.mz.mzdinterviewassignment.dto.response.member.MemberDetailsVersion;
 import kr.co.mz.mzdinterviewassignment.dto.response.member.MemberInfoResponse;
 import kr.co.mz.mzdinterviewassignment.dto.response.member.MemberResponse;
+import kr.co.mz.mzdinterviewassignment.dto.response.member.MemberSliceResponse;
 import kr.co.mz.mzdinterviewassignment.facade.MemberProfileFacade;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -21,6 +33,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 @Slf4j
@@ -30,6 +43,8 @@ import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 public class MemberApiController {
 
     private final MemberProfileFacade memberProfileFacade;
+    private final MemberResponseCache memberResponseCache;
+    private final Function<Long, JsonPayload> memberDetailsLoader = this::loadMemberDetails;
 
     @PostMapping
     public ResponseEntity<ApiResponse<MemberResponse>> createMember(
@@ -48,7 +63,9 @@ public class MemberApiController {
             .data(data)
             .build();
 
-        return ResponseEntity.created(location).body(response);
+        return ResponseEntity.created(location)
+            .eTag(EntityTags.of(data.getVersion()))
+            .body(response);
     }
 
     @DeleteMapping("/{memberNo}")
@@ -67,33 +84,94 @@ public class MemberApiController {
         return ResponseEntity.ok(response);
     }
 
+    @QueryBudget(5)
     @GetMapping("/{memberNo}")
-    public ResponseEntity<ApiResponse<MemberDetailsResponse>> findMember(
-        @PathVariable("memberNo") Long memberNo) {
+    public void findMember(@PathVariable("memberNo") Long memberNo,
+                           WebRequest webRequest,
+                           HttpServletRequest request,
+                           HttpServletResponse response) throws IOException {
         log.info("회원 상세 조회 요청");
 
-        MemberDetailsResponse data = memberProfileFacade.findMemberDetails(memberNo);
+        if (!isConditional(request)) {
+            memberResponseCache.writeDetails(memberNo, null, memberDetailsLoader, request, response);
+            return;
+        }
 
-        ApiResponse<MemberDetailsResponse> response = ApiResponse.<MemberDetailsResponse>builder()
+        MemberDetailsVersion version = memberProfileFacade.findMemberDetailsVersion(memberNo);
+        String entityTag = EntityTags.of(version.getMemberVersion(), version.getProfileVersionSum());
+        if (checkNotModified(webRequest, response, entityTag, version.getLastModifiedAt())) {
+            return;
+        }
+
+        memberResponseCache.writeDetails(memberNo, entityTag,
+            key -> serializeMemberDetails(memberProfileFacade.findMemberDetails(key, version)),
+            request, response);
+    }
+
+    @QueryBudget(8)
+    @GetMapping(params = "page")
+    public void findMembers(
+        @RequestParam(name = "page", required = false, defaultValue = "0") int page,
+        @RequestParam(name = "size", required = false, defaultValue = "10") int size,
+        @RequestParam(name = "name", required = false, defaultValue = "") String name,
+        WebRequest webRequest,
+        HttpServletRequest request,
+        HttpServletResponse response
+    ) throws IOException {
+        log.info("회원 전체 조회 요청");
+
+        String key = page + ":" + size + ":" + name;
+        if (!isConditional(request)) {
+            memberResponseCache.writeSlice(key, null, sliceKey -> loadMembers(page, size, name,
+                memberProfileFacade.findMembersLastModifiedAt()), request, response);
+            return;
+        }
+
+        LocalDateTime lastModifiedAt = memberProfileFacade.findMembersLastModifiedAt();
+        String entityTag = EntityTags.of(lastModifiedAt);
+        if (checkNotModified(webRequest, response, entityTag, lastModifiedAt)) {
+            return;
+        }
+
+        memberResponseCache.writeSlice(key, entityTag,
+            sliceKey -> loadMembers(page, size, name, lastModifiedAt), request, response);
+    }
+
+    @QueryBudget(8)
+    @GetMapping("/search")
+    public void findMemberSlice(
+        @RequestParam(name = "page", required = false, defaultValue = "0") int page,
+        @RequestParam(name = "size", required = false, defaultValue = "10") int size,
+        @RequestParam(name = "name", required = false, defaultValue = "") String name,
+        @RequestParam(name = "includeTotal", required = false, defaultValue = "false") boolean includeTotal,
+        HttpServletRequest request,
+        HttpServletResponse response
+    ) throws IOException {
+        log.info("회원 검색 요청");
+
+        MemberSliceResponse data = memberProfileFacade.findMemberSlice(page, size, name,
+            includeTotal);
+
+        ApiResponse<MemberSliceResponse> body = ApiResponse.<MemberSliceResponse>builder()
             .code(HttpStatus.OK.name())
-            .message("회원 상세 조회 성공")
+            .message("회원 검색 성공")
             .data(data)
             .build();
 
-        return ResponseEntity.ok(response);
+        memberResponseCache.writeUncached(body, request, response);
     }
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<MemberInfoResponse>>> findMembers(
-        @RequestParam(name = "page", required = false, defaultValue = "0") int page,
+    public ResponseEntity<ApiResponse<MemberCursorResponse>> findMembersAfter(
+        @RequestParam(name = "after", required = false) Long after,
         @RequestParam(name = "size", required = false, defaultValue = "10") int size,
         @RequestParam(name = "name", required = false, defaultValue = "") String name
     ) {
-        log.info("회원 전체 조회 요청");
+        log.info("회원 커서 기반 전체 조회 요청");
 
-        List<MemberInfoResponse> data = memberProfileFacade.findMembers(page, size, name);
+        MemberCursorResponse data = memberProfileFacade.findMembersAfter(after, size, name);
 
-        ApiResponse<List<MemberInfoResponse>> response = ApiResponse.<List<MemberInfoResponse>>builder()
+        ApiResponse<MemberCursorResponse> response = ApiResponse.<MemberCursorResponse>builder()
             .code(HttpStatus.OK.name())
             .message("회원 전체 조회 성공")
             .data(data)
@@ -101,4 +179,56 @@ public class MemberApiController {
 
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    private JsonPayload loadMemberDetails(final Long memberNo) {
+        return serializeMemberDetails(memberProfileFacade.findMemberDetails(memberNo));
+    }
+
+    private JsonPayload serializeMemberDetails(final MemberDetailsResponse data) {
+        ApiResponse<MemberDetailsResponse> response = ApiResponse.<MemberDetailsResponse>builder()
+            .code(HttpStatus.OK.name())
+            .message("회원 상세 조회 성공")
+            .data(data)
+            .build();
+
+        MemberDetailsVersion version = MemberDetailsVersion.generateMemberDetailsVersion(data);
+        return memberResponseCache.serialize(response,
+            EntityTags.of(version.getMemberVersion(), version.getProfileVersionSum()),
+            EntityTags.toEpochMilli(version.getLastModifiedAt()));
+    }
+
+    private MemberSlicePayload loadMembers(final int page, final int size, final String name,
+                                           final LocalDateTime lastModifiedAt) {
+        List<MemberInfoResponse> data = memberProfileFacade.findMembers(page, size, name);
+
+        ApiResponse<List<MemberInfoResponse>> response =
+            ApiResponse.<List<MemberInfoResponse>>builder()
+            .code(HttpStatus.OK.name())
+            .message("회원 전체 조회 성공")
+            .data(data)
+            .build();
+
+        return memberResponseCache.serializeSlice(response, EntityTags.of(lastModifiedAt),
+            EntityTags.toEpochMilli(lastModifiedAt), data.stream()
+                .map(MemberInfoResponse::getMemberNo)
+                .toList(), size);
+    }
+
+    private boolean checkNotModified(final WebRequest webRequest,
+                                     final HttpServletResponse response,
+                                     final String entityTag,
+                                     final LocalDateTime lastModifiedAt) {
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (!webRequest.checkNotModified(entityTag, EntityTags.toEpochMilli(lastModifiedAt))) {
+            return false;
+        }
+
+        log.info("변경되지 않은 회원 응답 - ETag : {}", entityTag);
+        return true;
+    }
+
+    private static boolean isConditional(final HttpServletRequest request) {
+        return request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+            || request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+    }
+}
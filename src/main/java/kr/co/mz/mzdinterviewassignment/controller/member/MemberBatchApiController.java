@@ -0,0 +1,40 @@
+package kr.co.mz.mzdinterviewassignment.controller.member;
+
+import jakarta.validation.Valid;
+import kr.co.mz.mzdinterviewassignment.dto.request.member.CreateMembersRequest;
+import kr.co.mz.mzdinterviewassignment.dto.response.ApiResponse;
+import kr.co.mz.mzdinterviewassignment.dto.response.member.CreateMembersResponse;
+import kr.co.mz.mzdinterviewassignment.facade.MemberProfileFacade;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api")
+public class MemberBatchApiController {
+
+    private final MemberProfileFacade memberProfileFacade;
+
+    @PostMapping("/members:batch")
+    public ResponseEntity<ApiResponse<CreateMembersResponse>> createMembers(
+        @Valid @RequestBody CreateMembersRequest dto) {
+        log.info("회원 일괄 생성 요청");
+
+        CreateMembersResponse data = memberProfileFacade.createMembers(dto);
+
+        ApiResponse<CreateMembersResponse> response = ApiResponse.<CreateMembersResponse>builder()
+            .code(HttpStatus.OK.name())
+            .message("회원 일괄 생성 처리 완료")
+            .data(data)
+            .build();
+
+        return ResponseEntity.ok(response);
+    }
+}
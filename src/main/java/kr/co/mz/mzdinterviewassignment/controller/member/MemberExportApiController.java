@@ -0,0 +1,42 @@
+package kr.co.mz.mzdinterviewassignment.controller.member;
+
+import kr.co.mz.mzdinterviewassignment.dto.request.member.MemberExportFormat;
+import kr.co.mz.mzdinterviewassignment.service.MemberExportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/members/export")
+public class MemberExportApiController {
+
+    private final MemberExportService memberExportService;
+
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> exportMembers(
+        @RequestParam(name = "format", required = false, defaultValue = "ndjson") String format) {
+        log.info("회원 내보내기 요청");
+
+        MemberExportFormat exportFormat = MemberExportFormat.from(format);
+        StreamingResponseBody body =
+            outputStream -> memberExportService.export(exportFormat, outputStream);
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("members." + exportFormat.getExtension())
+                .build()
+                .toString())
+            .body(body);
+    }
+}
@@ -0,0 +1,82 @@
+package kr.co.mz.mzdinterviewassignment.controller.member;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import kr.co.mz.mzdinterviewassignment.dto.response.ApiResponse;
+import kr.co.mz.mzdinterviewassignment.dto.response.member.MemberImportStatusResponse;
+import kr.co.mz.mzdinterviewassignment.job.MemberImportJob;
+import kr.co.mz.mzdinterviewassignment.job.MemberImportJobManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/members/imports")
+public class MemberImportApiController {
+
+    private final MemberImportJobManager memberImportJobManager;
+
+    @PostMapping(consumes = "application/x-ndjson")
+    public CompletableFuture<ResponseEntity<ApiResponse<MemberImportStatusResponse>>> importUpload(
+        InputStream inputStream) {
+        log.info("회원 가져오기 파일 업로드 요청");
+
+        UriComponentsBuilder location = ServletUriComponentsBuilder.fromCurrentRequestUri();
+        return memberImportJobManager.submitUpload(inputStream)
+            .thenApply(job -> accepted(location, job));
+    }
+
+    @PostMapping(params = "path")
+    public ResponseEntity<ApiResponse<MemberImportStatusResponse>> importFile(
+        @RequestParam(name = "path") String path) {
+        log.info("회원 가져오기 로컬 파일 요청");
+
+        MemberImportJob job = memberImportJobManager.submitFile(path);
+        return accepted(ServletUriComponentsBuilder.fromCurrentRequestUri(), job);
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ApiResponse<MemberImportStatusResponse>> findImportStatus(
+        @PathVariable("jobId") Long jobId) {
+        log.info("회원 가져오기 작업 상태 조회 요청");
+
+        MemberImportStatusResponse data =
+            MemberImportStatusResponse.generateImportStatus(memberImportJobManager.findJob(jobId));
+
+        ApiResponse<MemberImportStatusResponse> response = ApiResponse.<MemberImportStatusResponse>builder()
+            .code(HttpStatus.OK.name())
+            .message("회원 가져오기 작업 상태 조회 성공")
+            .data(data)
+            .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    private ResponseEntity<ApiResponse<MemberImportStatusResponse>> accepted(
+        final UriComponentsBuilder requestUri, final MemberImportJob job) {
+        URI location = requestUri
+            .path("/{jobId}")
+            .buildAndExpand(job.getJobId())
+            .toUri();
+
+        ApiResponse<MemberImportStatusResponse> response = ApiResponse.<MemberImportStatusResponse>builder()
+            .code(HttpStatus.ACCEPTED.name())
+            .message("회원 가져오기 작업 등록 성공")
+            .data(MemberImportStatusResponse.generateImportStatus(job))
+            .build();
+
+        return ResponseEntity.accepted().location(location).body(response);
+    }
+}
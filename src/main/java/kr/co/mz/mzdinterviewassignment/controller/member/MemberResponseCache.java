@@ -0,0 +1,219 @@
+package kr.co.mz.mzdinterviewassignment.controller.member;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+import kr.co.mz.mzdinterviewassignment.controller.JsonPayload;
+import kr.co.mz.mzdinterviewassignment.dto.response.cache.CacheRegionStatsResponse;
+import kr.co.mz.mzdinterviewassignment.facade.MemberLockMode;
+import kr.co.mz.mzdinterviewassignment.service.MemberChangedEvent;
+import kr.co.mz.mzdinterviewassignment.service.MemberCreatedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+public class MemberResponseCache {
+    public static final String DETAILS_REGION_NAME = "member-details-json";
+    public static final String SLICES_REGION_NAME = "member-slice-json";
+    private static final String GZIP = "gzip";
+
+    private final ObjectMapper objectMapper;
+    private final int gzipMinBytes;
+    private final Cache<Long, JsonPayload> details;
+    private final Cache<String, MemberSlicePayload> slices;
+    private final boolean enabled;
+
+    public MemberResponseCache(final ObjectMapper objectMapper,
+                               @Value("${member.lock.mode:LOCAL}") final MemberLockMode lockMode,
+                               @Value("${member.response-cache.max-bytes:67108864}") final long maxBytes,
+                               @Value("${member.response-cache.ttl-seconds:300}") final long ttlSeconds,
+                               @Value("${member.response-cache.gzip-min-bytes:1024}") final int gzipMinBytes) {
+        this.objectMapper = objectMapper;
+        this.gzipMinBytes = gzipMinBytes;
+        this.enabled = lockMode != MemberLockMode.ADVISORY;
+        if (!enabled) {
+            log.info("여러 노드가 함께 쓰는 {} 잠금 모드에서는 노드별 회원 응답 캐시를 사용하지 않음", lockMode);
+        }
+        this.details = Caffeine.newBuilder()
+            .maximumWeight(maxBytes / 2)
+            .weigher((Long memberNo, JsonPayload payload) -> payload.getWeight())
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .recordStats()
+            .build();
+        this.slices = Caffeine.newBuilder()
+            .maximumWeight(maxBytes / 2)
+            .weigher((String key, MemberSlicePayload slice) -> slice.getWeight())
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .recordStats()
+            .build();
+    }
+
+    public void writeDetails(final Long memberNo, final String entityTag,
+                             final Function<Long, JsonPayload> loader,
+                             final HttpServletRequest request,
+                             final HttpServletResponse response) throws IOException {
+        write(enabled ? find(details, memberNo, entityTag, loader) : loader.apply(memberNo),
+            request, response);
+    }
+
+    void writeSlice(final String key, final String entityTag,
+                    final Function<String, MemberSlicePayload> loader,
+                    final HttpServletRequest request,
+                    final HttpServletResponse response) throws IOException {
+        if (!enabled) {
+            write(loader.apply(key).getPayload(), request, response);
+            return;
+        }
+
+        MemberSlicePayload slice = slices.getIfPresent(key);
+        if (slice == null || !slice.getPayload().matches(entityTag)) {
+            slice = slices.asMap().compute(key, (k, cached) ->
+                cached != null && cached.getPayload().matches(entityTag) ? cached : loader.apply(k));
+        }
+        write(slice.getPayload(), request, response);
+    }
+
+    public void writeUncached(final Object body, final HttpServletRequest request,
+                              final HttpServletResponse response) throws IOException {
+        write(serialize(body, null, -1), request, response);
+    }
+
+    public JsonPayload serialize(final Object body, final String entityTag,
+                                 final long lastModified) {
+        try {
+            byte[] identity = objectMapper.writeValueAsBytes(body);
+            return new JsonPayload(identity, identity.length >= gzipMinBytes ? gzip(identity) : null,
+                entityTag, lastModified);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("응답 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    MemberSlicePayload serializeSlice(final Object body, final String entityTag,
+                                      final long lastModified, final List<Long> memberNos,
+                                      final int size) {
+        return new MemberSlicePayload(serialize(body, entityTag, lastModified),
+            memberNos.isEmpty() ? null : memberNos.get(memberNos.size() - 1),
+            !memberNos.isEmpty() && memberNos.size() >= size);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void evict(final MemberChangedEvent event) {
+        Long memberNo = event.getMemberNo();
+        details.invalidate(memberNo);
+        slices.asMap().values().removeIf(slice -> slice.isAffectedBy(memberNo));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void evict(final MemberCreatedEvent event) {
+        if (event.getMemberNos().isEmpty()) {
+            return;
+        }
+        Long memberNo = Collections.min(event.getMemberNos());
+        slices.asMap().values().removeIf(slice -> slice.isAffectedBy(memberNo));
+    }
+
+    public List<CacheRegionStatsResponse> getStats() {
+        return List.of(
+            CacheRegionStatsResponse.generateCacheRegionStats(DETAILS_REGION_NAME,
+                details.estimatedSize(), details.stats()),
+            CacheRegionStatsResponse.generateCacheRegionStats(SLICES_REGION_NAME,
+                slices.estimatedSize(), slices.stats()));
+    }
+
+    static boolean acceptsGzip(final String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        double gzipQuality = -1;
+        double anyQuality = -1;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parameters = coding.split(";");
+            String name = parameters[0].trim();
+            if (name.equalsIgnoreCase(GZIP)) {
+                gzipQuality = quality(parameters);
+            } else if (name.equals("*")) {
+                anyQuality = quality(parameters);
+            }
+        }
+        return gzipQuality >= 0 ? gzipQuality > 0 : anyQuality > 0;
+    }
+
+    private static double quality(final String[] parameters) {
+        for (int i = 1; i < parameters.length; i++) {
+            String parameter = parameters[i].trim();
+            if (parameter.length() > 2 && parameter.regionMatches(true, 0, "q=", 0, 2)) {
+                try {
+                    return Double.parseDouble(parameter.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private static <K> JsonPayload find(final Cache<K, JsonPayload> cache, final K key,
+                                        final String entityTag,
+                                        final Function<K, JsonPayload> loader) {
+        JsonPayload payload = cache.getIfPresent(key);
+        if (payload != null && payload.matches(entityTag)) {
+            return payload;
+        }
+        if (entityTag == null) {
+            return cache.asMap().computeIfAbsent(key, loader);
+        }
+        return cache.asMap().compute(key, (k, cached) ->
+            cached != null && cached.matches(entityTag) ? cached : loader.apply(k));
+    }
+
+    private void write(final JsonPayload payload, final HttpServletRequest request,
+                       final HttpServletResponse response) throws IOException {
+        boolean gzip = payload.hasGzip()
+            && acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        byte[] body = gzip ? payload.getGzip() : payload.getIdentity();
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (payload.getEntityTag() != null) {
+            response.setHeader(HttpHeaders.ETAG, payload.getEntityTag());
+        }
+        if (payload.getLastModified() >= 0) {
+            response.setDateHeader(HttpHeaders.LAST_MODIFIED, payload.getLastModified());
+        }
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private byte[] gzip(final byte[] identity) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(identity.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(identity);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,21 @@
+package kr.co.mz.mzdinterviewassignment.controller.member;
+
+import kr.co.mz.mzdinterviewassignment.controller.JsonPayload;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+class MemberSlicePayload {
+    private final JsonPayload payload;
+    private final Long lastMemberNo;
+    private final boolean full;
+
+    boolean isAffectedBy(final Long memberNo) {
+        return !full || lastMemberNo >= memberNo;
+    }
+
+    int getWeight() {
+        return payload.getWeight();
+    }
+}
@@ -2,6 +2,7 @@ package kr.co.mz.mzdinterviewassignment.controller.profile;
 
 import jakarta.validation.Valid;
 import java.net.URI;
+import kr.co.mz.mzdinterviewassignment.controller.EntityTags;
 import kr.co.mz.mzdinterviewassignment.dto.request.profile.CreateProfileRequest;
 import kr.co.mz.mzdinterviewassignment.dto.request.profile.UpdateProfileRequest;
 import kr.co.mz.mzdinterviewassignment.dto.response.ApiResponse;
@@ -9,6 +10,7 @@ import kr.co.mz.mzdinterviewassignment.dto.response.profile.ProfileResponse;
 import kr.co.mz.mzdinterviewassignment.facade.MemberProfileFacade;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -16,6 +18,7 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
@@ -48,18 +51,22 @@ public class ProfileApiController {
             .data(data)
             .build();
 
-        return ResponseEntity.created(location).body(response);
+        return ResponseEntity.created(location)
+            .eTag(EntityTags.of(data.getVersion()))
+            .body(response);
     }
 
     @PatchMapping("/{profileNo}")
     public ResponseEntity<ApiResponse<ProfileResponse>> updateProfile(
         @PathVariable("memberNo") Long memberNo,
         @PathVariable("profileNo") Long profileNo,
+        @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
         @Valid @RequestBody
         UpdateProfileRequest dto) {
         log.info("회원 프로필 수정 요청");
 
-        ProfileResponse data = memberProfileFacade.updateProfile(dto, profileNo, memberNo);
+        ProfileResponse data = memberProfileFacade.updateProfile(dto, profileNo, memberNo,
+            EntityTags.parseIfMatch(ifMatch));
 
         ApiResponse<ProfileResponse> response = ApiResponse.<ProfileResponse>builder()
             .code(HttpStatus.OK.name())
@@ -67,7 +74,9 @@ public class ProfileApiController {
             .data(data)
             .build();
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+            .eTag(EntityTags.of(data.getVersion()))
+            .body(response);
     }
 
     @DeleteMapping("/{profileNo}")
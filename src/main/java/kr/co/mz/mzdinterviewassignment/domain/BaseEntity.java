@@ -13,6 +13,7 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @EntityListeners(value = {AuditingEntityListener.class})
 @Getter
 public abstract class BaseEntity {
+    public static final int ID_ALLOCATION_SIZE = 50;
 
     @CreatedDate
     @Column(name = "created_at", updatable = false, nullable = false)
@@ -0,0 +1,29 @@
+package kr.co.mz.mzdinterviewassignment.domain.member;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "LOGIN_ID_REGISTRY")
+public class LoginIdRegistry {
+
+    @Id
+    @Column(name = "login_id")
+    @Comment("가입한 적 있는 모든 아이디, 탈퇴하거나 보관 테이블로 옮겨도 지우지 않음")
+    private String loginId;
+
+    @Column(name = "member_no", nullable = false)
+    private Long memberNo;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
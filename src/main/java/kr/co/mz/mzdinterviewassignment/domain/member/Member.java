@@ -7,25 +7,37 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotNull;
+import java.util.Objects;
 import kr.co.mz.mzdinterviewassignment.domain.BaseEntity;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.Comment;
 import org.hibernate.annotations.SQLRestriction;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@SQLRestriction("member_status != 'DELETED'")
-@Table(name = "MEMBER_TBL")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@SQLRestriction("member_status = 'ACTIVE'")
+@Table(name = "MEMBER_TBL", indexes = {
+    @Index(name = "idx_member_status_member_no", columnList = "member_status, member_no"),
+    @Index(name = "idx_member_updated_at", columnList = "updated_at")})
 public class Member extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "member_seq_generator")
+    @SequenceGenerator(name = "member_seq_generator", sequenceName = "MEMBER_SEQ",
+        allocationSize = ID_ALLOCATION_SIZE)
     private Long memberNo;
 
     @NotNull(message = "로그인 아이디는 필수입니다")
@@ -43,6 +55,18 @@ public class Member extends BaseEntity {
     @Comment("ACTIVE: 계정 활성, DELETED: 계정 탈퇴")
     private MemberStatus memberStatus;
 
+    @Comment("메인 프로필 식별 번호")
+    private Long mainProfileNo;
+
+    @ColumnDefault("0")
+    @Comment("회원의 프로필 개수")
+    private int profileCount;
+
+    @Version
+    @ColumnDefault("0")
+    @Comment("낙관적 잠금 버전")
+    private long version;
+
     @Builder
     public Member(final String loginId, final String name, final String password) {
         this.loginId = loginId;
@@ -55,4 +79,41 @@ public class Member extends BaseEntity {
         this.memberStatus = MemberStatus.DELETED;
         return this.loginId;
     }
+
+    public boolean isActive() {
+        return this.memberStatus == MemberStatus.ACTIVE;
+    }
+
+    public void increaseProfileCount() {
+        this.profileCount++;
+    }
+
+    public void decreaseProfileCount() {
+        this.profileCount--;
+    }
+
+    public boolean hasMainProfile() {
+        return this.mainProfileNo != null;
+    }
+
+    public boolean isMainProfile(final Long profileNo) {
+        return Objects.equals(this.mainProfileNo, profileNo);
+    }
+
+    public void changeMainProfile(final Long profileNo) {
+        this.mainProfileNo = profileNo;
+    }
+
+    public void clearMainProfile() {
+        this.mainProfileNo = null;
+    }
+
+    public boolean hasProfileSummary(final Long mainProfileNo, final int profileCount) {
+        return Objects.equals(this.mainProfileNo, mainProfileNo) && this.profileCount == profileCount;
+    }
+
+    public void syncProfileSummary(final Long mainProfileNo, final int profileCount) {
+        this.mainProfileNo = mainProfileNo;
+        this.profileCount = profileCount;
+    }
 }
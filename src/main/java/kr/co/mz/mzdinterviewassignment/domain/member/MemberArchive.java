@@ -0,0 +1,56 @@
+package kr.co.mz.mzdinterviewassignment.domain.member;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "MEMBER_ARCHIVE", indexes = @Index(name = "idx_member_archive_updated_at",
+    columnList = "updated_at"))
+public class MemberArchive {
+
+    @Id
+    @Column(name = "member_no")
+    private Long memberNo;
+
+    @Column(unique = true, nullable = false)
+    private String loginId;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(nullable = false)
+    private String password;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private MemberStatus memberStatus;
+
+    private Long mainProfileNo;
+
+    private int profileCount;
+
+    private long version;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    @Comment("탈퇴 처리 시각")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    @Comment("보관 테이블로 옮긴 시각")
+    private LocalDateTime archivedAt;
+}
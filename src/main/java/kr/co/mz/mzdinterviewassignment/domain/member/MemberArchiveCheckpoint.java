@@ -0,0 +1,45 @@
+package kr.co.mz.mzdinterviewassignment.domain.member;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "MEMBER_ARCHIVE_CHECKPOINT")
+public class MemberArchiveCheckpoint {
+    private static final long FIRST_CURSOR = 0L;
+
+    @Id
+    @Column(length = 50)
+    private String jobName;
+
+    @Column(nullable = false)
+    @Comment("마지막으로 보관한 회원 식별 번호, 한 바퀴를 마치면 처음으로 되돌림")
+    private Long lastMemberNo;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public MemberArchiveCheckpoint(final String jobName) {
+        this.jobName = jobName;
+        this.lastMemberNo = FIRST_CURSOR;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void moveTo(final Long lastMemberNo) {
+        this.lastMemberNo = lastMemberNo;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void reset() {
+        moveTo(FIRST_CURSOR);
+    }
+}
@@ -0,0 +1,90 @@
+package kr.co.mz.mzdinterviewassignment.domain.member;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+import org.springframework.data.domain.Persistable;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@IdClass(MemberNameGramId.class)
+@Table(name = "MEMBER_NAME_GRAM", indexes = @Index(name = "idx_member_name_gram_member_no",
+    columnList = "member_no"))
+public class MemberNameGram implements Persistable<MemberNameGramId> {
+    private static final int GRAM_SIZE = 2;
+
+    @Id
+    @Column(length = GRAM_SIZE)
+    @Comment("회원 이름의 한 글자 또는 두 글자 조각")
+    private String gram;
+
+    @Id
+    @Column(name = "member_no")
+    private Long memberNo;
+
+    @Transient
+    private boolean isNew = true;
+
+    public MemberNameGram(final String gram, final Long memberNo) {
+        this.gram = gram;
+        this.memberNo = memberNo;
+    }
+
+    @Override
+    public MemberNameGramId getId() {
+        return new MemberNameGramId(gram, memberNo);
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    public static List<MemberNameGram> generateGrams(final Member member) {
+        Set<String> grams = new LinkedHashSet<>();
+        String name = member.getName();
+
+        for (int i = 0; i < name.length(); i++) {
+            grams.add(name.substring(i, i + 1));
+        }
+        grams.addAll(extractGrams(name));
+
+        return grams.stream()
+            .map(gram -> new MemberNameGram(gram, member.getMemberNo()))
+            .toList();
+    }
+
+    public static Set<String> extractGrams(final String keyword) {
+        Set<String> grams = new LinkedHashSet<>();
+
+        if (keyword.length() < GRAM_SIZE) {
+            grams.add(keyword);
+            return grams;
+        }
+
+        for (int i = 0; i + GRAM_SIZE <= keyword.length(); i++) {
+            grams.add(keyword.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,15 @@
+package kr.co.mz.mzdinterviewassignment.domain.member;
+
+import java.io.Serializable;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class MemberNameGramId implements Serializable {
+    private String gram;
+    private Long memberNo;
+}
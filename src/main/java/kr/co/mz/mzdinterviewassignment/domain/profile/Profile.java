@@ -1,5 +1,6 @@
 package kr.co.mz.mzdinterviewassignment.domain.profile;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
@@ -7,9 +8,12 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotNull;
 import kr.co.mz.mzdinterviewassignment.domain.BaseEntity;
 import kr.co.mz.mzdinterviewassignment.domain.member.Member;
@@ -17,16 +21,24 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.Comment;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "PROFILE_TBL")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(name = "PROFILE_TBL", indexes = {
+    @Index(name = "idx_profile_member_status", columnList = "member_no, profile_status"),
+    @Index(name = "idx_profile_updated_at", columnList = "updated_at")})
 public class Profile extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "profile_seq_generator")
+    @SequenceGenerator(name = "profile_seq_generator", sequenceName = "PROFILE_SEQ",
+        allocationSize = ID_ALLOCATION_SIZE)
     private Long profileNo;
 
     @NotNull(message = "별명은 필수입니다")
@@ -42,6 +54,15 @@ public class Profile extends BaseEntity {
     @Comment("MAIN: 메인 프로필, NORMAL: 일반 프로필")
     private ProfileStatus profileStatus;
 
+    @Getter(AccessLevel.NONE)
+    @Column(name = "main_member_no", insertable = false, updatable = false)
+    private Long mainMemberNo;
+
+    @Version
+    @ColumnDefault("0")
+    @Comment("낙관적 잠금 버전")
+    private long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "member_no")
     private Member member;
@@ -64,8 +85,4 @@ public class Profile extends BaseEntity {
         this.profileStatus = profileStatus;
         return this;
     }
-
-    public void updateProfileStatus(final ProfileStatus profileStatus) {
-        this.profileStatus = profileStatus;
-    }
 }
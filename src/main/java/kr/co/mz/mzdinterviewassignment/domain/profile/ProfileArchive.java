@@ -0,0 +1,55 @@
+package kr.co.mz.mzdinterviewassignment.domain.profile;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "PROFILE_ARCHIVE", indexes = {
+    @Index(name = "idx_profile_archive_member_no", columnList = "member_no"),
+    @Index(name = "idx_profile_archive_updated_at", columnList = "updated_at")})
+public class ProfileArchive {
+
+    @Id
+    @Column(name = "profile_no")
+    private Long profileNo;
+
+    @Column(nullable = false)
+    private String nickname;
+
+    @Column(nullable = false)
+    private String phoneNumber;
+
+    private String address;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private ProfileStatus profileStatus;
+
+    private long version;
+
+    @Column(name = "member_no", nullable = false)
+    @Comment("보관된 회원 식별 번호")
+    private Long memberNo;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    @Comment("보관 테이블로 옮긴 시각")
+    private LocalDateTime archivedAt;
+}
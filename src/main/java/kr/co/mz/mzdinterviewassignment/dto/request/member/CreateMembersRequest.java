@@ -0,0 +1,26 @@
+package kr.co.mz.mzdinterviewassignment.dto.request.member;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class CreateMembersRequest {
+    public static final int MAX_MEMBERS_SIZE = 1000;
+
+    @NotEmpty(message = "생성할 회원 목록은 필수입니다")
+    @Size(max = MAX_MEMBERS_SIZE, message = "한 번에 생성할 수 있는 회원은 최대 1000명입니다.")
+    private List<CreateMemberRequest> members;
+
+    private MemberBatchMode mode;
+
+    public MemberBatchMode getMode() {
+        return mode == null ? MemberBatchMode.PARTIAL : mode;
+    }
+}
@@ -0,0 +1,6 @@
+package kr.co.mz.mzdinterviewassignment.dto.request.member;
+
+public enum MemberBatchMode {
+    ALL_OR_NOTHING,
+    PARTIAL
+}
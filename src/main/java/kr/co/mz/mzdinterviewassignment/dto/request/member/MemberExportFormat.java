@@ -0,0 +1,28 @@
+package kr.co.mz.mzdinterviewassignment.dto.request.member;
+
+import kr.co.mz.mzdinterviewassignment.exception.status.InvalidStatusException;
+import kr.co.mz.mzdinterviewassignment.exception.status.StatusExceptionCode;
+import lombok.Getter;
+
+@Getter
+public enum MemberExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    MemberExportFormat(final String contentType, final String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public static MemberExportFormat from(String format) {
+        for (MemberExportFormat exportFormat : MemberExportFormat.values()) {
+            if (exportFormat.name().equalsIgnoreCase(format)) {
+                return exportFormat;
+            }
+        }
+        throw new InvalidStatusException(StatusExceptionCode.INVALID_EXPORT_FORMAT, format);
+    }
+}
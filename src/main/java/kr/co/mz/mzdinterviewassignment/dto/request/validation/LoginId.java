@@ -0,0 +1,21 @@
+package kr.co.mz.mzdinterviewassignment.dto.request.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target({ElementType.FIELD, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+@Constraint(validatedBy = LoginIdValidator.class)
+public @interface LoginId {
+    String MESSAGE = "아이디는 영문 소문자와 숫자로 구성된 4 ~ 12자리로 입력해주세요.";
+
+    String message() default MESSAGE;
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,19 @@
+package kr.co.mz.mzdinterviewassignment.dto.request.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target({ElementType.FIELD, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+@Constraint(validatedBy = MemberNameValidator.class)
+public @interface MemberName {
+    String message() default "이름은 한글로 구성된 2 ~ 8자리로 입력해주세요.";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,12 @@
+package kr.co.mz.mzdinterviewassignment.dto.request.validation;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class MemberNameValidator implements ConstraintValidator<MemberName, CharSequence> {
+
+    @Override
+    public boolean isValid(final CharSequence value, final ConstraintValidatorContext context) {
+        return value == null || RequestFormats.isMemberName(value);
+    }
+}
@@ -0,0 +1,107 @@
+package kr.co.mz.mzdinterviewassignment.dto.request.validation;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RequestFormats {
+
+    public static boolean isLoginId(final CharSequence value) {
+        int length = value.length();
+        if (length < 4 || length > 20) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (!isLowerCase(c) && !isDigit(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static boolean isMemberName(final CharSequence value) {
+        int length = value.length();
+        if (length < 2 || length > 8) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (!isHangul(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static boolean isPassword(final CharSequence value) {
+        int length = value.length();
+        if (length < 8 || length > 16) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (!isLowerCase(c) && !isUpperCase(c) && !isDigit(c) && !isPasswordSymbol(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static boolean isNickname(final CharSequence value) {
+        int length = value.length();
+        if (length < 2 || length > 8) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (!isHangul(c) && !isLowerCase(c) && !isUpperCase(c) && !isDigit(c)
+                && c != '-' && c != '_') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static boolean isPhoneNumber(final CharSequence value) {
+        int length = value.length();
+        if (length != 10 && length != 11) {
+            return false;
+        }
+        if (value.charAt(0) != '0' || value.charAt(1) != '1') {
+            return false;
+        }
+        char carrier = value.charAt(2);
+        if (carrier != '0' && carrier != '1' && (carrier < '6' || carrier > '9')) {
+            return false;
+        }
+        for (int i = 3; i < length; i++) {
+            if (!isDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLowerCase(final char c) {
+        return c >= 'a' && c <= 'z';
+    }
+
+    private static boolean isUpperCase(final char c) {
+        return c >= 'A' && c <= 'Z';
+    }
+
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isHangul(final char c) {
+        return c >= '가' && c <= '힣';
+    }
+
+    private static boolean isPasswordSymbol(final char c) {
+        return switch (c) {
+            case '~', '!', '@', '#', '$', '%', '^', '&', '*', '(', ')', '+', '|', '=' -> true;
+            default -> false;
+        };
+    }
+}
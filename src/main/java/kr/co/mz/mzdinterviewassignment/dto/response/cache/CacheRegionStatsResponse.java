@@ -0,0 +1,36 @@
+package kr.co.mz.mzdinterviewassignment.dto.response.cache;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+@Getter
+public class CacheRegionStatsResponse {
+    private String regionName;
+    private long size;
+    private long hitCount;
+    private long missCount;
+    private double hitRate;
+    private long evictionCount;
+    private double averageLoadMillis;
+
+    public static CacheRegionStatsResponse generateCacheRegionStats(final String regionName,
+                                                                    final long size,
+                                                                    final CacheStats stats) {
+        return CacheRegionStatsResponse.builder()
+            .regionName(regionName)
+            .size(size)
+            .hitCount(stats.hitCount())
+            .missCount(stats.missCount())
+            .hitRate(stats.hitRate())
+            .evictionCount(stats.evictionCount())
+            .averageLoadMillis(stats.averageLoadPenalty() / 1_000_000.0)
+            .build();
+    }
+}
@@ -0,0 +1,35 @@
+package kr.co.mz.mzdinterviewassignment.dto.response.member;
+
+import java.util.List;
+import java.util.Objects;
+import kr.co.mz.mzdinterviewassignment.dto.request.member.MemberBatchMode;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+@Getter
+public class CreateMembersResponse {
+    private MemberBatchMode mode;
+    private long createdCount;
+    private long failedCount;
+    private List<MemberBatchItemResponse> results;
+
+    public static CreateMembersResponse generateCreateMembers(final MemberBatchMode mode,
+                                                              final List<MemberBatchItemResponse> results) {
+        long createdCount = results.stream()
+            .filter(result -> Objects.equals(result.getStatus(), MemberBatchItemStatus.CREATED))
+            .count();
+
+        return CreateMembersResponse.builder()
+            .mode(mode)
+            .createdCount(createdCount)
+            .failedCount(results.size() - createdCount)
+            .results(results)
+            .build();
+    }
+}
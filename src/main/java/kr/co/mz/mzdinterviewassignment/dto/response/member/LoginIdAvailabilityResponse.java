@@ -0,0 +1,24 @@
+package kr.co.mz.mzdinterviewassignment.dto.response.member;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+@Getter
+public class LoginIdAvailabilityResponse {
+    private String loginId;
+    private boolean available;
+
+    public static LoginIdAvailabilityResponse generateLoginIdAvailability(final String loginId,
+                                                                          final boolean available) {
+        return LoginIdAvailabilityResponse.builder()
+            .loginId(loginId)
+            .available(available)
+            .build();
+    }
+}
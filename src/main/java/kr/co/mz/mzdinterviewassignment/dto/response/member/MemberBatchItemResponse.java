@@ -0,0 +1,45 @@
+package kr.co.mz.mzdinterviewassignment.dto.response.member;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import kr.co.mz.mzdinterviewassignment.domain.member.Member;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+@Getter
+public class MemberBatchItemResponse {
+    private int index;
+    private String loginId;
+    private MemberBatchItemStatus status;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long memberNo;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String message;
+
+    public static MemberBatchItemResponse generateCreated(final int index,
+                                                          final Member member) {
+        return MemberBatchItemResponse.builder()
+            .index(index)
+            .loginId(member.getLoginId())
+            .status(MemberBatchItemStatus.CREATED)
+            .memberNo(member.getMemberNo())
+            .build();
+    }
+
+    public static MemberBatchItemResponse generateFailed(final int index,
+                                                         final String loginId,
+                                                         final MemberBatchItemStatus status,
+                                                         final String message) {
+        return MemberBatchItemResponse.builder()
+            .index(index)
+            .loginId(loginId)
+            .status(status)
+            .message(message)
+            .build();
+    }
+}
@@ -0,0 +1,8 @@
+package kr.co.mz.mzdinterviewassignment.dto.response.member;
+
+public enum MemberBatchItemStatus {
+    CREATED,
+    DUPLICATE,
+    INVALID,
+    SKIPPED
+}
@@ -0,0 +1,30 @@
+package kr.co.mz.mzdinterviewassignment.dto.response.member;
+
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+@Getter
+public class MemberCursorResponse {
+    private List<MemberInfoResponse> members;
+    private boolean hasNext;
+    private Long nextCursor;
+
+    public static MemberCursorResponse generateMemberCursor(final List<MemberInfoResponse> members,
+                                                            final boolean hasNext) {
+        Long nextCursor = hasNext && !members.isEmpty()
+            ? members.get(members.size() - 1).getMemberNo() : null;
+
+        return MemberCursorResponse.builder()
+            .members(members)
+            .hasNext(hasNext)
+            .nextCursor(nextCursor)
+            .build();
+    }
+}
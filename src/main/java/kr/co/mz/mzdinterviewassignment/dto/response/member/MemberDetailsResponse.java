@@ -22,6 +22,7 @@ public class MemberDetailsResponse {
     private String password;
     private MemberStatus memberStatus;
     private LocalDateTime updatedAt;
+    private long version;
     private LocalDateTime createdAt;
     private List<ProfileResponse> profiles;
 
@@ -34,6 +35,7 @@ public class MemberDetailsResponse {
             .password(member.getPassword())
             .memberStatus(member.getMemberStatus())
             .updatedAt(member.getUpdatedAt())
+            .version(member.getVersion())
             .createdAt(member.getCreatedAt())
             .profiles(profiles)
             .build();
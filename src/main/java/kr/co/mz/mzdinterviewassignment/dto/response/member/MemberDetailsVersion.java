@@ -0,0 +1,37 @@
+package kr.co.mz.mzdinterviewassignment.dto.response.member;
+
+import java.time.LocalDateTime;
+import kr.co.mz.mzdinterviewassignment.dto.response.profile.ProfileResponse;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+@Getter
+@EqualsAndHashCode(of = {"memberVersion", "profileVersionSum"})
+public class MemberDetailsVersion {
+    private final long memberVersion;
+    private final long profileVersionSum;
+    private final LocalDateTime lastModifiedAt;
+
+    public MemberDetailsVersion(final long memberVersion, final long profileVersionSum,
+                                final LocalDateTime memberUpdatedAt,
+                                final LocalDateTime profileUpdatedAt) {
+        this.memberVersion = memberVersion;
+        this.profileVersionSum = profileVersionSum;
+        this.lastModifiedAt = profileUpdatedAt == null || memberUpdatedAt.isAfter(profileUpdatedAt)
+            ? memberUpdatedAt : profileUpdatedAt;
+    }
+
+    public static MemberDetailsVersion generateMemberDetailsVersion(
+        final MemberDetailsResponse details) {
+        long profileVersionSum = 0;
+        LocalDateTime profileUpdatedAt = null;
+        for (ProfileResponse profile : details.getProfiles()) {
+            profileVersionSum += profile.getVersion();
+            if (profileUpdatedAt == null || profile.getUpdatedAt().isAfter(profileUpdatedAt)) {
+                profileUpdatedAt = profile.getUpdatedAt();
+            }
+        }
+        return new MemberDetailsVersion(details.getVersion(), profileVersionSum,
+            details.getUpdatedAt(), profileUpdatedAt);
+    }
+}
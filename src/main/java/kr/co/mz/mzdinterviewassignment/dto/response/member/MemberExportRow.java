@@ -0,0 +1,28 @@
+package kr.co.mz.mzdinterviewassignment.dto.response.member;
+
+import java.time.LocalDateTime;
+import kr.co.mz.mzdinterviewassignment.domain.member.MemberStatus;
+import kr.co.mz.mzdinterviewassignment.domain.profile.ProfileStatus;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+@Getter
+public class MemberExportRow {
+    private Long memberNo;
+    private String loginId;
+    private String name;
+    private MemberStatus memberStatus;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private Long profileNo;
+    private String nickname;
+    private String phoneNumber;
+    private String address;
+    private ProfileStatus profileStatus;
+}
@@ -0,0 +1,46 @@
+package kr.co.mz.mzdinterviewassignment.dto.response.member;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import kr.co.mz.mzdinterviewassignment.job.MemberImportJob;
+import kr.co.mz.mzdinterviewassignment.job.MemberImportJobStatus;
+import kr.co.mz.mzdinterviewassignment.job.MemberImportRejectedLine;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+@Getter
+public class MemberImportStatusResponse {
+    private Long jobId;
+    private String source;
+    private MemberImportJobStatus status;
+    private long readLines;
+    private long createdCount;
+    private long rejectedCount;
+    private double throughput;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String failureMessage;
+    private List<MemberImportRejectedLine> rejectedLines;
+
+    public static MemberImportStatusResponse generateImportStatus(final MemberImportJob job) {
+        return MemberImportStatusResponse.builder()
+            .jobId(job.getJobId())
+            .source(job.getSource())
+            .status(job.getStatus())
+            .readLines(job.getReadLines().get())
+            .createdCount(job.getCreatedCount().get())
+            .rejectedCount(job.getRejectedCount().get())
+            .throughput(Math.round(job.getThroughput() * 10) / 10.0)
+            .startedAt(job.getStartedAt())
+            .finishedAt(job.getFinishedAt())
+            .failureMessage(job.getFailureMessage())
+            .rejectedLines(job.getRejectedLines())
+            .build();
+    }
+}
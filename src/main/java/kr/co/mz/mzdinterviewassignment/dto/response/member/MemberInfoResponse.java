@@ -21,6 +21,7 @@ public class MemberInfoResponse {
     private String password;
     private MemberStatus memberStatus;
     private LocalDateTime updatedAt;
+    private long version;
     private LocalDateTime createdAt;
     private ProfileResponse mainProfile;
 
@@ -33,6 +34,7 @@ public class MemberInfoResponse {
             .password(member.getPassword())
             .memberStatus(member.getMemberStatus())
             .updatedAt(member.getUpdatedAt())
+            .version(member.getVersion())
             .createdAt(member.getCreatedAt())
             .mainProfile(mainProfile)
             .build();
@@ -17,6 +17,7 @@ public class MemberResponse {
     private Long memberNo;
     private String loginId;
     private String name;
+    private long version;
     private LocalDateTime createdAt;
     private ProfileResponse profile;
 
@@ -26,6 +27,7 @@ public class MemberResponse {
             .memberNo(member.getMemberNo())
             .loginId(member.getLoginId())
             .name(member.getName())
+            .version(member.getVersion())
             .createdAt(member.getCreatedAt())
             .profile(profile)
             .build();
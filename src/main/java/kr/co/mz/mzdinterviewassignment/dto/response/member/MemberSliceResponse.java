@@ -0,0 +1,41 @@
+package kr.co.mz.mzdinterviewassignment.dto.response.member;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.time.LocalDateTime;
+import java.util.List;
+import kr.co.mz.mzdinterviewassignment.service.MemberSearchCount;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+@Getter
+public class MemberSliceResponse {
+    private List<MemberInfoResponse> members;
+    private int page;
+    private int size;
+    private boolean hasNext;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long totalCount;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private LocalDateTime totalCountedAt;
+
+    public static MemberSliceResponse generateMemberSlice(final List<MemberInfoResponse> members,
+                                                          final int page,
+                                                          final int size,
+                                                          final boolean hasNext,
+                                                          final MemberSearchCount count) {
+        return MemberSliceResponse.builder()
+            .members(members)
+            .page(page)
+            .size(size)
+            .hasNext(hasNext)
+            .totalCount(count == null ? null : count.getTotalCount())
+            .totalCountedAt(count == null ? null : count.getCountedAt())
+            .build();
+    }
+}
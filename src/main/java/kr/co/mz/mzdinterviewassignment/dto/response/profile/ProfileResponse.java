@@ -19,6 +19,7 @@ public class ProfileResponse {
     private String phoneNumber;
     private String address;
     private ProfileStatus profileStatus;
+    private long version;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -29,6 +30,7 @@ public class ProfileResponse {
             .phoneNumber(profile.getPhoneNumber())
             .address(profile.getAddress())
             .profileStatus(profile.getProfileStatus())
+            .version(profile.getVersion())
             .createdAt(profile.getCreatedAt())
             .updatedAt(profile.getUpdatedAt())
             .build();
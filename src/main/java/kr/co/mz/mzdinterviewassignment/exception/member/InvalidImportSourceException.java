@@ -0,0 +1,11 @@
+package kr.co.mz.mzdinterviewassignment.exception.member;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class InvalidImportSourceException extends RuntimeException {
+    public InvalidImportSourceException(final String source) {
+        super("가져올 수 없는 파일입니다.");
+        log.error("가져올 수 없는 파일입니다. 파일 : {}", source);
+    }
+}
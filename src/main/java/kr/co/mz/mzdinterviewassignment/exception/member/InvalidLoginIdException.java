@@ -0,0 +1,12 @@
+package kr.co.mz.mzdinterviewassignment.exception.member;
+
+import kr.co.mz.mzdinterviewassignment.dto.request.validation.LoginId;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class InvalidLoginIdException extends RuntimeException {
+    public InvalidLoginIdException(final String loginId) {
+        super(LoginId.MESSAGE);
+        log.debug("아이디 형식이 올바르지 않습니다. 아이디: {}", loginId);
+    }
+}
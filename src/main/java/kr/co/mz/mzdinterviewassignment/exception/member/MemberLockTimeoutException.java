@@ -0,0 +1,11 @@
+package kr.co.mz.mzdinterviewassignment.exception.member;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class MemberLockTimeoutException extends RuntimeException {
+    public MemberLockTimeoutException(final Long memberNo) {
+        super("같은 회원의 다른 요청을 처리 중입니다. 잠시 후 다시 시도해주세요.");
+        log.error("회원 잠금 대기 시간 초과. 회원 식별 번호 : {}", memberNo);
+    }
+}
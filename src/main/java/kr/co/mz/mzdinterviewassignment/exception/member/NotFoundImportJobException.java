@@ -0,0 +1,11 @@
+package kr.co.mz.mzdinterviewassignment.exception.member;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class NotFoundImportJobException extends RuntimeException {
+    public NotFoundImportJobException(final Long jobId) {
+        super("회원 가져오기 작업을 찾을 수 없습니다.");
+        log.error("회원 가져오기 작업을 찾을 수 없습니다. 작업 식별 번호 : {}", jobId);
+    }
+}
@@ -0,0 +1,11 @@
+package kr.co.mz.mzdinterviewassignment.exception.profile;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class DuplicateMainProfileException extends RuntimeException {
+    public DuplicateMainProfileException(final Long memberNo) {
+        super("이미 메인 프로필이 지정되어 있습니다. 다시 조회 후 시도해주세요.");
+        log.error("회원의 메인 프로필이 이미 존재합니다. 회원 식별 번호: {}", memberNo);
+    }
+}
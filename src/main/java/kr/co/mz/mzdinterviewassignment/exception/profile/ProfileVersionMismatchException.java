@@ -0,0 +1,12 @@
+package kr.co.mz.mzdinterviewassignment.exception.profile;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class ProfileVersionMismatchException extends RuntimeException {
+    public ProfileVersionMismatchException(final Long profileNo, final long currentVersion) {
+        super("프로필이 다른 요청에 의해 변경되었습니다. 다시 조회 후 수정해주세요.");
+        log.error("프로필 버전이 일치하지 않습니다. 프로필 식별 번호 : {}, 현재 버전 : {}", profileNo,
+            currentVersion);
+    }
+}
@@ -0,0 +1,11 @@
+package kr.co.mz.mzdinterviewassignment.exception.query;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class QueryBudgetExceededException extends RuntimeException {
+    public QueryBudgetExceededException(final long statementCount, final long maxStatements) {
+        super("요청을 처리하는 데 필요한 쿼리 수가 허용 범위를 넘었습니다.");
+        log.error("요청 쿼리 수 한도 초과로 중단. 쿼리 수 : {}, 한도 : {}", statementCount, maxStatements);
+    }
+}
@@ -4,7 +4,8 @@ import lombok.Getter;
 
 @Getter
 public enum StatusExceptionCode {
-    INVALID_PROFILE("유효하지 않은 프로필 상태입니다.");
+    INVALID_PROFILE("유효하지 않은 프로필 상태입니다."),
+    INVALID_EXPORT_FORMAT("지원하지 않는 내보내기 형식입니다.");
 
     private final String message;
 
@@ -0,0 +1,167 @@
+package kr.co.mz.mzdinterviewassignment.facade;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import kr.co.mz.mzdinterviewassignment.exception.member.MemberLockTimeoutException;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Slf4j
+@Component
+public class MemberLockManager {
+    private static final String ADVISORY_LOCK_PREFIX = "member-lock-";
+    private static final String WAIT_METRIC = "member.lock.wait";
+    private static final String TIMEOUT_METRIC = "member.lock.timeouts";
+
+    private final JdbcTemplate jdbcTemplate;
+    @Getter
+    private final MemberLockMode mode;
+    private final long timeoutNanos;
+    private final long slowWaitNanos;
+    private final ReentrantLock[] stripes;
+    private final Timer localWaitTimer;
+    private final Timer advisoryWaitTimer;
+    private final Counter localTimeoutCounter;
+    private final Counter advisoryTimeoutCounter;
+
+    public MemberLockManager(final JdbcTemplate jdbcTemplate,
+                             final MeterRegistry meterRegistry,
+                             @Value("${member.lock.mode:LOCAL}") final MemberLockMode mode,
+                             @Value("${member.lock.stripes:1024}") final int stripes,
+                             @Value("${member.lock.timeout-ms:3000}") final long timeoutMillis,
+                             @Value("${member.lock.slow-wait-ms:500}") final long slowWaitMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.mode = mode;
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        this.slowWaitNanos = TimeUnit.MILLISECONDS.toNanos(slowWaitMillis);
+        int stripeCount = 1;
+        while (stripeCount < stripes) {
+            stripeCount <<= 1;
+        }
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < this.stripes.length; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+        this.localWaitTimer = waitTimer(meterRegistry, "local");
+        this.advisoryWaitTimer = waitTimer(meterRegistry, "advisory");
+        this.localTimeoutCounter = timeoutCounter(meterRegistry, "local");
+        this.advisoryTimeoutCounter = timeoutCounter(meterRegistry, "advisory");
+        log.info("회원 잠금 관리자 초기화, 모드 : {}, 잠금 수 : {}", mode, this.stripes.length);
+    }
+
+    public <T> T executeWithLock(final Long memberNo, final Supplier<T> action) {
+        long startedAt = System.nanoTime();
+        ReentrantLock stripe = stripes[stripeIndex(memberNo)];
+
+        if (!tryLock(stripe, timeoutNanos)) {
+            throw timeout(localTimeoutCounter, memberNo);
+        }
+
+        try {
+            recordAcquired(localWaitTimer, memberNo, System.nanoTime() - startedAt);
+            return action.get();
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    public void lockInTransaction(final Long memberNo) {
+        if (mode != MemberLockMode.ADVISORY) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("데이터베이스 회원 잠금은 트랜잭션 안에서만 사용할 수 있습니다.");
+        }
+
+        long startedAt = System.nanoTime();
+        String lockName = ADVISORY_LOCK_PREFIX + memberNo;
+        Boolean acquired = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+            acquireAdvisoryLock(connection, lockName));
+        if (!Boolean.TRUE.equals(acquired)) {
+            throw timeout(advisoryTimeoutCounter, memberNo);
+        }
+
+        recordAcquired(advisoryWaitTimer, memberNo, System.nanoTime() - startedAt);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCompletion() {
+                releaseAdvisoryLock(lockName);
+            }
+        });
+    }
+
+    private boolean acquireAdvisoryLock(final Connection connection,
+                                        final String lockName) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("select get_lock(?, ?)")) {
+            statement.setString(1, lockName);
+            statement.setDouble(2, timeoutNanos / 1_000_000_000.0);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getInt(1) == 1;
+            }
+        }
+    }
+
+    private void releaseAdvisoryLock(final String lockName) {
+        try {
+            jdbcTemplate.queryForObject("select release_lock(?)", Integer.class, lockName);
+        } catch (DataAccessException e) {
+            log.error("회원 잠금 {} 해제 실패 : {}", lockName, e.getMessage());
+        }
+    }
+
+    private boolean tryLock(final ReentrantLock stripe, final long timeoutNanos) {
+        try {
+            return stripe.tryLock(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void recordAcquired(final Timer waitTimer, final Long memberNo, final long waitNanos) {
+        waitTimer.record(waitNanos, TimeUnit.NANOSECONDS);
+
+        if (waitNanos >= slowWaitNanos) {
+            log.warn("회원 식별 번호 {} 잠금 대기 시간 {} ms", memberNo,
+                TimeUnit.NANOSECONDS.toMillis(waitNanos));
+        }
+    }
+
+    private MemberLockTimeoutException timeout(final Counter timeoutCounter, final Long memberNo) {
+        timeoutCounter.increment();
+        return new MemberLockTimeoutException(memberNo);
+    }
+
+    private int stripeIndex(final Long memberNo) {
+        long hash = memberNo * 0x9e3779b97f4a7c15L;
+        return (int) (hash ^ (hash >>> 32)) & (stripes.length - 1);
+    }
+
+    private static Timer waitTimer(final MeterRegistry meterRegistry, final String lock) {
+        return Timer.builder(WAIT_METRIC)
+            .tag("lock", lock)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+
+    private static Counter timeoutCounter(final MeterRegistry meterRegistry, final String lock) {
+        return Counter.builder(TIMEOUT_METRIC)
+            .tag("lock", lock)
+            .register(meterRegistry);
+    }
+}
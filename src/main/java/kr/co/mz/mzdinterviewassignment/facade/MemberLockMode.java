@@ -0,0 +1,6 @@
+package kr.co.mz.mzdinterviewassignment.facade;
+
+public enum MemberLockMode {
+    LOCAL,
+    ADVISORY
+}
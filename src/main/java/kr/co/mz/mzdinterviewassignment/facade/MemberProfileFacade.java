@@ -1,23 +1,50 @@
 package kr.co.mz.mzdinterviewassignment.facade;
 
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import kr.co.mz.mzdinterviewassignment.domain.member.Member;
 import kr.co.mz.mzdinterviewassignment.dto.request.member.CreateMemberRequest;
+import kr.co.mz.mzdinterviewassignment.dto.request.member.CreateMembersRequest;
+import kr.co.mz.mzdinterviewassignment.dto.request.member.MemberBatchMode;
 import kr.co.mz.mzdinterviewassignment.dto.request.profile.CreateProfileRequest;
 import kr.co.mz.mzdinterviewassignment.dto.request.profile.UpdateProfileRequest;
+import kr.co.mz.mzdinterviewassignment.dto.response.member.CreateMembersResponse;
+import kr.co.mz.mzdinterviewassignment.dto.response.member.MemberBatchItemResponse;
+import kr.co.mz.mzdinterviewassignment.dto.response.member.MemberBatchItemStatus;
+import kr.co.mz.mzdinterviewassignment.dto.response.member.MemberCursorResponse;
 import kr.co.mz.mzdinterviewassignment.dto.response.member.MemberDetailsResponse;
+import kr.co.mz.mzdinterviewassignment.dto.response.member.MemberDetailsVersion;
 import kr.co.mz.mzdinterviewassignment.dto.response.member.MemberInfoResponse;
 import kr.co.mz.mzdinterviewassignment.dto.response.member.MemberResponse;
+import kr.co.mz.mzdinterviewassignment.dto.response.member.MemberSliceResponse;
 import kr.co.mz.mzdinterviewassignment.dto.response.profile.ProfileResponse;
+import kr.co.mz.mzdinterviewassignment.exception.member.DuplicateLoginIdException;
+import kr.co.mz.mzdinterviewassignment.service.MemberDetailsCache;
+import kr.co.mz.mzdinterviewassignment.service.MemberSearchCount;
+import kr.co.mz.mzdinterviewassignment.service.MemberSearchCountCache;
 import kr.co.mz.mzdinterviewassignment.service.MemberService;
 import kr.co.mz.mzdinterviewassignment.service.ProfileService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Slf4j
+@Timed(value = "member.facade", histogram = true)
 @Component
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -25,6 +52,12 @@ public class MemberProfileFacade {
 
     private final MemberService memberService;
     private final ProfileService profileService;
+    private final MemberSearchCountCache memberSearchCountCache;
+    private final MemberDetailsCache memberDetailsCache;
+    private final Validator validator;
+    private final MemberLockManager memberLockManager;
+    private final TransactionTemplate transactionTemplate;
+    private final OptimisticLockRetryExecutor optimisticLockRetryExecutor;
 
     @Transactional
     public MemberResponse createMember(final CreateMemberRequest dto) {
@@ -33,44 +66,211 @@ public class MemberProfileFacade {
         return MemberResponse.generateMemberResponse(member, response);
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public CreateMembersResponse createMembers(final CreateMembersRequest dto) {
+        List<CreateMemberRequest> requests = dto.getMembers();
+        MemberBatchMode mode = dto.getMode();
+        log.info("회원 일괄 생성 요청 - 모드: {}, 요청 수: {}", mode, requests.size());
+
+        Set<String> existingLoginIds = memberService.findExistingLoginIds(requests.stream()
+            .map(CreateMemberRequest::getLoginId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet()));
+
+        MemberBatchItemResponse[] results = new MemberBatchItemResponse[requests.size()];
+        List<Integer> acceptedIndexes = new ArrayList<>(requests.size());
+        Set<String> seenLoginIds = new HashSet<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            CreateMemberRequest request = requests.get(i);
+            String loginId = request == null ? null : request.getLoginId();
+            String violation = validate(request);
+
+            if (violation != null) {
+                results[i] = MemberBatchItemResponse.generateFailed(i, loginId,
+                    MemberBatchItemStatus.INVALID, violation);
+            } else if (existingLoginIds.contains(loginId) || !seenLoginIds.add(loginId)) {
+                results[i] = generateDuplicate(i, loginId);
+            } else {
+                acceptedIndexes.add(i);
+            }
+        }
+
+        if (mode == MemberBatchMode.ALL_OR_NOTHING && acceptedIndexes.size() < requests.size()) {
+            log.info("전체 성공 모드에서 실패 항목이 있어 회원을 생성하지 않음");
+            acceptedIndexes.forEach(i -> results[i] = MemberBatchItemResponse.generateFailed(i,
+                requests.get(i).getLoginId(), MemberBatchItemStatus.SKIPPED,
+                "다른 항목의 실패로 생성하지 않았습니다."));
+            return CreateMembersResponse.generateCreateMembers(mode, List.of(results));
+        }
+
+        List<CreateMemberRequest> acceptedRequests = acceptedIndexes.stream()
+            .map(requests::get)
+            .toList();
+
+        if (mode == MemberBatchMode.ALL_OR_NOTHING) {
+            addCreated(results, acceptedIndexes, saveMembers(acceptedRequests));
+            return CreateMembersResponse.generateCreateMembers(mode, List.of(results));
+        }
+
+        try {
+            addCreated(results, acceptedIndexes, saveMembers(acceptedRequests));
+        } catch (RuntimeException e) {
+            log.warn("부분 성공 모드 일괄 저장 실패, 항목별 트랜잭션으로 다시 저장 : {}", e.getMessage());
+            for (int index : acceptedIndexes) {
+                CreateMemberRequest request = requests.get(index);
+                try {
+                    addCreated(results, List.of(index), saveMembers(List.of(request)));
+                } catch (DuplicateLoginIdException | DataIntegrityViolationException retryException) {
+                    results[index] = generateDuplicate(index, request.getLoginId());
+                }
+            }
+        }
+
+        return CreateMembersResponse.generateCreateMembers(mode, List.of(results));
+    }
+
     @Transactional
     public String deleteMember(final Long memberNo) {
         return memberService.deleteMember(memberNo);
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public MemberDetailsResponse findMemberDetails(final Long memberNo) {
-        Member member = memberService.findMember(memberNo);
-        List<ProfileResponse> responses = profileService.findProfiles(member);
+        return memberDetailsCache.get(memberNo, this::loadMemberDetails);
+    }
 
-        return MemberDetailsResponse.generateMemberDetails(member, responses);
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public MemberDetailsResponse findMemberDetails(final Long memberNo,
+                                                   final MemberDetailsVersion version) {
+        MemberDetailsResponse details = findMemberDetails(memberNo);
+        if (version.equals(MemberDetailsVersion.generateMemberDetailsVersion(details))) {
+            return details;
+        }
+
+        log.info("회원 식별 번호 {} 의 캐시된 상세 정보가 데이터베이스 버전과 달라 다시 조회", memberNo);
+        memberDetailsCache.invalidate(memberNo);
+        return findMemberDetails(memberNo);
     }
 
-    public List<MemberInfoResponse> findMembers(final int page, final int size, final String name) {
-        Page<Member> members = memberService.findMembersContainName(name, page, size);
+    public MemberDetailsVersion findMemberDetailsVersion(final Long memberNo) {
+        return memberService.findMemberDetailsVersion(memberNo);
+    }
 
-        return members.stream().map(member -> {
-            ProfileResponse response = profileService.findMainProfile(member);
-            return MemberInfoResponse.generateMemberInfo(member, response);
-        }).toList();
+    public LocalDateTime findMembersLastModifiedAt() {
+        return memberService.findMembersLastModifiedAt();
     }
 
-    @Transactional
+    public List<MemberInfoResponse> findMembers(final int page, final int size,
+                                                final String name) {
+        Slice<Member> members = memberService.findMembersContainName(name, page, size);
+        return generateMemberInfos(members.getContent());
+    }
+
+    public MemberSliceResponse findMemberSlice(final int page, final int size, final String name,
+                                               final boolean includeTotal) {
+        Slice<Member> members = memberService.findMembersContainName(name, page, size);
+        List<MemberInfoResponse> responses = generateMemberInfos(members.getContent());
+        MemberSearchCount count = includeTotal ? memberSearchCountCache.getCount(name) : null;
+
+        return MemberSliceResponse.generateMemberSlice(responses, page, size, members.hasNext(),
+            count);
+    }
+
+    public MemberCursorResponse findMembersAfter(final Long after, final int size,
+                                                 final String name) {
+        Slice<Member> members = memberService.findMembersContainNameAfter(name, after, size);
+        List<MemberInfoResponse> responses = generateMemberInfos(members.getContent());
+
+        return MemberCursorResponse.generateMemberCursor(responses, members.hasNext());
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ProfileResponse createProfile(final CreateProfileRequest dto, final Long memberNo) {
-        Member member = memberService.findMember(memberNo);
-        return profileService.createProfile(dto, member);
+        return executeWithMemberLock(memberNo,
+            () -> profileService.createProfile(dto, memberService.findMember(memberNo)));
     }
 
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     public ProfileResponse updateProfile(final UpdateProfileRequest dto,
                                          final Long profileNo,
-                                         final Long memberNo) {
-        Member member = memberService.findMember(memberNo);
-        return profileService.updateProfile(dto, profileNo, member);
+                                         final Long memberNo,
+                                         final Set<Long> expectedVersions) {
+        return executeWithMemberLock(memberNo,
+            () -> profileService.updateProfile(dto, profileNo, memberService.findMember(memberNo),
+                expectedVersions));
     }
 
-    @Transactional
+    @Transactional(propagation = Propagation.SUPPORTS)
     public String deleteProfile(final Long profileNo, final Long memberNo) {
+        return executeWithMemberLock(memberNo,
+            () -> profileService.deleteProfile(profileNo, memberService.findMember(memberNo)));
+    }
+
+    private <T> T executeWithMemberLock(final Long memberNo, final Supplier<T> action) {
+        return memberLockManager.executeWithLock(memberNo,
+            () -> optimisticLockRetryExecutor.execute(() -> transactionTemplate.execute(status -> {
+                memberLockManager.lockInTransaction(memberNo);
+                return action.get();
+            })));
+    }
+
+    private List<Member> saveMembers(final List<CreateMemberRequest> requests) {
+        return transactionTemplate.execute(status -> {
+            List<Member> members = memberService.createMembers(requests);
+            profileService.createMainProfiles(requests.stream()
+                .map(CreateMemberRequest::getProfile)
+                .toList(), members);
+            memberService.flushMembers(members);
+            return members;
+        });
+    }
+
+    private static void addCreated(final MemberBatchItemResponse[] results,
+                                   final List<Integer> indexes,
+                                   final List<Member> members) {
+        for (int i = 0; i < members.size(); i++) {
+            int index = indexes.get(i);
+            results[index] = MemberBatchItemResponse.generateCreated(index, members.get(i));
+        }
+    }
+
+    private static MemberBatchItemResponse generateDuplicate(final int index,
+                                                             final String loginId) {
+        return MemberBatchItemResponse.generateFailed(index, loginId,
+            MemberBatchItemStatus.DUPLICATE, "이미 존재하는 아이디입니다.");
+    }
+
+    private String validate(final CreateMemberRequest request) {
+        if (request == null) {
+            return "회원 정보는 필수입니다.";
+        }
+
+        Set<ConstraintViolation<CreateMemberRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+
+        return violations.stream()
+            .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+            .sorted()
+            .toList()
+            .toString();
+    }
+
+    private MemberDetailsResponse loadMemberDetails(final Long memberNo) {
         Member member = memberService.findMember(memberNo);
-        return profileService.deleteProfile(profileNo, member);
+        List<ProfileResponse> responses = profileService.findProfiles(member);
+
+        return MemberDetailsResponse.generateMemberDetails(member, responses);
+    }
+
+    private List<MemberInfoResponse> generateMemberInfos(final List<Member> members) {
+        Map<Long, ProfileResponse> mainProfiles = profileService.findMainProfiles(members);
+
+        return members.stream()
+            .map(member -> MemberInfoResponse.generateMemberInfo(member,
+                mainProfiles.get(member.getMemberNo())))
+            .toList();
     }
 }
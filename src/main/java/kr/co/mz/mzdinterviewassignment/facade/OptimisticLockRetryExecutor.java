@@ -0,0 +1,37 @@
+package kr.co.mz.mzdinterviewassignment.facade;
+
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Slf4j
+@Component
+public class OptimisticLockRetryExecutor {
+
+    private final int maxRetries;
+
+    public OptimisticLockRetryExecutor(
+        @Value("${member.profile.optimistic-lock-retries:2}") final int maxRetries) {
+        this.maxRetries = maxRetries;
+    }
+
+    public <T> T execute(final Supplier<T> action) {
+        int retries = 0;
+        while (true) {
+            try {
+                return action.get();
+            } catch (OptimisticLockingFailureException e) {
+                if (retries >= maxRetries
+                    || TransactionSynchronizationManager.isActualTransactionActive()) {
+                    throw e;
+                }
+                retries++;
+                log.warn("다른 요청과 동시에 변경되어 재시도 {} / {} : {}", retries, maxRetries,
+                    e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package kr.co.mz.mzdinterviewassignment.job;
+
+import kr.co.mz.mzdinterviewassignment.service.MemberArchiveResult;
+import kr.co.mz.mzdinterviewassignment.service.MemberArchiveService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@EnableScheduling
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "member.archive.enabled", havingValue = "true")
+public class MemberArchiveScheduler {
+
+    private final MemberArchiveService memberArchiveService;
+
+    @Value("${member.archive.chunk-size:500}")
+    private int chunkSize;
+
+    @Scheduled(initialDelayString = "${member.archive.interval-ms:1000}",
+        fixedDelayString = "${member.archive.interval-ms:1000}")
+    public void archive() {
+        try {
+            MemberArchiveResult result = memberArchiveService.archive(chunkSize);
+            if (result.getArchivedMemberCount() > 0) {
+                log.info("탈퇴 회원 {} 명, {} 행 보관, 다음 회원 식별 번호 : {}",
+                    result.getArchivedMemberCount(), result.getArchivedRowCount(),
+                    result.getNextCursor());
+            }
+        } catch (RuntimeException e) {
+            log.error("탈퇴 회원 보관 실패, 다음 실행 때 저장된 위치부터 다시 시도 : {}", e.getMessage());
+        }
+    }
+}
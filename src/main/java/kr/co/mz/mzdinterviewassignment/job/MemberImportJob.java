@@ -0,0 +1,92 @@
+package kr.co.mz.mzdinterviewassignment.job;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
+
+@Getter
+public class MemberImportJob {
+    private final Long jobId;
+    private final String source;
+    private final Path path;
+    private final boolean temporary;
+    private final int maxRejectedLines;
+    private final AtomicLong readLines = new AtomicLong();
+    private final AtomicLong createdCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final List<MemberImportRejectedLine> rejectedLines = new ArrayList<>();
+    private volatile MemberImportJobStatus status = MemberImportJobStatus.QUEUED;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String failureMessage;
+
+    public MemberImportJob(final Long jobId, final String source, final Path path,
+                           final boolean temporary, final int maxRejectedLines) {
+        this.jobId = jobId;
+        this.source = source;
+        this.path = path;
+        this.temporary = temporary;
+        this.maxRejectedLines = maxRejectedLines;
+    }
+
+    public void start() {
+        this.startedAt = LocalDateTime.now();
+        this.status = MemberImportJobStatus.RUNNING;
+    }
+
+    public void complete() {
+        this.finishedAt = LocalDateTime.now();
+        this.status = MemberImportJobStatus.COMPLETED;
+    }
+
+    public void fail(final String failureMessage) {
+        this.failureMessage = failureMessage;
+        this.finishedAt = LocalDateTime.now();
+        this.status = MemberImportJobStatus.FAILED;
+    }
+
+    public boolean isFinished() {
+        return status == MemberImportJobStatus.COMPLETED || status == MemberImportJobStatus.FAILED;
+    }
+
+    public void increaseReadLines() {
+        readLines.incrementAndGet();
+    }
+
+    public void increaseCreatedCount(final long count) {
+        createdCount.addAndGet(count);
+    }
+
+    public void reject(final long lineNumber, final String loginId, final String reason) {
+        rejectedCount.incrementAndGet();
+        synchronized (rejectedLines) {
+            if (rejectedLines.size() < maxRejectedLines) {
+                rejectedLines.add(new MemberImportRejectedLine(lineNumber, loginId, reason));
+            }
+        }
+    }
+
+    public List<MemberImportRejectedLine> getRejectedLines() {
+        synchronized (rejectedLines) {
+            return List.copyOf(rejectedLines);
+        }
+    }
+
+    public long getProcessedLines() {
+        return createdCount.get() + rejectedCount.get();
+    }
+
+    public double getThroughput() {
+        if (startedAt == null) {
+            return 0;
+        }
+
+        LocalDateTime end = finishedAt == null ? LocalDateTime.now() : finishedAt;
+        long elapsedMillis = Math.max(Duration.between(startedAt, end).toMillis(), 1);
+        return getProcessedLines() * 1000.0 / elapsedMillis;
+    }
+}
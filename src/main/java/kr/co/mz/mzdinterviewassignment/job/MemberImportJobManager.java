@@ -0,0 +1,373 @@
+package kr.co.mz.mzdinterviewassignment.job;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import jakarta.annotation.PreDestroy;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import kr.co.mz.mzdinterviewassignment.dto.request.member.CreateMemberRequest;
+import kr.co.mz.mzdinterviewassignment.dto.request.member.CreateMembersRequest;
+import kr.co.mz.mzdinterviewassignment.dto.request.member.MemberBatchMode;
+import kr.co.mz.mzdinterviewassignment.dto.response.member.CreateMembersResponse;
+import kr.co.mz.mzdinterviewassignment.dto.response.member.MemberBatchItemResponse;
+import kr.co.mz.mzdinterviewassignment.exception.member.InvalidImportSourceException;
+import kr.co.mz.mzdinterviewassignment.exception.member.NotFoundImportJobException;
+import kr.co.mz.mzdinterviewassignment.facade.MemberProfileFacade;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+@Slf4j
+@Component
+public class MemberImportJobManager {
+
+    private final MemberProfileFacade memberProfileFacade;
+    private final ObjectReader requestReader;
+    private final int chunkSize;
+    private final int maxRejectedLines;
+    private final Path baseDir;
+    private final ExecutorService uploadExecutor;
+    private final ExecutorService jobExecutor;
+    private final ThreadPoolExecutor chunkExecutor;
+    private final Cache<Long, MemberImportJob> jobs;
+    private final AtomicLong jobSequence = new AtomicLong();
+
+    public MemberImportJobManager(final MemberProfileFacade memberProfileFacade,
+                                  final ObjectMapper objectMapper,
+                                  @Value("${member.import.chunk-size:500}") final int chunkSize,
+                                  @Value("${member.import.worker-count:4}") final int workerCount,
+                                  @Value("${member.import.upload-worker-count:2}") final int uploadWorkerCount,
+                                  @Value("${member.import.max-rejected-lines:100}") final int maxRejectedLines,
+                                  @Value("${member.import.base-dir:}") final String baseDir,
+                                  @Value("${member.import.retention-minutes:60}") final long retentionMinutes) {
+        this.memberProfileFacade = memberProfileFacade;
+        this.requestReader = objectMapper.readerFor(CreateMemberRequest.class);
+        this.chunkSize = Math.min(chunkSize, CreateMembersRequest.MAX_MEMBERS_SIZE);
+        this.maxRejectedLines = maxRejectedLines;
+        this.baseDir = StringUtils.hasText(baseDir)
+            ? Path.of(baseDir).toAbsolutePath().normalize() : null;
+        this.uploadExecutor = new ThreadPoolExecutor(uploadWorkerCount, uploadWorkerCount, 0L,
+            TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+            namedThreads("member-import-upload-"));
+        this.jobExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(), namedThreads("member-import-job-"));
+        this.chunkExecutor = new ThreadPoolExecutor(workerCount, workerCount, 0L,
+            TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(workerCount),
+            namedThreads("member-import-worker-"), callerRunsUnlessShutdown());
+        this.jobs = Caffeine.newBuilder()
+            .expireAfter(new FinishedJobExpiry(Duration.ofMinutes(retentionMinutes)))
+            .build();
+    }
+
+    public CompletableFuture<MemberImportJob> submitUpload(final InputStream inputStream) {
+        return CompletableFuture.supplyAsync(() -> submit("upload", spool(inputStream), true),
+            uploadExecutor);
+    }
+
+    public MemberImportJob submitFile(final String source) {
+        Path path = resolveLocalPath(source);
+        return submit(path.toString(), path, false);
+    }
+
+    public MemberImportJob findJob(final Long jobId) {
+        MemberImportJob job = jobs.getIfPresent(jobId);
+        if (job == null) {
+            throw new NotFoundImportJobException(jobId);
+        }
+        return job;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        uploadExecutor.shutdownNow();
+        jobExecutor.shutdownNow();
+        chunkExecutor.shutdownNow();
+    }
+
+    private Path spool(final InputStream inputStream) {
+        log.info("업로드된 회원 가져오기 파일 저장 시작");
+
+        try {
+            Path path = Files.createTempFile("member-import-", ".ndjson");
+            Files.copy(inputStream, path, StandardCopyOption.REPLACE_EXISTING);
+            return path;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private MemberImportJob submit(final String source, final Path path, final boolean temporary) {
+        MemberImportJob job = new MemberImportJob(jobSequence.incrementAndGet(), source, path,
+            temporary, maxRejectedLines);
+        jobs.put(job.getJobId(), job);
+        jobExecutor.execute(() -> run(job));
+
+        log.info("회원 가져오기 작업 {} 등록, 파일 : {}", job.getJobId(), source);
+        return job;
+    }
+
+    private Path resolveLocalPath(final String source) {
+        if (baseDir == null) {
+            throw new InvalidImportSourceException(source);
+        }
+
+        Path path = baseDir.resolve(source).toAbsolutePath().normalize();
+        if (!path.startsWith(baseDir) || !Files.isRegularFile(path)) {
+            throw new InvalidImportSourceException(source);
+        }
+        return path;
+    }
+
+    private void run(final MemberImportJob job) {
+        log.info("회원 가져오기 작업 {} 시작", job.getJobId());
+        job.start();
+
+        Phaser inFlightChunks = new Phaser(1);
+        Map<String, CompletableFuture<Void>> inFlightLoginIds = new ConcurrentHashMap<>();
+        String failureMessage = null;
+        try (BufferedReader reader = Files.newBufferedReader(job.getPath(), StandardCharsets.UTF_8)) {
+            List<CreateMemberRequest> chunk = new ArrayList<>(chunkSize);
+            List<Long> lineNumbers = new ArrayList<>(chunkSize);
+            List<CompletableFuture<Void>> earlierChunks = new ArrayList<>();
+            long lineNumber = 0;
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (!StringUtils.hasText(line)) {
+                    continue;
+                }
+                job.increaseReadLines();
+
+                try {
+                    CreateMemberRequest request = requestReader.readValue(line);
+                    chunk.add(request);
+                    lineNumbers.add(lineNumber);
+                    if (request != null && request.getLoginId() != null) {
+                        CompletableFuture<Void> earlierChunk =
+                            inFlightLoginIds.get(request.getLoginId());
+                        if (earlierChunk != null) {
+                            earlierChunks.add(earlierChunk);
+                        }
+                    }
+                } catch (JsonProcessingException e) {
+                    job.reject(lineNumber, null, "JSON parse error");
+                }
+
+                if (chunk.size() == chunkSize) {
+                    submitChunk(job, chunk, lineNumbers, earlierChunks, inFlightLoginIds,
+                        inFlightChunks);
+                    chunk = new ArrayList<>(chunkSize);
+                    lineNumbers = new ArrayList<>(chunkSize);
+                    earlierChunks = new ArrayList<>();
+                }
+            }
+
+            if (!chunk.isEmpty()) {
+                submitChunk(job, chunk, lineNumbers, earlierChunks, inFlightLoginIds,
+                    inFlightChunks);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.error("회원 가져오기 작업 {} 파일 읽기 실패 : {}", job.getJobId(), e.getMessage());
+            failureMessage = "파일을 읽는 중 오류가 발생했습니다.";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        try {
+            inFlightChunks.awaitAdvanceInterruptibly(inFlightChunks.arrive());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        deleteTemporaryFile(job);
+
+        if (Thread.currentThread().isInterrupted()) {
+            log.warn("회원 가져오기 작업 {} 이 서버 종료로 중단됨", job.getJobId());
+            failureMessage = "서버 종료로 작업이 중단되었습니다.";
+        }
+
+        finish(job, failureMessage);
+    }
+
+    private void finish(final MemberImportJob job, final String failureMessage) {
+        if (failureMessage == null) {
+            job.complete();
+            log.info("회원 가져오기 작업 {} 완료, 생성 : {}, 거부 : {}", job.getJobId(),
+                job.getCreatedCount(), job.getRejectedCount());
+        } else {
+            job.fail(failureMessage);
+        }
+        jobs.put(job.getJobId(), job);
+    }
+
+    private void submitChunk(final MemberImportJob job,
+                             final List<CreateMemberRequest> chunk,
+                             final List<Long> lineNumbers,
+                             final List<CompletableFuture<Void>> earlierChunks,
+                             final Map<String, CompletableFuture<Void>> inFlightLoginIds,
+                             final Phaser inFlightChunks) throws InterruptedException {
+        awaitEarlierChunks(earlierChunks);
+
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        List<String> loginIds = chunk.stream()
+            .filter(Objects::nonNull)
+            .map(CreateMemberRequest::getLoginId)
+            .filter(Objects::nonNull)
+            .toList();
+        loginIds.forEach(loginId -> inFlightLoginIds.put(loginId, done));
+
+        Runnable release = () -> {
+            loginIds.forEach(loginId -> inFlightLoginIds.remove(loginId, done));
+            done.complete(null);
+            inFlightChunks.arriveAndDeregister();
+        };
+
+        inFlightChunks.register();
+        try {
+            chunkExecutor.execute(() -> {
+                try {
+                    importChunk(job, chunk, lineNumbers);
+                } finally {
+                    release.run();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            release.run();
+            throw e;
+        }
+    }
+
+    private static void awaitEarlierChunks(final List<CompletableFuture<Void>> earlierChunks)
+        throws InterruptedException {
+        if (earlierChunks.isEmpty()) {
+            return;
+        }
+
+        try {
+            CompletableFuture.allOf(earlierChunks.toArray(CompletableFuture[]::new)).get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private void importChunk(final MemberImportJob job,
+                             final List<CreateMemberRequest> chunk,
+                             final List<Long> lineNumbers) {
+        CreateMembersRequest request = new CreateMembersRequest(chunk, MemberBatchMode.PARTIAL);
+
+        CreateMembersResponse response;
+        try {
+            response = memberProfileFacade.createMembers(request);
+        } catch (RuntimeException e) {
+            log.warn("회원 가져오기 작업 {} 청크 저장 실패, 다른 청크 커밋 이후 아이디 중복을 다시 확인하여 재시도 : {}",
+                job.getJobId(), e.getMessage());
+            try {
+                response = memberProfileFacade.createMembers(request);
+            } catch (RuntimeException retryException) {
+                log.error("회원 가져오기 작업 {} 청크 저장 실패 : {}", job.getJobId(),
+                    retryException.getMessage());
+                for (int i = 0; i < chunk.size(); i++) {
+                    CreateMemberRequest member = chunk.get(i);
+                    job.reject(lineNumbers.get(i), member == null ? null : member.getLoginId(),
+                        "저장에 실패했습니다.");
+                }
+                return;
+            }
+        }
+
+        job.increaseCreatedCount(response.getCreatedCount());
+        for (MemberBatchItemResponse result : response.getResults()) {
+            if (result.getMemberNo() == null) {
+                job.reject(lineNumbers.get(result.getIndex()), result.getLoginId(),
+                    result.getMessage());
+            }
+        }
+    }
+
+    private void deleteTemporaryFile(final MemberImportJob job) {
+        if (!job.isTemporary()) {
+            return;
+        }
+
+        try {
+            Files.deleteIfExists(job.getPath());
+        } catch (IOException e) {
+            log.warn("회원 가져오기 임시 파일 삭제 실패 : {}", job.getPath());
+        }
+    }
+
+    private static ThreadFactory namedThreads(final String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static RejectedExecutionHandler callerRunsUnlessShutdown() {
+        return (task, executor) -> {
+            if (executor.isShutdown()) {
+                throw new RejectedExecutionException("회원 가져오기 작업 스레드가 종료되었습니다.");
+            }
+            task.run();
+        };
+    }
+
+    private static class FinishedJobExpiry implements Expiry<Long, MemberImportJob> {
+
+        private final long retentionNanos;
+
+        FinishedJobExpiry(final Duration retention) {
+            this.retentionNanos = retention.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(final Long jobId, final MemberImportJob job,
+                                      final long currentTime) {
+            return job.isFinished() ? retentionNanos : Long.MAX_VALUE;
+        }
+
+        @Override
+        public long expireAfterUpdate(final Long jobId, final MemberImportJob job,
+                                      final long currentTime, final long currentDuration) {
+            return expireAfterCreate(jobId, job, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(final Long jobId, final MemberImportJob job,
+                                    final long currentTime, final long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
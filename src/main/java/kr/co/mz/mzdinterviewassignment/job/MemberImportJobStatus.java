@@ -0,0 +1,8 @@
+package kr.co.mz.mzdinterviewassignment.job;
+
+public enum MemberImportJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
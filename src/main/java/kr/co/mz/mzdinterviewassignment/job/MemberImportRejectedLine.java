@@ -0,0 +1,12 @@
+package kr.co.mz.mzdinterviewassignment.job;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class MemberImportRejectedLine {
+    private final long lineNumber;
+    private final String loginId;
+    private final String reason;
+}
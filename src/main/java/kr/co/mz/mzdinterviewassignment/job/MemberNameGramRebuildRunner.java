@@ -0,0 +1,42 @@
+package kr.co.mz.mzdinterviewassignment.job;
+
+import kr.co.mz.mzdinterviewassignment.service.MemberNameGramService;
+import kr.co.mz.mzdinterviewassignment.service.MemberService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberNameGramRebuildRunner implements ApplicationRunner {
+
+    private final MemberNameGramService memberNameGramService;
+
+    @Value("${member.name-gram.rebuild:false}")
+    private boolean rebuild;
+
+    @Value("${member.name-gram.rebuild-chunk-size:1000}")
+    private int chunkSize;
+
+    @Override
+    public void run(final ApplicationArguments args) {
+        log.info("회원 이름 검색 색인 {} 시작", rebuild ? "재구축" : "누락분 색인");
+
+        int chunks = 0;
+        Long cursor = MemberService.FIRST_CURSOR;
+        while (cursor != null) {
+            cursor = rebuild
+                ? memberNameGramService.rebuild(cursor, chunkSize)
+                : memberNameGramService.indexMissing(cursor, chunkSize);
+            chunks++;
+        }
+        memberNameGramService.markIndexed();
+
+        log.info("회원 이름 검색 색인 {} 완료, 처리한 묶음 수 : {}", rebuild ? "재구축" : "누락분 색인",
+            chunks);
+    }
+}
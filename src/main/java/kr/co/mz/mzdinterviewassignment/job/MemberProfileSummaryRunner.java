@@ -0,0 +1,46 @@
+package kr.co.mz.mzdinterviewassignment.job;
+
+import kr.co.mz.mzdinterviewassignment.service.MemberProfileSummaryService;
+import kr.co.mz.mzdinterviewassignment.service.MemberService;
+import kr.co.mz.mzdinterviewassignment.service.ProfileSummaryCheckResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "member.profile-summary.check", havingValue = "true")
+public class MemberProfileSummaryRunner implements ApplicationRunner {
+
+    private final MemberProfileSummaryService memberProfileSummaryService;
+
+    @Value("${member.profile-summary.repair:false}")
+    private boolean repair;
+
+    @Value("${member.profile-summary.chunk-size:1000}")
+    private int chunkSize;
+
+    @Override
+    public void run(final ApplicationArguments args) {
+        log.info("회원 프로필 요약 정보 점검 시작, 복구 여부 : {}", repair);
+
+        long checkedCount = 0;
+        long mismatchCount = 0;
+        Long cursor = MemberService.FIRST_CURSOR;
+        while (cursor != null) {
+            ProfileSummaryCheckResult result =
+                memberProfileSummaryService.check(cursor, chunkSize, repair);
+            checkedCount += result.getCheckedCount();
+            mismatchCount += result.getMismatchCount();
+            cursor = result.getNextCursor();
+        }
+
+        log.info("회원 프로필 요약 정보 점검 완료, 점검 회원 수 : {}, 불일치 회원 수 : {}", checkedCount,
+            mismatchCount);
+    }
+}
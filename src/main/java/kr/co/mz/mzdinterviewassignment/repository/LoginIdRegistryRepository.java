@@ -0,0 +1,47 @@
+package kr.co.mz.mzdinterviewassignment.repository;
+
+import io.micrometer.core.annotation.Timed;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import kr.co.mz.mzdinterviewassignment.domain.member.Member;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+@Timed(value = "member.repository", histogram = true)
+@Repository
+public class LoginIdRegistryRepository {
+
+    private static final String REGISTER_SQL = """
+        insert into login_id_registry (login_id, member_no, created_at)
+        values (:loginId, :memberNo, :createdAt)
+        """;
+
+    private static final String REGISTER_MISSING_SQL = """
+        insert into login_id_registry (login_id, member_no, created_at)
+        select login_id, member_no, created_at from %s source
+        where not exists (select 1 from login_id_registry registry
+                          where registry.login_id = source.login_id)
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public LoginIdRegistryRepository(final NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void register(final Collection<Member> members) {
+        LocalDateTime createdAt = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(REGISTER_SQL, members.stream()
+            .map(member -> new MapSqlParameterSource()
+                .addValue("loginId", member.getLoginId())
+                .addValue("memberNo", member.getMemberNo())
+                .addValue("createdAt", createdAt))
+            .toArray(SqlParameterSource[]::new));
+    }
+
+    public int registerMissing(final String table) {
+        return jdbcTemplate.getJdbcTemplate().update(String.format(REGISTER_MISSING_SQL, table));
+    }
+}
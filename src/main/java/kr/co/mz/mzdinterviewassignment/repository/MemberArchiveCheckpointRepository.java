@@ -0,0 +1,14 @@
+package kr.co.mz.mzdinterviewassignment.repository;
+
+import jakarta.persistence.LockModeType;
+import java.util.Optional;
+import kr.co.mz.mzdinterviewassignment.domain.member.MemberArchiveCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+
+public interface MemberArchiveCheckpointRepository
+    extends JpaRepository<MemberArchiveCheckpoint, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<MemberArchiveCheckpoint> findByJobName(final String jobName);
+}
@@ -0,0 +1,94 @@
+package kr.co.mz.mzdinterviewassignment.repository;
+
+import io.micrometer.core.annotation.Timed;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Timed(value = "member.repository", histogram = true)
+@Repository
+public class MemberArchiveRepository {
+
+    private static final String FIND_DELETED_MEMBER_NOS_SQL = """
+        select member_no from member_tbl
+        where member_status = 'DELETED' and member_no > :after
+        order by member_no
+        limit :size
+        """;
+
+    private static final String FIND_PROFILE_NOS_SQL = """
+        select profile_no from profile_tbl where member_no in (:memberNos)
+        """;
+
+    private static final String ARCHIVE_PROFILES_SQL = """
+        insert into profile_archive (profile_no, nickname, phone_number, address, profile_status,
+                                     version, member_no, created_at, updated_at, archived_at)
+        select profile_no, nickname, phone_number, address, profile_status,
+               version, member_no, created_at, updated_at, :archivedAt
+        from profile_tbl
+        where member_no in (:memberNos)
+        """;
+
+    private static final String DELETE_PROFILES_SQL = """
+        delete from profile_tbl where member_no in (:memberNos)
+        """;
+
+    private static final String ARCHIVE_MEMBERS_SQL = """
+        insert into member_archive (member_no, login_id, name, password, member_status,
+                                    main_profile_no, profile_count, version, created_at,
+                                    updated_at, archived_at)
+        select member_no, login_id, name, password, member_status,
+               main_profile_no, profile_count, version, created_at,
+               updated_at, :archivedAt
+        from member_tbl
+        where member_no in (:memberNos) and member_status = 'DELETED'
+        """;
+
+    private static final String DELETE_MEMBERS_SQL = """
+        delete from member_tbl where member_no in (:memberNos) and member_status = 'DELETED'
+        """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public MemberArchiveRepository(final NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<Long> findDeletedMemberNos(final Long after, final int size) {
+        return jdbcTemplate.queryForList(FIND_DELETED_MEMBER_NOS_SQL,
+            Map.of("after", after, "size", size), Long.class);
+    }
+
+    public List<Long> findProfileNos(final Collection<Long> memberNos) {
+        return jdbcTemplate.queryForList(FIND_PROFILE_NOS_SQL, Map.of("memberNos", memberNos),
+            Long.class);
+    }
+
+    public int archiveProfiles(final Collection<Long> memberNos, final LocalDateTime archivedAt) {
+        int archivedCount = jdbcTemplate.update(ARCHIVE_PROFILES_SQL,
+            Map.of("memberNos", memberNos, "archivedAt", archivedAt));
+        int deletedCount = jdbcTemplate.update(DELETE_PROFILES_SQL, Map.of("memberNos", memberNos));
+        verifyMoved("프로필", archivedCount, deletedCount);
+        return archivedCount;
+    }
+
+    public int archiveMembers(final Collection<Long> memberNos, final LocalDateTime archivedAt) {
+        int archivedCount = jdbcTemplate.update(ARCHIVE_MEMBERS_SQL,
+            Map.of("memberNos", memberNos, "archivedAt", archivedAt));
+        int deletedCount = jdbcTemplate.update(DELETE_MEMBERS_SQL, Map.of("memberNos", memberNos));
+        verifyMoved("회원", archivedCount, deletedCount);
+        return archivedCount;
+    }
+
+    private static void verifyMoved(final String target, final int archivedCount,
+                                    final int deletedCount) {
+        if (archivedCount != deletedCount) {
+            throw new IllegalStateException(String.format(
+                "보관한 %s 수(%d)와 삭제한 %s 수(%d)가 다릅니다.", target, archivedCount, target,
+                deletedCount));
+        }
+    }
+}
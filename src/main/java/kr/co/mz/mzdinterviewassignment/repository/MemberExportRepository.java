@@ -0,0 +1,68 @@
+package kr.co.mz.mzdinterviewassignment.repository;
+
+import io.micrometer.core.annotation.Timed;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+import kr.co.mz.mzdinterviewassignment.domain.member.MemberStatus;
+import kr.co.mz.mzdinterviewassignment.domain.profile.ProfileStatus;
+import kr.co.mz.mzdinterviewassignment.dto.response.member.MemberExportRow;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Timed(value = "member.repository", histogram = true)
+@Repository
+public class MemberExportRepository {
+
+    private static final String EXPORT_ACTIVE_MEMBERS_SQL = """
+        select m.member_no, m.login_id, m.name, m.member_status, m.created_at, m.updated_at,
+               p.profile_no, p.nickname, p.phone_number, p.address, p.profile_status
+        from member_tbl m
+        left join profile_tbl p
+               on p.profile_no = coalesce(m.main_profile_no,
+                   (select min(fp.profile_no) from profile_tbl fp where fp.member_no = m.member_no))
+        where m.member_status = 'ACTIVE'
+        order by m.member_no
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int fetchSize;
+
+    public MemberExportRepository(final JdbcTemplate jdbcTemplate,
+                                  @Value("${member.export.fetch-size:1000}") final int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.fetchSize = fetchSize;
+    }
+
+    public void streamActiveMembers(final Consumer<MemberExportRow> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(EXPORT_ACTIVE_MEMBERS_SQL,
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            return statement;
+        }, resultSet -> {
+            consumer.accept(toRow(resultSet));
+        });
+    }
+
+    private static MemberExportRow toRow(final ResultSet resultSet) throws SQLException {
+        String profileStatus = resultSet.getString("profile_status");
+
+        return MemberExportRow.builder()
+            .memberNo(resultSet.getLong("member_no"))
+            .loginId(resultSet.getString("login_id"))
+            .name(resultSet.getString("name"))
+            .memberStatus(MemberStatus.valueOf(resultSet.getString("member_status")))
+            .createdAt(resultSet.getObject("created_at", LocalDateTime.class))
+            .updatedAt(resultSet.getObject("updated_at", LocalDateTime.class))
+            .profileNo(resultSet.getObject("profile_no", Long.class))
+            .nickname(resultSet.getString("nickname"))
+            .phoneNumber(resultSet.getString("phone_number"))
+            .address(resultSet.getString("address"))
+            .profileStatus(profileStatus == null ? null : ProfileStatus.from(profileStatus))
+            .build();
+    }
+}
@@ -0,0 +1,16 @@
+package kr.co.mz.mzdinterviewassignment.repository;
+
+import java.util.Collection;
+import kr.co.mz.mzdinterviewassignment.domain.member.MemberNameGram;
+import kr.co.mz.mzdinterviewassignment.domain.member.MemberNameGramId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface MemberNameGramRepository extends JpaRepository<MemberNameGram, MemberNameGramId> {
+
+    @Modifying
+    @Query("delete from MemberNameGram g where g.memberNo in :memberNos")
+    void deleteAllByMemberNoIn(@Param("memberNos") final Collection<Long> memberNos);
+}
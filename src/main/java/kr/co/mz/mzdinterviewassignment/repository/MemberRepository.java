@@ -1,14 +1,128 @@
 package kr.co.mz.mzdinterviewassignment.repository;
 
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import kr.co.mz.mzdinterviewassignment.domain.member.Member;
-import org.springframework.data.domain.Page;
+import kr.co.mz.mzdinterviewassignment.dto.response.member.MemberDetailsVersion;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Member> findByLoginId(final String loginId);
 
-    Page<Member> findMembersByNameContaining(final String name, final Pageable pageable);
+    @Query(value = """
+        select login_id from login_id_registry where login_id in (:loginIds)
+        """, nativeQuery = true)
+    List<String> findAllLoginIdsIncludingDeleted(
+        @Param("loginIds") final Collection<String> loginIds);
+
+    @Query(value = """
+        select count(*) from login_id_registry where login_id = :loginId
+        """, nativeQuery = true)
+    long countByLoginIdIncludingDeleted(@Param("loginId") final String loginId);
+
+    @Query("""
+        select new kr.co.mz.mzdinterviewassignment.dto.response.member.MemberDetailsVersion(
+            m.version, coalesce(sum(p.version), 0), m.updatedAt, max(p.updatedAt))
+        from Member m
+        left join Profile p on p.member = m
+        where m.memberNo = :memberNo
+        group by m.memberNo, m.version, m.updatedAt
+        """)
+    Optional<MemberDetailsVersion> findMemberDetailsVersion(@Param("memberNo") final Long memberNo);
+
+    @Query(value = """
+        select max(updated_at) from (
+            select max(updated_at) as updated_at from member_tbl
+            union all
+            select max(updated_at) as updated_at from profile_tbl
+            union all
+            select max(updated_at) as updated_at from member_archive
+            union all
+            select max(updated_at) as updated_at from profile_archive
+        ) last_modified
+        """, nativeQuery = true)
+    Optional<LocalDateTime> findLastModifiedAtIncludingDeleted();
+
+    Slice<Member> findMembersByMemberNoGreaterThan(final Long memberNo, final Pageable pageable);
+
+    @Query("""
+        select m from Member m
+        where m.memberNo > :memberNo
+        and not exists (select g.memberNo from MemberNameGram g where g.memberNo = m.memberNo)
+        """)
+    Slice<Member> findMembersWithoutNameGram(@Param("memberNo") final Long memberNo,
+                                             final Pageable pageable);
+
+    Slice<Member> findMembersByNameContaining(final String name, final Pageable pageable);
+
+    long countByNameContaining(final String name);
+
+    Slice<Member> findMembersByNameContainingAndMemberNoGreaterThan(final String name,
+                                                                    final Long memberNo,
+                                                                    final Pageable pageable);
+
+    @Query("""
+        select m from Member m
+        where m.memberNo in (select g.memberNo from MemberNameGram g
+                             where g.gram in :grams
+                             group by g.memberNo
+                             having count(g.gram) = :gramCount)
+        and m.name like concat('%', :name, '%') escape '!'
+        """)
+    Slice<Member> findMembersByNameGram(@Param("name") final String name,
+                                        @Param("grams") final Collection<String> grams,
+                                        @Param("gramCount") final long gramCount,
+                                        final Pageable pageable);
+
+    @Query("""
+        select count(m) from Member m
+        where m.memberNo in (select g.memberNo from MemberNameGram g
+                             where g.gram in :grams
+                             group by g.memberNo
+                             having count(g.gram) = :gramCount)
+        and m.name like concat('%', :name, '%') escape '!'
+        """)
+    long countMembersByNameGram(@Param("name") final String name,
+                                @Param("grams") final Collection<String> grams,
+                                @Param("gramCount") final long gramCount);
+
+    @Query("""
+        select m from Member m
+        where m.memberNo in (select g.memberNo from MemberNameGram g
+                             where g.gram in :grams
+                             group by g.memberNo
+                             having count(g.gram) = :gramCount)
+        and m.name like concat('%', :name, '%') escape '!'
+        and m.memberNo > :memberNo
+        """)
+    Slice<Member> findMembersByNameGramAndMemberNoGreaterThan(
+        @Param("name") final String name,
+        @Param("grams") final Collection<String> grams,
+        @Param("gramCount") final long gramCount,
+        @Param("memberNo") final Long memberNo,
+        final Pageable pageable);
+
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        update Member m
+        set m.mainProfileNo = (select min(p.profileNo) from Profile p
+                               where p.member = m
+                               and p.profileStatus =
+                                   kr.co.mz.mzdinterviewassignment.domain.profile.ProfileStatus.MAIN),
+            m.profileCount = (select count(p) from Profile p where p.member = m)
+        where m.memberNo in :memberNos
+        """)
+    int updateProfileSummaries(@Param("memberNos") final Collection<Long> memberNos);
 }
@@ -1,15 +1,59 @@
 package kr.co.mz.mzdinterviewassignment.repository;
 
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import kr.co.mz.mzdinterviewassignment.domain.member.Member;
 import kr.co.mz.mzdinterviewassignment.domain.profile.Profile;
 import kr.co.mz.mzdinterviewassignment.domain.profile.ProfileStatus;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 public interface ProfileRepository extends JpaRepository<Profile, Long> {
     Optional<Profile> findProfileByMemberAndProfileStatus(final Member member,
                                                           final ProfileStatus profileStatus);
 
+    Optional<Profile> findFirstByMemberOrderByProfileNoAsc(final Member member);
+
+    @Query("""
+        select p.profileNo from Profile p
+        where p.member = :member and p.profileStatus = :profileStatus
+        order by p.profileNo asc
+        limit 1
+        """)
+    Optional<Long> findFirstProfileNoByMemberAndProfileStatus(
+        @Param("member") final Member member,
+        @Param("profileStatus") final ProfileStatus profileStatus);
+
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "profile_tbl"))
+    @Query(value = """
+        update profile_tbl
+        set profile_status = 'NORMAL', version = version + 1, updated_at = :updatedAt
+        where member_no = :memberNo and profile_status = 'MAIN'
+        """, nativeQuery = true)
+    int demoteMainProfile(@Param("memberNo") final Long memberNo,
+                          @Param("updatedAt") final LocalDateTime updatedAt);
+
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "profile_tbl"))
+    @Query(value = """
+        update profile_tbl
+        set profile_status = 'MAIN', version = version + 1, updated_at = :updatedAt
+        where member_no = :memberNo and profile_no = :profileNo
+        """, nativeQuery = true)
+    int promoteProfile(@Param("memberNo") final Long memberNo,
+                       @Param("profileNo") final Long profileNo,
+                       @Param("updatedAt") final LocalDateTime updatedAt);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Profile> findAllByMember(final Member member);
+
+    List<Profile> findAllByMemberInOrderByProfileNoAsc(final Collection<Member> members);
 }
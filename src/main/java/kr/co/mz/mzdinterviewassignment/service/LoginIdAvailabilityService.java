@@ -0,0 +1,80 @@
+package kr.co.mz.mzdinterviewassignment.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.time.Duration;
+import kr.co.mz.mzdinterviewassignment.dto.request.validation.RequestFormats;
+import kr.co.mz.mzdinterviewassignment.exception.member.InvalidLoginIdException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Service
+public class LoginIdAvailabilityService {
+    private final MemberService memberService;
+    private final Cache<String, Boolean> availabilities;
+
+    public LoginIdAvailabilityService(final MemberService memberService,
+                                      @Value("${member.login-id-availability.ttl-seconds:10}") final long ttlSeconds,
+                                      @Value("${member.login-id-availability.max-entries:10000}") final int maxEntries) {
+        this.memberService = memberService;
+        this.availabilities = Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .expireAfter(new AvailableLoginIdExpiry(Duration.ofSeconds(Math.max(0, ttlSeconds))))
+            .build();
+    }
+
+    public boolean isAvailable(final String loginId) {
+        if (loginId == null || !RequestFormats.isLoginId(loginId)) {
+            throw new InvalidLoginIdException(loginId);
+        }
+
+        return availabilities.get(loginId, this::load);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void evict(final MemberCreatedEvent event) {
+        availabilities.invalidateAll(event.getLoginIds());
+    }
+
+    long cachedCount() {
+        availabilities.cleanUp();
+        return availabilities.estimatedSize();
+    }
+
+    private Boolean load(final String loginId) {
+        log.info("아이디 {} 사용 가능 여부 캐시 없음, 직접 조회", loginId);
+        return !memberService.existsLoginId(loginId);
+    }
+
+    private static class AvailableLoginIdExpiry implements Expiry<String, Boolean> {
+
+        private final long ttlNanos;
+
+        AvailableLoginIdExpiry(final Duration ttl) {
+            this.ttlNanos = ttl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(final String loginId, final Boolean available,
+                                      final long currentTime) {
+            return available ? ttlNanos : Long.MAX_VALUE;
+        }
+
+        @Override
+        public long expireAfterUpdate(final String loginId, final Boolean available,
+                                      final long currentTime, final long currentDuration) {
+            return expireAfterCreate(loginId, available, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(final String loginId, final Boolean available,
+                                    final long currentTime, final long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
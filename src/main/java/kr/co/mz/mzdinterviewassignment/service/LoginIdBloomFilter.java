@@ -0,0 +1,133 @@
+package kr.co.mz.mzdinterviewassignment.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@DependsOn("loginIdRegistryInitializer")
+public class LoginIdBloomFilter implements InitializingBean {
+
+    private static final int MAX_WORD_COUNT = Integer.MAX_VALUE - 8;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long expectedInsertions;
+    private final int loadPageSize;
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+    private final AtomicLong insertions = new AtomicLong();
+
+    public LoginIdBloomFilter(final JdbcTemplate jdbcTemplate,
+                              @Value("${member.login-id-filter.expected-insertions:1000000}") final long expectedInsertions,
+                              @Value("${member.login-id-filter.false-positive-rate:0.01}") final double falsePositiveRate,
+                              @Value("${member.login-id-filter.load-page-size:10000}") final int loadPageSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.expectedInsertions = expectedInsertions;
+        this.loadPageSize = loadPageSize;
+
+        double optimalBitSize = Math.ceil(
+            -expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        double wordCount = Math.max(1, Math.ceil(optimalBitSize / Long.SIZE));
+        if (wordCount > MAX_WORD_COUNT) {
+            throw new IllegalStateException(String.format(
+                "회원 아이디 필터 크기(%.0f 비트)가 최대 크기(%d 비트)를 넘습니다. 예상 아이디 수와 오탐률 설정을 확인하세요.",
+                optimalBitSize, (long) MAX_WORD_COUNT * Long.SIZE));
+        }
+        this.bits = new AtomicLongArray((int) wordCount);
+        this.bitSize = (long) wordCount * Long.SIZE;
+        this.hashCount = Math.max(1,
+            (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        String lastLoginId = "";
+        List<String> loginIds;
+        do {
+            loginIds = jdbcTemplate.queryForList("""
+                    select login_id from login_id_registry
+                    where login_id > ?
+                    order by login_id
+                    limit ?
+                    """, String.class, lastLoginId, loadPageSize);
+            loginIds.forEach(this::put);
+            if (!loginIds.isEmpty()) {
+                lastLoginId = loginIds.get(loginIds.size() - 1);
+            }
+        } while (loginIds.size() == loadPageSize);
+
+        log.info("회원 아이디 필터 적재 완료, 아이디 수 : {}", insertions.get());
+        warnIfSaturated();
+    }
+
+    public boolean mightContain(final String loginId) {
+        long firstHash = hash(loginId);
+        long secondHash = mix(firstHash ^ 0x9e3779b97f4a7c15L) | 1L;
+
+        for (int i = 1; i <= hashCount; i++) {
+            long bitIndex = bitIndex(firstHash + i * secondHash);
+            if ((bits.get((int) (bitIndex >>> 6)) & (1L << bitIndex)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void put(final String loginId) {
+        long firstHash = hash(loginId);
+        long secondHash = mix(firstHash ^ 0x9e3779b97f4a7c15L) | 1L;
+
+        for (int i = 1; i <= hashCount; i++) {
+            long bitIndex = bitIndex(firstHash + i * secondHash);
+            int wordIndex = (int) (bitIndex >>> 6);
+            long mask = 1L << bitIndex;
+
+            long word;
+            do {
+                word = bits.get(wordIndex);
+            } while ((word & mask) == 0 && !bits.compareAndSet(wordIndex, word, word | mask));
+        }
+
+        if (insertions.incrementAndGet() == expectedInsertions + 1) {
+            warnIfSaturated();
+        }
+    }
+
+    private long bitIndex(final long combinedHash) {
+        return Math.floorMod(combinedHash, bitSize);
+    }
+
+    private void warnIfSaturated() {
+        if (insertions.get() > expectedInsertions) {
+            log.warn("회원 아이디 필터에 예상({})보다 많은 아이디가 적재되어 오탐률이 높아집니다.",
+                expectedInsertions);
+        }
+    }
+
+    private static long hash(final String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb53a6ad0bd0fL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
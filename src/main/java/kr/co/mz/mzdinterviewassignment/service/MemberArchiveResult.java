@@ -0,0 +1,16 @@
+package kr.co.mz.mzdinterviewassignment.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class MemberArchiveResult {
+    private final Long nextCursor;
+    private final int archivedMemberCount;
+    private final int archivedProfileCount;
+
+    public int getArchivedRowCount() {
+        return archivedMemberCount + archivedProfileCount;
+    }
+}
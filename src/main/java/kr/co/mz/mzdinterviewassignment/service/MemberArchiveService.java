@@ -0,0 +1,70 @@
+package kr.co.mz.mzdinterviewassignment.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+import kr.co.mz.mzdinterviewassignment.domain.member.Member;
+import kr.co.mz.mzdinterviewassignment.domain.member.MemberArchiveCheckpoint;
+import kr.co.mz.mzdinterviewassignment.domain.profile.Profile;
+import kr.co.mz.mzdinterviewassignment.repository.MemberArchiveCheckpointRepository;
+import kr.co.mz.mzdinterviewassignment.repository.MemberArchiveRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MemberArchiveService {
+    public static final String JOB_NAME = "member-archive";
+
+    private final MemberArchiveRepository memberArchiveRepository;
+    private final MemberArchiveCheckpointRepository memberArchiveCheckpointRepository;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Transactional
+    public MemberArchiveResult archive(final int size) {
+        MemberArchiveCheckpoint checkpoint =
+            memberArchiveCheckpointRepository.findByJobName(JOB_NAME)
+                .orElseGet(() -> memberArchiveCheckpointRepository.save(
+                    new MemberArchiveCheckpoint(JOB_NAME)));
+        Long after = checkpoint.getLastMemberNo();
+        log.info("회원 식별 번호 {} 이후 탈퇴 회원 {} 명 보관 시작", after, size);
+
+        List<Long> memberNos = memberArchiveRepository.findDeletedMemberNos(after, size);
+        if (memberNos.isEmpty()) {
+            checkpoint.reset();
+            return new MemberArchiveResult(null, 0, 0);
+        }
+
+        LocalDateTime archivedAt = LocalDateTime.now();
+        List<Long> profileNos = memberArchiveRepository.findProfileNos(memberNos);
+        int archivedProfileCount = memberArchiveRepository.archiveProfiles(memberNos, archivedAt);
+        int archivedMemberCount = memberArchiveRepository.archiveMembers(memberNos, archivedAt);
+        evictSecondLevelCache(memberNos, profileNos);
+
+        Long lastMemberNo = memberNos.get(memberNos.size() - 1);
+        boolean hasNext = memberNos.size() == size;
+        if (hasNext) {
+            checkpoint.moveTo(lastMemberNo);
+        } else {
+            checkpoint.reset();
+        }
+
+        log.info("탈퇴 회원 {} 명, 프로필 {} 개 보관 완료, 마지막 회원 식별 번호 : {}",
+            archivedMemberCount, archivedProfileCount, lastMemberNo);
+        return new MemberArchiveResult(hasNext ? lastMemberNo : null, archivedMemberCount,
+            archivedProfileCount);
+    }
+
+    private void evictSecondLevelCache(final List<Long> memberNos, final List<Long> profileNos) {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        memberNos.forEach(memberNo -> cache.evictEntityData(Member.class, memberNo));
+        profileNos.forEach(profileNo -> cache.evictEntityData(Profile.class, profileNo));
+        cache.evictQueryRegions();
+    }
+}
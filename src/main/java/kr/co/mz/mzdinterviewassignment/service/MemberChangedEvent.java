@@ -0,0 +1,10 @@
+package kr.co.mz.mzdinterviewassignment.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class MemberChangedEvent {
+    private final Long memberNo;
+}
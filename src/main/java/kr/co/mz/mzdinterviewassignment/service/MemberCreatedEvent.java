@@ -0,0 +1,12 @@
+package kr.co.mz.mzdinterviewassignment.service;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class MemberCreatedEvent {
+    private final List<String> loginIds;
+    private final List<Long> memberNos;
+}
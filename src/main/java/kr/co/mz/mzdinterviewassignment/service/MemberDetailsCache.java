@@ -0,0 +1,67 @@
+package kr.co.mz.mzdinterviewassignment.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.function.Function;
+import kr.co.mz.mzdinterviewassignment.dto.response.cache.CacheRegionStatsResponse;
+import kr.co.mz.mzdinterviewassignment.dto.response.member.MemberDetailsResponse;
+import kr.co.mz.mzdinterviewassignment.facade.MemberLockMode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Slf4j
+@Component
+public class MemberDetailsCache {
+    public static final String REGION_NAME = "member-details";
+
+    private final Cache<Long, MemberDetailsResponse> details;
+    private final boolean enabled;
+
+    public MemberDetailsCache(@Value("${member.lock.mode:LOCAL}") final MemberLockMode lockMode,
+                              @Value("${member.details-cache.max-weight:100000}") final long maxWeight,
+                              @Value("${member.details-cache.ttl-seconds:300}") final long ttlSeconds) {
+        this.enabled = lockMode != MemberLockMode.ADVISORY;
+        if (!enabled) {
+            log.info("여러 노드가 함께 쓰는 {} 잠금 모드에서는 노드별 회원 상세 정보 캐시를 사용하지 않음",
+                lockMode);
+        }
+        this.details = Caffeine.newBuilder()
+            .maximumWeight(maxWeight)
+            .weigher((Long memberNo, MemberDetailsResponse response) ->
+                1 + response.getProfiles().size())
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .recordStats()
+            .build();
+    }
+
+    public MemberDetailsResponse get(final Long memberNo,
+                                     final Function<Long, MemberDetailsResponse> loader) {
+        if (!enabled || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return loader.apply(memberNo);
+        }
+        return details.get(memberNo, loader);
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void evict(final MemberChangedEvent event) {
+        invalidate(event.getMemberNo());
+    }
+
+    public void invalidate(final Long memberNo) {
+        log.debug("회원 식별 번호 {} 의 상세 정보 캐시 제거", memberNo);
+        details.invalidate(memberNo);
+    }
+
+    public CacheRegionStatsResponse getStats() {
+        return CacheRegionStatsResponse.generateCacheRegionStats(REGION_NAME,
+            details.estimatedSize(), details.stats());
+    }
+}
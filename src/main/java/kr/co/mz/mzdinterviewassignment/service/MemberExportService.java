@@ -0,0 +1,144 @@
+package kr.co.mz.mzdinterviewassignment.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+import kr.co.mz.mzdinterviewassignment.dto.request.member.MemberExportFormat;
+import kr.co.mz.mzdinterviewassignment.dto.response.member.MemberExportRow;
+import kr.co.mz.mzdinterviewassignment.repository.MemberExportRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberExportService {
+    private static final String CSV_HEADER = "memberNo,loginId,name,memberStatus,createdAt,updatedAt,"
+        + "profileNo,nickname,phoneNumber,address,profileStatus";
+
+    private final MemberExportRepository memberExportRepository;
+    private final ObjectMapper objectMapper;
+
+    public long export(final MemberExportFormat format, final OutputStream outputStream) {
+        log.info("회원 내보내기 시작, 형식 : {}", format);
+
+        Writer writer = new BufferedWriter(
+            new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        long count;
+        try {
+            count = switch (format) {
+                case NDJSON -> exportNdjson(writer);
+                case CSV -> exportCsv(writer);
+            };
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        log.info("회원 내보내기 완료, 회원 수 : {}", count);
+        return count;
+    }
+
+    private long exportNdjson(final Writer writer) throws IOException {
+        long[] count = {0};
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(writer)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            memberExportRepository.streamActiveMembers(row -> {
+                try {
+                    writeJson(generator, row);
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                count[0]++;
+            });
+        }
+        return count[0];
+    }
+
+    private long exportCsv(final Writer writer) throws IOException {
+        long[] count = {0};
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        memberExportRepository.streamActiveMembers(row -> {
+            try {
+                writeCsv(writer, row);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            count[0]++;
+        });
+        return count[0];
+    }
+
+    private static void writeJson(final JsonGenerator generator, final MemberExportRow row)
+        throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("memberNo", row.getMemberNo());
+        generator.writeStringField("loginId", row.getLoginId());
+        generator.writeStringField("name", row.getName());
+        generator.writeStringField("memberStatus", row.getMemberStatus().name());
+        generator.writeStringField("createdAt", formatDateTime(row.getCreatedAt()));
+        generator.writeStringField("updatedAt", formatDateTime(row.getUpdatedAt()));
+
+        if (row.getProfileNo() == null) {
+            generator.writeNullField("mainProfile");
+        } else {
+            generator.writeObjectFieldStart("mainProfile");
+            generator.writeNumberField("profileNo", row.getProfileNo());
+            generator.writeStringField("nickname", row.getNickname());
+            generator.writeStringField("phoneNumber", row.getPhoneNumber());
+            generator.writeStringField("address", row.getAddress());
+            generator.writeStringField("profileStatus", row.getProfileStatus().name());
+            generator.writeEndObject();
+        }
+        generator.writeEndObject();
+    }
+
+    private static void writeCsv(final Writer writer, final MemberExportRow row)
+        throws IOException {
+        writer.write(String.valueOf(row.getMemberNo()));
+        writeCsvField(writer, row.getLoginId());
+        writeCsvField(writer, row.getName());
+        writeCsvField(writer, row.getMemberStatus().name());
+        writeCsvField(writer, formatDateTime(row.getCreatedAt()));
+        writeCsvField(writer, formatDateTime(row.getUpdatedAt()));
+        writeCsvField(writer, Objects.toString(row.getProfileNo(), null));
+        writeCsvField(writer, row.getNickname());
+        writeCsvField(writer, row.getPhoneNumber());
+        writeCsvField(writer, row.getAddress());
+        writeCsvField(writer, row.getProfileStatus() == null ? null : row.getProfileStatus().name());
+        writer.write('\n');
+    }
+
+    private static String formatDateTime(final LocalDateTime dateTime) {
+        return dateTime == null ? null : DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(dateTime);
+    }
+
+    private static void writeCsvField(final Writer writer, final String value) throws IOException {
+        writer.write(',');
+        if (value == null) {
+            return;
+        }
+
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+            && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,95 @@
+package kr.co.mz.mzdinterviewassignment.service;
+
+import java.util.Collections;
+import java.util.List;
+import kr.co.mz.mzdinterviewassignment.domain.member.Member;
+import kr.co.mz.mzdinterviewassignment.domain.member.MemberNameGram;
+import kr.co.mz.mzdinterviewassignment.repository.MemberNameGramRepository;
+import kr.co.mz.mzdinterviewassignment.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MemberNameGramService {
+
+    private final MemberRepository memberRepository;
+    private final MemberNameGramRepository memberNameGramRepository;
+
+    private volatile boolean indexed;
+
+    public boolean isIndexed() {
+        return indexed;
+    }
+
+    public void markIndexed() {
+        log.info("회원 이름 검색 색인 사용 시작");
+        this.indexed = true;
+    }
+
+    @Transactional
+    public void index(final Member member) {
+        log.info("회원 식별 번호 {} 의 이름 검색 색인 생성", member.getMemberNo());
+        memberNameGramRepository.saveAll(MemberNameGram.generateGrams(member));
+    }
+
+    @Transactional
+    public void indexAll(final List<Member> members) {
+        log.info("회원 {} 명의 이름 검색 색인 생성", members.size());
+        memberNameGramRepository.saveAll(generateGrams(members));
+    }
+
+    @Transactional
+    public void remove(final Long memberNo) {
+        log.info("회원 식별 번호 {} 의 이름 검색 색인 삭제", memberNo);
+        memberNameGramRepository.deleteAllByMemberNoIn(Collections.singletonList(memberNo));
+    }
+
+    @Transactional
+    public Long indexMissing(final Long after, final int size) {
+        log.info("회원 식별 번호 {} 이후 이름 검색 색인이 없는 회원 {} 명 색인", after, size);
+
+        Slice<Member> members = memberRepository.findMembersWithoutNameGram(after,
+            PageRequest.of(0, size, Sort.by(Sort.Direction.ASC, "memberNo")));
+
+        if (members.isEmpty()) {
+            return null;
+        }
+
+        memberNameGramRepository.saveAll(generateGrams(members.getContent()));
+        return members.hasNext() ? lastMemberNo(members) : null;
+    }
+
+    @Transactional
+    public Long rebuild(final Long after, final int size) {
+        log.info("회원 식별 번호 {} 이후 회원 {} 명의 이름 검색 색인 재구축", after, size);
+
+        Slice<Member> members = memberRepository.findMembersByMemberNoGreaterThan(after,
+            PageRequest.of(0, size, Sort.by(Sort.Direction.ASC, "memberNo")));
+
+        if (members.isEmpty()) {
+            return null;
+        }
+
+        memberNameGramRepository.deleteAllByMemberNoIn(members.map(Member::getMemberNo).toList());
+        memberNameGramRepository.saveAll(generateGrams(members.getContent()));
+        return members.hasNext() ? lastMemberNo(members) : null;
+    }
+
+    private static List<MemberNameGram> generateGrams(final List<Member> members) {
+        return members.stream()
+            .flatMap(member -> MemberNameGram.generateGrams(member).stream())
+            .toList();
+    }
+
+    private static Long lastMemberNo(final Slice<Member> members) {
+        return members.getContent().get(members.getNumberOfElements() - 1).getMemberNo();
+    }
+}
@@ -0,0 +1,81 @@
+package kr.co.mz.mzdinterviewassignment.service;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import kr.co.mz.mzdinterviewassignment.domain.member.Member;
+import kr.co.mz.mzdinterviewassignment.domain.profile.Profile;
+import kr.co.mz.mzdinterviewassignment.domain.profile.ProfileStatus;
+import kr.co.mz.mzdinterviewassignment.repository.MemberRepository;
+import kr.co.mz.mzdinterviewassignment.repository.ProfileRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MemberProfileSummaryService {
+
+    private final MemberRepository memberRepository;
+    private final ProfileRepository profileRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public ProfileSummaryCheckResult check(final Long after, final int size, final boolean repair) {
+        log.info("회원 식별 번호 {} 이후 회원 {} 명의 프로필 요약 정보 점검", after, size);
+
+        PageRequest pageRequest =
+            PageRequest.of(0, size, Sort.by(Sort.Direction.ASC, "memberNo"));
+        Slice<Member> members = memberRepository.findMembersByMemberNoGreaterThan(after, pageRequest);
+
+        if (members.isEmpty()) {
+            return new ProfileSummaryCheckResult(null, 0, 0);
+        }
+
+        Map<Long, List<Profile>> profilesByMemberNo =
+            profileRepository.findAllByMemberInOrderByProfileNoAsc(members.getContent())
+                .stream()
+                .collect(Collectors.groupingBy(profile -> profile.getMember().getMemberNo()));
+
+        int mismatchCount = 0;
+        for (Member member : members) {
+            List<Profile> profiles =
+                profilesByMemberNo.getOrDefault(member.getMemberNo(), Collections.emptyList());
+
+            Long mainProfileNo = profiles.stream()
+                .filter(profile -> Objects.equals(profile.getProfileStatus(), ProfileStatus.MAIN))
+                .map(Profile::getProfileNo)
+                .findFirst()
+                .orElse(null);
+
+            if (member.hasProfileSummary(mainProfileNo, profiles.size())) {
+                continue;
+            }
+
+            mismatchCount++;
+            log.warn("회원 식별 번호 {} 의 프로필 요약 정보 불일치. 메인 프로필 : {} -> {}, 프로필 개수 : {} -> {}",
+                member.getMemberNo(), member.getMainProfileNo(), mainProfileNo,
+                member.getProfileCount(), profiles.size());
+
+            if (repair) {
+                member.syncProfileSummary(mainProfileNo, profiles.size());
+                eventPublisher.publishEvent(new MemberChangedEvent(member.getMemberNo()));
+            }
+        }
+
+        Long nextCursor = members.hasNext()
+            ? members.getContent().get(members.getNumberOfElements() - 1).getMemberNo() : null;
+
+        return new ProfileSummaryCheckResult(nextCursor, members.getNumberOfElements(),
+            mismatchCount);
+    }
+}
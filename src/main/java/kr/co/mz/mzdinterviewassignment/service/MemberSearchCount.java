@@ -0,0 +1,29 @@
+package kr.co.mz.mzdinterviewassignment.service;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.Getter;
+
+@Getter
+public class MemberSearchCount {
+    private final long totalCount;
+    private final LocalDateTime countedAt;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    public MemberSearchCount(final long totalCount, final LocalDateTime countedAt) {
+        this.totalCount = totalCount;
+        this.countedAt = countedAt;
+    }
+
+    public boolean isExpired(final LocalDateTime now, final long ttlSeconds) {
+        return countedAt.plusSeconds(ttlSeconds).isBefore(now);
+    }
+
+    public boolean startRefresh() {
+        return refreshing.compareAndSet(false, true);
+    }
+
+    public void cancelRefresh() {
+        refreshing.set(false);
+    }
+}
@@ -0,0 +1,87 @@
+package kr.co.mz.mzdinterviewassignment.service;
+
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class MemberSearchCountCache {
+
+    private final MemberService memberService;
+    private final long ttlSeconds;
+    private final int maxEntries;
+    private final Map<String, MemberSearchCount> counts = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor refreshExecutor;
+
+    public MemberSearchCountCache(final MemberService memberService,
+                                  @Value("${member.search-count.ttl-seconds:60}") final long ttlSeconds,
+                                  @Value("${member.search-count.max-entries:1000}") final int maxEntries) {
+        this.memberService = memberService;
+        this.ttlSeconds = ttlSeconds;
+        this.maxEntries = maxEntries;
+        this.refreshExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(maxEntries), runnable -> {
+            Thread thread = new Thread(runnable, "member-search-count-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public MemberSearchCount getCount(final String name) {
+        MemberSearchCount cached = counts.get(name);
+        if (cached == null) {
+            log.info("이름 {} 검색 회원 수 캐시 없음, 직접 조회", name);
+            return load(name);
+        }
+
+        if (cached.isExpired(LocalDateTime.now(), ttlSeconds) && cached.startRefresh()) {
+            try {
+                refreshExecutor.execute(() -> refresh(name, cached));
+            } catch (RejectedExecutionException e) {
+                cached.cancelRefresh();
+            }
+        }
+        return cached;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private void refresh(final String name, final MemberSearchCount cached) {
+        try {
+            load(name);
+        } catch (RuntimeException e) {
+            log.warn("이름 {} 검색 회원 수 갱신 실패 : {}", name, e.getMessage());
+            cached.cancelRefresh();
+        }
+    }
+
+    private MemberSearchCount load(final String name) {
+        MemberSearchCount count = new MemberSearchCount(
+            memberService.countMembersContainName(name), LocalDateTime.now());
+
+        if (!counts.containsKey(name) && counts.size() >= maxEntries) {
+            evictOldest();
+        }
+        counts.put(name, count);
+        return count;
+    }
+
+    private void evictOldest() {
+        counts.entrySet().stream()
+            .min(Comparator.comparing(entry -> entry.getValue().getCountedAt()))
+            .ifPresent(entry -> counts.remove(entry.getKey(), entry.getValue()));
+    }
+}
@@ -1,42 +1,128 @@
 package kr.co.mz.mzdinterviewassignment.service;
 
+import io.micrometer.core.annotation.Timed;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import kr.co.mz.mzdinterviewassignment.domain.member.Member;
+import kr.co.mz.mzdinterviewassignment.domain.member.MemberNameGram;
 import kr.co.mz.mzdinterviewassignment.dto.request.member.CreateMemberRequest;
+import kr.co.mz.mzdinterviewassignment.dto.response.member.MemberDetailsVersion;
 import kr.co.mz.mzdinterviewassignment.exception.member.DuplicateLoginIdException;
 import kr.co.mz.mzdinterviewassignment.exception.member.NotFoundMemberException;
+import kr.co.mz.mzdinterviewassignment.repository.LoginIdRegistryRepository;
 import kr.co.mz.mzdinterviewassignment.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
+@Timed(value = "member.service", histogram = true)
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class MemberService {
+    public static final long FIRST_CURSOR = 0L;
 
     private final MemberRepository memberRepository;
+    private final LoginIdRegistryRepository loginIdRegistryRepository;
+    private final MemberNameGramService memberNameGramService;
+    private final LoginIdBloomFilter loginIdBloomFilter;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Member createMember(final CreateMemberRequest dto) {
         log.info("회원 생성 시작");
 
-        if (hasDuplicateLoginId(dto.getLoginId())) {
+        if (existsLoginId(dto.getLoginId())) {
             throw new DuplicateLoginIdException(dto.getLoginId());
         }
 
-        Member member = memberRepository.save(dto.toEntity());
+        Member member;
+        try {
+            member = memberRepository.saveAndFlush(dto.toEntity());
+            loginIdRegistryRepository.register(List.of(member));
+        } catch (DataIntegrityViolationException e) {
+            throw new DuplicateLoginIdException(dto.getLoginId());
+        }
+        loginIdBloomFilter.put(member.getLoginId());
+        eventPublisher.publishEvent(new MemberCreatedEvent(List.of(member.getLoginId()),
+            List.of(member.getMemberNo())));
+        memberNameGramService.index(member);
         log.info("회원 생성 성공");
         return member;
     }
 
-    private boolean hasDuplicateLoginId(final String loginId) {
+    @Transactional
+    public List<Member> createMembers(final List<CreateMemberRequest> dtos) {
+        log.info("회원 {} 명 일괄 생성 시작", dtos.size());
+
+        List<Member> members = memberRepository.saveAll(dtos.stream()
+            .map(CreateMemberRequest::toEntity)
+            .toList());
+        try {
+            loginIdRegistryRepository.register(members);
+        } catch (DataIntegrityViolationException e) {
+            throw new DuplicateLoginIdException(dtos.stream()
+                .map(CreateMemberRequest::getLoginId)
+                .toList()
+                .toString());
+        }
+        members.forEach(member -> loginIdBloomFilter.put(member.getLoginId()));
+        eventPublisher.publishEvent(new MemberCreatedEvent(
+            members.stream().map(Member::getLoginId).toList(),
+            members.stream().map(Member::getMemberNo).toList()));
+        memberNameGramService.indexAll(members);
+
+        log.info("회원 {} 명 일괄 생성 성공", members.size());
+        return members;
+    }
+
+    @Transactional
+    public void flushMembers(final List<Member> members) {
+        log.info("회원 {} 명 저장 후 프로필 요약 갱신", members.size());
+
+        try {
+            memberRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw new DuplicateLoginIdException(members.stream()
+                .map(Member::getLoginId)
+                .toList()
+                .toString());
+        }
+        memberRepository.updateProfileSummaries(members.stream()
+            .map(Member::getMemberNo)
+            .toList());
+    }
+
+    public Set<String> findExistingLoginIds(final Collection<String> loginIds) {
+        log.info("아이디 {} 개 중 이미 사용 중인 아이디 확인", loginIds.size());
+
+        List<String> candidates = loginIds.stream()
+            .filter(loginIdBloomFilter::mightContain)
+            .toList();
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+
+        return new HashSet<>(memberRepository.findAllLoginIdsIncludingDeleted(candidates));
+    }
+
+    public boolean existsLoginId(final String loginId) {
         log.info("중복된 아이디가 있는지 확인");
-        return memberRepository.findByLoginId(loginId).isPresent();
+
+        if (!loginIdBloomFilter.mightContain(loginId)) {
+            return false;
+        }
+        return memberRepository.countByLoginIdIncludingDeleted(loginId) > 0;
     }
 
     @Transactional
@@ -44,8 +130,11 @@ public class MemberService {
         log.info("회원 삭제 시작");
 
         Member member = memberRepository.findById(memberNo)
+            .filter(Member::isActive)
             .orElseThrow(() -> new NotFoundMemberException(memberNo));
 
+        memberNameGramService.remove(memberNo);
+        eventPublisher.publishEvent(new MemberChangedEvent(memberNo));
         log.info("회원 삭제 성공");
         return member.delete();
     }
@@ -53,17 +142,74 @@ public class MemberService {
     public Member findMember(final Long memberNo) {
         log.info("회원 식별번호 {} 의 정보 조회", memberNo);
         return memberRepository.findById(memberNo)
+            .filter(Member::isActive)
+            .orElseThrow(() -> new NotFoundMemberException(memberNo));
+    }
+
+    public MemberDetailsVersion findMemberDetailsVersion(final Long memberNo) {
+        log.debug("회원 식별번호 {} 의 상세 정보 버전 조회", memberNo);
+        return memberRepository.findMemberDetailsVersion(memberNo)
             .orElseThrow(() -> new NotFoundMemberException(memberNo));
     }
 
-    public Page<Member> findMembersContainName(final String name,
-                                               final int page,
-                                               final int size) {
+    public LocalDateTime findMembersLastModifiedAt() {
+        log.debug("회원 및 프로필 마지막 변경 시각 조회");
+        return memberRepository.findLastModifiedAtIncludingDeleted().orElse(null);
+    }
+
+    public Slice<Member> findMembersContainName(final String name,
+                                                final int page,
+                                                final int size) {
         log.info("이름에 {} 들어간 회원 전체 조회", name);
 
         PageRequest pageRequest =
             PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, "memberNo"));
 
-        return memberRepository.findMembersByNameContaining(name, pageRequest);
+        if (name.isEmpty() || !memberNameGramService.isIndexed()) {
+            return memberRepository.findMembersByNameContaining(name, pageRequest);
+        }
+
+        Set<String> grams = MemberNameGram.extractGrams(name);
+        return memberRepository.findMembersByNameGram(escapeLike(name), grams, grams.size(),
+            pageRequest);
+    }
+
+    public long countMembersContainName(final String name) {
+        log.info("이름에 {} 들어간 회원 수 조회", name);
+
+        if (name.isEmpty()) {
+            return memberRepository.count();
+        }
+        if (!memberNameGramService.isIndexed()) {
+            return memberRepository.countByNameContaining(name);
+        }
+
+        Set<String> grams = MemberNameGram.extractGrams(name);
+        return memberRepository.countMembersByNameGram(escapeLike(name), grams, grams.size());
+    }
+
+    public Slice<Member> findMembersContainNameAfter(final String name,
+                                                     final Long after,
+                                                     final int size) {
+        log.info("이름에 {} 들어간 회원 중 회원 식별 번호 {} 이후 회원 조회", name, after);
+
+        PageRequest pageRequest =
+            PageRequest.of(0, size, Sort.by(Sort.Direction.ASC, "memberNo"));
+        Long cursor = after == null ? FIRST_CURSOR : after;
+
+        if (name.isEmpty() || !memberNameGramService.isIndexed()) {
+            return memberRepository.findMembersByNameContainingAndMemberNoGreaterThan(name, cursor,
+                pageRequest);
+        }
+
+        Set<String> grams = MemberNameGram.extractGrams(name);
+        return memberRepository.findMembersByNameGramAndMemberNoGreaterThan(escapeLike(name), grams,
+            grams.size(), cursor, pageRequest);
+    }
+
+    private static String escapeLike(final String keyword) {
+        return keyword.replace("!", "!!")
+            .replace("%", "!%")
+            .replace("_", "!_");
     }
 }
@@ -1,7 +1,16 @@
 package kr.co.mz.mzdinterviewassignment.service;
 
+import io.micrometer.core.annotation.Timed;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 import kr.co.mz.mzdinterviewassignment.domain.member.Member;
 import kr.co.mz.mzdinterviewassignment.domain.profile.Profile;
 import kr.co.mz.mzdinterviewassignment.domain.profile.ProfileStatus;
@@ -9,16 +18,21 @@ import kr.co.mz.mzdinterviewassignment.dto.request.profile.CreateProfileRequest;
 import kr.co.mz.mzdinterviewassignment.dto.request.profile.UpdateProfileRequest;
 import kr.co.mz.mzdinterviewassignment.dto.response.profile.ProfileResponse;
 import kr.co.mz.mzdinterviewassignment.exception.profile.CannotDeleteProfileException;
+import kr.co.mz.mzdinterviewassignment.exception.profile.DuplicateMainProfileException;
 import kr.co.mz.mzdinterviewassignment.exception.profile.EmptyProfileException;
 import kr.co.mz.mzdinterviewassignment.exception.profile.NonMatchMemberNoException;
 import kr.co.mz.mzdinterviewassignment.exception.profile.NotFoundProfileException;
+import kr.co.mz.mzdinterviewassignment.exception.profile.ProfileVersionMismatchException;
 import kr.co.mz.mzdinterviewassignment.repository.ProfileRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
+@Timed(value = "member.service", histogram = true)
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -26,57 +40,96 @@ public class ProfileService {
     public static final int MIN_PROFILES_COUNT = 1;
 
     private final ProfileRepository profileRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ProfileResponse createProfile(final CreateProfileRequest dto, final Member member) {
 
         log.info("프로필 생성 시작");
 
-        List<Profile> profiles = profileRepository.findAllByMember(member);
-
-        ProfileStatus profileStatus = setProfileStatus(profiles);
+        ProfileStatus profileStatus = setProfileStatus(member);
         log.info("프로필 상태 {}", profileStatus.name());
 
         Profile savedProfile = profileRepository.save(dto.toEntity(profileStatus, member));
+        member.increaseProfileCount();
+        if (isMainProfile(profileStatus)) {
+            member.changeMainProfile(savedProfile.getProfileNo());
+        }
+        flushMainProfile(member, profileRepository::flush);
+        eventPublisher.publishEvent(new MemberChangedEvent(member.getMemberNo()));
+
         log.info("프로필 생성 완료 회원 식별 번호 : {}", savedProfile.getMember().getLoginId());
         return ProfileResponse.generateProfile(savedProfile);
     }
 
+    @Transactional
+    public List<ProfileResponse> createMainProfiles(final List<CreateProfileRequest> dtos,
+                                                    final List<Member> members) {
+        log.info("회원 {} 명의 메인 프로필 일괄 생성 시작", members.size());
+
+        List<Profile> profiles = new ArrayList<>(members.size());
+        for (int i = 0; i < members.size(); i++) {
+            profiles.add(dtos.get(i).toEntity(ProfileStatus.MAIN, members.get(i)));
+        }
+
+        List<Profile> savedProfiles = profileRepository.saveAll(profiles);
+
+        log.info("회원 {} 명의 메인 프로필 일괄 생성 완료", members.size());
+        return savedProfiles.stream()
+            .map(ProfileResponse::generateProfile)
+            .toList();
+    }
+
     @Transactional
     public ProfileResponse updateProfile(final UpdateProfileRequest dto,
                                          final Long profileNo,
-                                         final Member member) {
+                                         final Member member,
+                                         final Set<Long> expectedVersions) {
 
         log.info("프로필 수정 시작");
         Profile profile = profileRepository.findById(profileNo)
             .orElseThrow(() -> new NotFoundProfileException(profileNo));
 
         checkMatchMemberNo(member, profile);
+        checkMatchVersion(profile, expectedVersions);
+        eventPublisher.publishEvent(new MemberChangedEvent(member.getMemberNo()));
 
-        List<Profile> profiles = profileRepository.findAllByMember(member);
-
-        if (profiles.size() == MIN_PROFILES_COUNT) {
+        if (member.getProfileCount() == MIN_PROFILES_COUNT) {
             Profile updatedProfile =
                 profile.update(dto.getNickname(), dto.getPhoneNumber(), dto.getAddress(),
                     ProfileStatus.MAIN);
+            member.changeMainProfile(profileNo);
             profileRepository.saveAndFlush(updatedProfile);
             return ProfileResponse.generateProfile(updatedProfile);
         }
 
         if (isMainProfile(dto.getProfileStatus())) {
-            log.info("기존 메인 프로필을 일반 프로필로 전환");
-            profiles.forEach(p -> p.updateProfileStatus(ProfileStatus.NORMAL));
-        } else if (isMainProfile(profile.getProfileStatus())) {
+            if (member.hasMainProfile() && !member.isMainProfile(profileNo)) {
+                log.info("기존 메인 프로필을 일반 프로필로 전환");
+                int demotedCount = profileRepository.demoteMainProfile(member.getMemberNo(),
+                    LocalDateTime.now());
+                log.info("회원 식별 번호 {} 의 메인 프로필 {} 개를 일반 프로필로 전환",
+                    member.getMemberNo(), demotedCount);
+            }
+            Profile updatedProfile = profile.update(dto.getNickname(), dto.getPhoneNumber(),
+                dto.getAddress(), ProfileStatus.MAIN);
+            flushMainProfile(member, () -> profileRepository.saveAndFlush(updatedProfile));
+            member.changeMainProfile(profileNo);
+            return ProfileResponse.generateProfile(updatedProfile);
+        }
+
+        Optional<Long> replacementProfileNo = Optional.empty();
+        if (isMainProfile(profile.getProfileStatus())) {
             log.info("메인 프로필을 일반 프로필로 전환으로 인해 회원의 다른 프로필을 메인 프로필로 임의 지정");
-            profiles
-                .stream().filter(p -> p.getProfileStatus().equals(ProfileStatus.NORMAL))
-                .findFirst()
-                .ifPresent(p -> p.updateProfileStatus(ProfileStatus.MAIN));
+            replacementProfileNo = profileRepository.findFirstProfileNoByMemberAndProfileStatus(
+                member, ProfileStatus.NORMAL);
+            member.clearMainProfile();
         }
 
         Profile updatedProfile = profile.update(dto.getNickname(), dto.getPhoneNumber(), dto.getAddress(),
             dto.getProfileStatus());
         profileRepository.saveAndFlush(updatedProfile);
+        replacementProfileNo.ifPresent(mainProfileNo -> promoteProfile(member, mainProfileNo));
         return ProfileResponse.generateProfile(updatedProfile);
     }
 
@@ -89,13 +142,16 @@ public class ProfileService {
 
         checkMatchMemberNo(member, profile);
 
-        List<Profile> profiles = profileRepository.findAllByMember(member);
-
-        if (profiles.size() == MIN_PROFILES_COUNT) {
+        if (member.getProfileCount() <= MIN_PROFILES_COUNT) {
             throw new CannotDeleteProfileException(member.getLoginId());
         }
 
         profileRepository.delete(profile);
+        eventPublisher.publishEvent(new MemberChangedEvent(member.getMemberNo()));
+        member.decreaseProfileCount();
+        if (member.isMainProfile(profileNo)) {
+            member.clearMainProfile();
+        }
         log.info("프로필 삭제 완료");
 
         return profile.getNickname();
@@ -104,17 +160,59 @@ public class ProfileService {
     public ProfileResponse findMainProfile(final Member member) {
         log.info("{} 의 메인 프로필 조회 시작", member.getLoginId());
 
-        Profile profile =
-            profileRepository.findProfileByMemberAndProfileStatus(member, ProfileStatus.MAIN)
-                .orElseGet(() -> profileRepository.findAllByMember(member)
-                    .stream().findFirst()
-                    .orElseThrow(() -> new EmptyProfileException(member.getLoginId())));
+        Optional<Profile> mainProfile = member.hasMainProfile()
+            ? profileRepository.findById(member.getMainProfileNo()) : Optional.empty();
+
+        Profile profile = mainProfile
+            .or(() -> profileRepository.findFirstByMemberOrderByProfileNoAsc(member))
+            .orElseThrow(() -> new EmptyProfileException(member.getLoginId()));
 
         log.info("{} 의 메인 프로필 조회 완료", member.getLoginId());
 
         return ProfileResponse.generateProfile(profile);
     }
 
+    public Map<Long, ProfileResponse> findMainProfiles(final List<Member> members) {
+        log.info("회원 {} 명의 메인 프로필 일괄 조회 시작", members.size());
+
+        if (members.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        Map<Long, List<Profile>> profilesByMemberNo = new HashMap<>();
+
+        List<Long> mainProfileNos = members.stream()
+            .filter(Member::hasMainProfile)
+            .map(Member::getMainProfileNo)
+            .toList();
+        if (!mainProfileNos.isEmpty()) {
+            profilesByMemberNo.putAll(groupByMemberNo(profileRepository.findAllById(mainProfileNos)));
+        }
+
+        List<Member> membersWithoutMainProfile = members.stream()
+            .filter(member -> !profilesByMemberNo.containsKey(member.getMemberNo()))
+            .toList();
+        if (!membersWithoutMainProfile.isEmpty()) {
+            profilesByMemberNo.putAll(groupByMemberNo(
+                profileRepository.findAllByMemberInOrderByProfileNoAsc(membersWithoutMainProfile)));
+        }
+
+        Map<Long, ProfileResponse> responses = new HashMap<>();
+        for (Member member : members) {
+            List<Profile> profiles =
+                profilesByMemberNo.getOrDefault(member.getMemberNo(), Collections.emptyList());
+
+            Profile profile = selectMainProfile(profiles)
+                .orElseThrow(() -> new EmptyProfileException(member.getLoginId()));
+
+            responses.put(member.getMemberNo(), ProfileResponse.generateProfile(profile));
+        }
+
+        log.info("회원 {} 명의 메인 프로필 일괄 조회 완료", members.size());
+
+        return responses;
+    }
+
     public List<ProfileResponse> findProfiles(final Member member) {
         log.info("{} 의 프로필 조회", member.getLoginId());
 
@@ -130,6 +228,18 @@ public class ProfileService {
         return responses;
     }
 
+    private Map<Long, List<Profile>> groupByMemberNo(final List<Profile> profiles) {
+        return profiles.stream()
+            .collect(Collectors.groupingBy(profile -> profile.getMember().getMemberNo()));
+    }
+
+    private Optional<Profile> selectMainProfile(final List<Profile> profiles) {
+        return profiles.stream()
+            .filter(profile -> Objects.equals(profile.getProfileStatus(), ProfileStatus.MAIN))
+            .findFirst()
+            .or(() -> profiles.stream().findFirst());
+    }
+
     private boolean isMainProfile(final ProfileStatus profileStatus) {
         log.info("수정할 프로필을 메인 프로필로 상태 변경할 것인지 확인");
         return Objects.equals(profileStatus, ProfileStatus.MAIN);
@@ -146,14 +256,37 @@ public class ProfileService {
         }
     }
 
+    private void checkMatchVersion(final Profile profile, final Set<Long> expectedVersions) {
+        if (expectedVersions != null && !expectedVersions.contains(profile.getVersion())) {
+            throw new ProfileVersionMismatchException(profile.getProfileNo(),
+                profile.getVersion());
+        }
+    }
+
     private boolean isNonMatchMemberNo(final Long memberNo, final Long profileMemberNo) {
         return !Objects.equals(profileMemberNo, memberNo);
     }
 
-    private ProfileStatus setProfileStatus(final List<Profile> profiles) {
+    private void promoteProfile(final Member member, final Long profileNo) {
+        flushMainProfile(member, () -> {
+            int updatedCount = profileRepository.promoteProfile(member.getMemberNo(), profileNo,
+                LocalDateTime.now());
+            log.info("회원 식별 번호 {} 의 메인 프로필을 {} 로 전환, 변경된 프로필 수 : {}",
+                member.getMemberNo(), profileNo, updatedCount);
+        });
+        member.changeMainProfile(profileNo);
+    }
+
+    private void flushMainProfile(final Member member, final Runnable flush) {
+        try {
+            flush.run();
+        } catch (DataIntegrityViolationException e) {
+            throw new DuplicateMainProfileException(member.getMemberNo());
+        }
+    }
+
+    private ProfileStatus setProfileStatus(final Member member) {
         log.info("프로필 상태 지정");
-        return profiles.stream()
-            .anyMatch(profile -> profile.getProfileStatus().equals(ProfileStatus.MAIN))
-            ? ProfileStatus.NORMAL : ProfileStatus.MAIN;
+        return member.hasMainProfile() ? ProfileStatus.NORMAL : ProfileStatus.MAIN;
     }
 }
@@ -0,0 +1,12 @@
+package kr.co.mz.mzdinterviewassignment.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class ProfileSummaryCheckResult {
+    private final Long nextCursor;
+    private final int checkedCount;
+    private final int mismatchCount;
+}
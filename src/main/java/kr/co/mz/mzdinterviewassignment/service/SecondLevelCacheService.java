@@ -0,0 +1,39 @@
+package kr.co.mz.mzdinterviewassignment.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Comparator;
+import java.util.List;
+import kr.co.mz.mzdinterviewassignment.config.CaffeineRegionFactory;
+import kr.co.mz.mzdinterviewassignment.dto.response.cache.CacheRegionStatsResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SecondLevelCacheService {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public List<CacheRegionStatsResponse> findRegionStats() {
+        log.info("2차 캐시 영역별 통계 조회");
+
+        RegionFactory regionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+            .getCache()
+            .getRegionFactory();
+        if (!(regionFactory instanceof CaffeineRegionFactory caffeineRegionFactory)) {
+            return List.of();
+        }
+
+        return caffeineRegionFactory.getCaches()
+            .entrySet()
+            .stream()
+            .map(entry -> CacheRegionStatsResponse.generateCacheRegionStats(entry.getKey(),
+                entry.getValue().estimatedSize(), entry.getValue().stats()))
+            .sorted(Comparator.comparing(CacheRegionStatsResponse::getRegionName))
+            .toList();
+    }
+}
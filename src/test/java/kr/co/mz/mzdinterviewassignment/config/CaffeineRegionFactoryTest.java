@@ -0,0 +1,155 @@
+package kr.co.mz.mzdinterviewassignment.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import jakarta.persistence.EntityManagerFactory;
+import kr.co.mz.mzdinterviewassignment.domain.member.Member;
+import kr.co.mz.mzdinterviewassignment.domain.profile.ProfileStatus;
+import kr.co.mz.mzdinterviewassignment.dto.request.member.CreateMemberRequest;
+import kr.co.mz.mzdinterviewassignment.dto.request.profile.CreateProfileRequest;
+import kr.co.mz.mzdinterviewassignment.dto.request.profile.UpdateProfileRequest;
+import kr.co.mz.mzdinterviewassignment.dto.response.cache.CacheRegionStatsResponse;
+import kr.co.mz.mzdinterviewassignment.dto.response.member.MemberDetailsResponse;
+import kr.co.mz.mzdinterviewassignment.dto.response.member.MemberDetailsVersion;
+import kr.co.mz.mzdinterviewassignment.dto.response.member.MemberResponse;
+import kr.co.mz.mzdinterviewassignment.dto.response.profile.ProfileResponse;
+import kr.co.mz.mzdinterviewassignment.exception.member.NotFoundMemberException;
+import kr.co.mz.mzdinterviewassignment.facade.MemberProfileFacade;
+import kr.co.mz.mzdinterviewassignment.service.MemberService;
+import kr.co.mz.mzdinterviewassignment.service.ProfileService;
+import kr.co.mz.mzdinterviewassignment.service.SecondLevelCacheService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.EmbeddedDatabaseConnection;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest(properties = {
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "spring.jpa.properties.hibernate.cache.caffeine.maximum_size=1000"
+})
+@AutoConfigureTestDatabase(connection = EmbeddedDatabaseConnection.H2)
+class CaffeineRegionFactoryTest {
+
+    @Autowired
+    MemberProfileFacade memberProfileFacade;
+
+    @Autowired
+    MemberService memberService;
+
+    @Autowired
+    ProfileService profileService;
+
+    @Autowired
+    SecondLevelCacheService secondLevelCacheService;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("""
+            delete from member_name_gram where member_no in
+                (select member_no from member_tbl where login_id like 'cache%')
+            """);
+        jdbcTemplate.update("""
+            delete from profile_tbl where member_no in
+                (select member_no from member_tbl where login_id like 'cache%')
+            """);
+        jdbcTemplate.update("delete from member_tbl where login_id like 'cache%'");
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    @DisplayName("캐시가 채워진 뒤 회원과 프로필 조회는 쿼리를 실행하지 않는지 테스트")
+    void findMemberAndProfiles_SecondLevelCacheHit_Test() {
+
+        MemberResponse member = memberProfileFacade.createMember(generateRequest("cache1"));
+        entityManagerFactory.getCache().evictAll();
+
+        profileService.findProfiles(memberService.findMember(member.getMemberNo()));
+        profileService.findProfiles(memberService.findMember(member.getMemberNo()));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        profileService.findProfiles(memberService.findMember(member.getMemberNo()));
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+        assertThat(secondLevelCacheService.findRegionStats())
+            .filteredOn(stats -> stats.getRegionName().equals(Member.class.getName()))
+            .singleElement()
+            .extracting(CacheRegionStatsResponse::getHitCount)
+            .satisfies(hitCount -> assertThat(hitCount).isPositive());
+    }
+
+    @Test
+    @DisplayName("탈퇴한 회원은 2차 캐시에 있어도 조회 실패 테스트")
+    void findMemberDetails_DeletedMember_Fail_Test() {
+
+        MemberResponse member = memberProfileFacade.createMember(generateRequest("cache2"));
+        memberProfileFacade.findMemberDetails(member.getMemberNo());
+
+        memberProfileFacade.deleteMember(member.getMemberNo());
+
+        assertThatThrownBy(() -> memberProfileFacade.findMemberDetails(member.getMemberNo()))
+            .isInstanceOf(NotFoundMemberException.class);
+        assertThatThrownBy(() -> memberProfileFacade.deleteMember(member.getMemberNo()))
+            .isInstanceOf(NotFoundMemberException.class);
+    }
+
+    @Test
+    @DisplayName("회원 상세 정보 캐시는 프로필 수정이 커밋되면 갱신되는지 테스트")
+    void findMemberDetails_EvictAfterCommit_Test() {
+
+        MemberResponse member = memberProfileFacade.createMember(generateRequest("cache3"));
+        MemberDetailsResponse cached = memberProfileFacade.findMemberDetails(member.getMemberNo());
+
+        assertThat(memberProfileFacade.findMemberDetails(member.getMemberNo())).isSameAs(cached);
+
+        memberProfileFacade.updateProfile(new UpdateProfileRequest("수정", "01011112222", null,
+            ProfileStatus.MAIN), member.getProfile().getProfileNo(), member.getMemberNo(), null);
+
+        assertThat(memberProfileFacade.findMemberDetails(member.getMemberNo()).getProfiles())
+            .extracting(ProfileResponse::getNickname)
+            .containsExactly("수정");
+    }
+
+    @Test
+    @DisplayName("캐시된 회원 상세 정보가 데이터베이스 버전보다 오래되었으면 다시 조회하는지 테스트")
+    void findMemberDetails_StaleVersion_Test() {
+
+        MemberResponse member = memberProfileFacade.createMember(generateRequest("cache4"));
+        MemberDetailsResponse cached = memberProfileFacade.findMemberDetails(member.getMemberNo());
+
+        jdbcTemplate.update("update profile_tbl set nickname = '외부수정', version = version + 1"
+            + " where profile_no = ?", member.getProfile().getProfileNo());
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+
+        MemberDetailsVersion version =
+            memberProfileFacade.findMemberDetailsVersion(member.getMemberNo());
+        MemberDetailsResponse refreshed =
+            memberProfileFacade.findMemberDetails(member.getMemberNo(), version);
+
+        assertThat(version).isNotEqualTo(MemberDetailsVersion.generateMemberDetailsVersion(cached));
+        assertThat(MemberDetailsVersion.generateMemberDetailsVersion(refreshed)).isEqualTo(version);
+        assertThat(refreshed.getProfiles())
+            .extracting(ProfileResponse::getNickname)
+            .containsExactly("외부수정");
+    }
+
+    private CreateMemberRequest generateRequest(final String loginId) {
+        return new CreateMemberRequest(loginId, "캐시회원", "test123@",
+            new CreateProfileRequest("홍길동", "01098765432", null));
+    }
+}
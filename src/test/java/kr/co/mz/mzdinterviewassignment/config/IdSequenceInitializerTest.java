@@ -0,0 +1,68 @@
+package kr.co.mz.mzdinterviewassignment.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import kr.co.mz.mzdinterviewassignment.domain.member.Member;
+import kr.co.mz.mzdinterviewassignment.repository.MemberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.EmbeddedDatabaseConnection;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest
+@AutoConfigureTestDatabase(connection = EmbeddedDatabaseConnection.H2)
+class IdSequenceInitializerTest {
+
+    @Autowired
+    private IdSequenceInitializer idSequenceInitializer;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from member_tbl");
+    }
+
+    @Test
+    @DisplayName("기존 식별 번호보다 시퀀스가 뒤처져 있으면 기존 식별 번호 이후부터 발급")
+    void afterPropertiesSet_AlignSequence_Test() {
+
+        jdbcTemplate.update("""
+            insert into member_tbl (member_no, login_id, name, password, member_status,
+                                    profile_count, created_at, updated_at)
+            values (100000, 'legacyid', '기존회원', 'legacyPassword', 'ACTIVE', 0,
+                    current_timestamp, current_timestamp)
+            """);
+
+        idSequenceInitializer.afterPropertiesSet();
+
+        Member member = memberRepository.save(Member.builder()
+            .loginId("newid")
+            .name("신규회원")
+            .password("newPassword")
+            .build());
+
+        assertThat(member.getMemberNo()).isGreaterThan(100000L);
+    }
+
+    @Test
+    @DisplayName("시퀀스가 기존 식별 번호보다 앞서 있으면 시퀀스 값을 소비하거나 조정하지 않음")
+    void afterPropertiesSet_SequenceAhead_Test() {
+
+        idSequenceInitializer.afterPropertiesSet();
+        Long before = idSequenceInitializer.currentValue("member_seq");
+
+        idSequenceInitializer.afterPropertiesSet();
+        idSequenceInitializer.afterPropertiesSet();
+
+        assertThat(idSequenceInitializer.currentValue("member_seq")).isEqualTo(before);
+    }
+}
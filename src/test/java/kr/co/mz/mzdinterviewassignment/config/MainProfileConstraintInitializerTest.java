@@ -0,0 +1,93 @@
+package kr.co.mz.mzdinterviewassignment.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import kr.co.mz.mzdinterviewassignment.domain.member.Member;
+import kr.co.mz.mzdinterviewassignment.repository.MemberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.EmbeddedDatabaseConnection;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest
+@AutoConfigureTestDatabase(connection = EmbeddedDatabaseConnection.H2)
+class MainProfileConstraintInitializerTest {
+
+    @Autowired
+    private MainProfileConstraintInitializer mainProfileConstraintInitializer;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from profile_tbl");
+        jdbcTemplate.update("delete from member_tbl");
+        mainProfileConstraintInitializer.afterPropertiesSet();
+    }
+
+    @Test
+    @DisplayName("유니크 제약 추가 전 회원별로 가장 먼저 생성된 메인 프로필만 남기고 나머지는 일반 프로필로 전환")
+    void afterPropertiesSet_DemoteDuplicatedMainProfiles_Test() {
+        Member member = saveMember("legacyid");
+        Member otherMember = saveMember("otherid");
+        jdbcTemplate.execute("alter table profile_tbl drop constraint uk_profile_main_member_no");
+        insertProfile(100L, member, "MAIN");
+        insertProfile(101L, member, "MAIN");
+        insertProfile(102L, member, "NORMAL");
+        insertProfile(103L, member, "MAIN");
+        insertProfile(200L, otherMember, "MAIN");
+
+        mainProfileConstraintInitializer.afterPropertiesSet();
+
+        assertThat(jdbcTemplate.queryForList(
+            "select profile_no from profile_tbl where profile_status = 'MAIN' order by profile_no",
+            Long.class)).containsExactly(100L, 200L);
+        assertThatThrownBy(() -> insertProfile(104L, member, "MAIN"))
+            .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("스키마 갱신으로 만들어진 일반 컬럼은 메인 프로필 회원 번호 생성 컬럼으로 다시 생성")
+    void afterPropertiesSet_ReplacePlainColumn_Test() {
+        Member member = saveMember("legacyid");
+        jdbcTemplate.execute("alter table profile_tbl drop constraint uk_profile_main_member_no");
+        jdbcTemplate.execute("alter table profile_tbl drop column main_member_no");
+        jdbcTemplate.execute("alter table profile_tbl add column main_member_no bigint");
+        insertProfile(100L, member, "MAIN");
+        insertProfile(101L, member, "NORMAL");
+
+        mainProfileConstraintInitializer.afterPropertiesSet();
+
+        assertThat(jdbcTemplate.queryForList(
+            "select main_member_no from profile_tbl order by profile_no", Long.class))
+            .containsExactly(member.getMemberNo(), null);
+        assertThatThrownBy(() -> insertProfile(102L, member, "MAIN"))
+            .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    private Member saveMember(final String loginId) {
+        return memberRepository.saveAndFlush(Member.builder()
+            .loginId(loginId)
+            .name("기존회원")
+            .password("legacyPassword")
+            .build());
+    }
+
+    private void insertProfile(final Long profileNo, final Member member, final String status) {
+        jdbcTemplate.update("""
+            insert into profile_tbl (profile_no, member_no, nickname, phone_number, profile_status,
+                                     version, created_at, updated_at)
+            values (?, ?, '기존별명', '01012345678', ?, 0, current_timestamp, current_timestamp)
+            """, profileNo, member.getMemberNo(), status);
+    }
+}
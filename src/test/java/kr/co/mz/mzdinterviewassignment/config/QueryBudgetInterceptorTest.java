@@ -0,0 +1,90 @@
+package kr.co.mz.mzdinterviewassignment.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import kr.co.mz.mzdinterviewassignment.exception.query.QueryBudgetExceededException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+class QueryBudgetInterceptorTest {
+
+    private final MockHttpServletRequest request = new MockHttpServletRequest();
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    private RequestStatistics outer;
+
+    @BeforeEach
+    void setUp() {
+        outer = RequestStatistics.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        outer.finish();
+    }
+
+    @Test
+    @DisplayName("거부 모드에서는 핸들러에 지정한 한도를 넘는 쿼리를 실행하기 전에 중단")
+    void preHandle_Reject_Test() throws NoSuchMethodException {
+        QueryBudgetInterceptor interceptor = new QueryBudgetInterceptor(QueryBudgetMode.REJECT, 10);
+        HandlerMethod handler = handler("limited");
+
+        interceptor.preHandle(request, response, handler);
+        RequestStatistics.recordStatement();
+
+        assertThatThrownBy(RequestStatistics::recordStatement)
+            .isInstanceOf(QueryBudgetExceededException.class);
+
+        interceptor.afterCompletion(request, response, handler, null);
+        RequestStatistics.recordStatement();
+
+        assertThat(outer.getStatementCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("기록 모드에서는 한도를 넘어도 요청을 계속 처리하고, 한도가 없는 핸들러는 기본 한도를 적용")
+    void preHandle_Log_Test() throws NoSuchMethodException {
+        QueryBudgetInterceptor interceptor = new QueryBudgetInterceptor(QueryBudgetMode.LOG, 2);
+        HandlerMethod handler = handler("unlimited");
+
+        interceptor.preHandle(request, response, handler);
+        for (int i = 0; i < 5; i++) {
+            RequestStatistics.recordStatement();
+        }
+        interceptor.afterCompletion(request, response, handler, null);
+
+        assertThat(outer.getStatementCount()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 단위 쿼리 수는 가장 많은 트랜잭션 기준으로 기록")
+    void recordTransaction_Test() {
+
+        RequestStatistics.recordTransaction(3);
+        RequestStatistics.recordTransaction(7);
+        RequestStatistics.recordTransaction(1);
+
+        assertThat(outer.getTransactionCount()).isEqualTo(3);
+        assertThat(outer.getMaxTransactionStatementCount()).isEqualTo(7);
+    }
+
+    private HandlerMethod handler(final String name) throws NoSuchMethodException {
+        return new HandlerMethod(new SampleController(), SampleController.class.getMethod(name));
+    }
+
+    static class SampleController {
+
+        @QueryBudget(1)
+        public void limited() {
+        }
+
+        public void unlimited() {
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package kr.co.mz.mzdinterviewassignment.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import kr.co.mz.mzdinterviewassignment.dto.request.member.CreateMemberRequest;
+import kr.co.mz.mzdinterviewassignment.dto.request.profile.CreateProfileRequest;
+import kr.co.mz.mzdinterviewassignment.dto.response.member.MemberDetailsVersion;
+import kr.co.mz.mzdinterviewassignment.dto.response.member.MemberResponse;
+import kr.co.mz.mzdinterviewassignment.facade.MemberProfileFacade;
+import kr.co.mz.mzdinterviewassignment.service.MemberService;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+@SpringBootTest(properties = {
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.datasource.url=jdbc:h2:mem:replica-routing;DB_CLOSE_DELAY=-1",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "member.datasource.routing.enabled=true",
+    "member.datasource.replica.urls=jdbc:h2:mem:replica-routing;DB_CLOSE_DELAY=-1",
+    "member.datasource.replica.sticky-ms=0",
+    "spring.datasource.hikari.maximum-pool-size=7",
+    "spring.datasource.hikari.connection-timeout=1234"
+})
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+class ReplicaDataSourceConfigTest {
+
+    @Autowired
+    DataSource dataSource;
+
+    @Autowired
+    ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    @Autowired
+    MemberProfileFacade memberProfileFacade;
+
+    @Autowired
+    MemberService memberService;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("복제본 분기를 켜면 회원 생성은 주 데이터베이스, 회원 조회는 복제본에서 실행")
+    void dataSource_Routing_Test() throws Exception {
+
+        MemberResponse member = memberProfileFacade.createMember(new CreateMemberRequest(
+            "routing1", "분기회원", "test123@", new CreateProfileRequest("홍길동", "01098765432", null)));
+        long replicaRouteCount = replicaRoutingDataSource.getReplicaRouteCount();
+
+        MemberDetailsVersion version = memberService.findMemberDetailsVersion(member.getMemberNo());
+
+        assertThat(dataSource.unwrap(LazyConnectionDataSourceProxy.class)).isNotNull();
+        assertThat(replicaRoutingDataSource.getReplicaRouteCount()).isGreaterThan(replicaRouteCount);
+        assertThat(version.getLastModifiedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("주 데이터베이스와 복제본 연결 풀에 spring.datasource.hikari 설정 적용")
+    void dataSource_HikariProperties_Test() {
+
+        List<DataSource> pools = new ArrayList<>(replicaRoutingDataSource.getReplicas());
+        pools.add(replicaRoutingDataSource.getPrimary());
+
+        assertThat(pools).hasSize(2)
+            .allSatisfy(pool -> {
+                HikariDataSource hikari = (HikariDataSource) pool;
+                assertThat(hikari.getMaximumPoolSize()).isEqualTo(7);
+                assertThat(hikari.getConnectionTimeout()).isEqualTo(1234L);
+                assertThat(hikari.getJdbcUrl()).isEqualTo("jdbc:h2:mem:replica-routing;DB_CLOSE_DELAY=-1");
+            });
+        assertThat(pools).extracting(pool -> ((HikariDataSource) pool).getPoolName())
+            .containsExactly("replica-0", "primary");
+    }
+
+    @Test
+    @DisplayName("복제본 분기를 켜면 트랜잭션이 끝날 때까지 커넥션 획득을 미루고 트랜잭션이 끝나면 반환")
+    void entityManagerFactory_ConnectionHandling_Test() {
+
+        assertThat(entityManagerFactory.getProperties().get(AvailableSettings.CONNECTION_HANDLING))
+            .hasToString(PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION
+                .name());
+    }
+}
@@ -0,0 +1,217 @@
+package kr.co.mz.mzdinterviewassignment.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.sql.DataSource;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final DataSource primary = createNode("routing-primary");
+
+    @AfterEach
+    void tearDown() {
+        ReplicaStickiness.clear();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 복제본으로, 쓰기 트랜잭션과 트랜잭션 밖 조회는 주 데이터베이스로 분기")
+    void getConnection_ReadOnlyToReplica_Test() {
+        ReplicaRoutingDataSource routing = createRouting(0, createNode("routing-replica"));
+        Routed routed = new Routed(routing);
+
+        assertThat(routed.read()).isEqualTo("routing-replica");
+        assertThat(routed.write()).isEqualTo("routing-primary");
+        assertThat(routed.jdbcTemplate.queryForObject("select name from node", String.class))
+            .isEqualTo("routing-primary");
+        assertThat(routing.getReplicaRouteCount()).isEqualTo(1);
+        assertThat(routing.getPrimaryRouteCount()).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("복제본이 여러 개이면 읽기 전용 트랜잭션을 차례대로 분배")
+    void getConnection_RoundRobin_Test() {
+        Routed routed = new Routed(
+            createRouting(0, createNode("routing-replica-a"), createNode("routing-replica-b")));
+
+        assertThat(List.of(routed.read(), routed.read(), routed.read()))
+            .containsExactly("routing-replica-a", "routing-replica-b", "routing-replica-a");
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션이 커밋된 직후의 읽기 전용 트랜잭션은 주 데이터베이스에서 조회")
+    void getConnection_ReadYourWrites_Test() {
+        Routed routed = new Routed(createRouting(60_000, createNode("routing-replica-sticky")));
+        ReplicaStickiness.bind(0L, null);
+
+        assertThat(routed.read()).isEqualTo("routing-replica-sticky");
+
+        routed.transactionTemplate.executeWithoutResult(status -> {
+            routed.jdbcTemplate.update("update node set name = name");
+            status.setRollbackOnly();
+        });
+        assertThat(routed.read()).isEqualTo("routing-replica-sticky");
+
+        routed.write();
+        assertThat(routed.read()).isEqualTo("routing-primary");
+    }
+
+    @Test
+    @DisplayName("요청에 묶이지 않은 스레드는 쓰기를 커밋해도 다음 작업의 조회를 주 데이터베이스로 고정하지 않음")
+    void getConnection_UnboundThread_Test() throws Exception {
+        Routed routed = new Routed(createRouting(60_000, createNode("routing-replica-pooled")));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            executor.submit(routed::write).get();
+            assertThat(executor.submit(routed::read).get()).isEqualTo("routing-replica-pooled");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("쓰기를 커밋한 클라이언트만 주 데이터베이스에서 조회하고 다른 클라이언트는 복제본에서 조회")
+    void getConnection_ReadYourWritesPerClient_Test() {
+        Routed routed = new Routed(createRouting(60_000, createNode("routing-replica-client")));
+        List<Long> committedAt = new ArrayList<>();
+
+        ReplicaStickiness.bind(0L, committedAt::add);
+        routed.write();
+        assertThat(committedAt).hasSize(1);
+
+        ReplicaStickiness.bind(0L, null);
+        assertThat(routed.read()).isEqualTo("routing-replica-client");
+
+        ReplicaStickiness.bind(committedAt.get(0), null);
+        assertThat(routed.read()).isEqualTo("routing-primary");
+
+        ReplicaStickiness.bind(committedAt.get(0) - 60_000, null);
+        assertThat(routed.read()).isEqualTo("routing-replica-client");
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용 시간을 넘거나 복제가 멈춘 복제본은 상태 확인에서 제외")
+    void checkHealth_ReplicationLag_Test() throws SQLException {
+        assertThat(routeReadOnly(createLaggingReplica(1L, false))).isEqualTo(1);
+        assertThat(routeReadOnly(createLaggingReplica(30L, false))).isZero();
+        assertThat(routeReadOnly(createLaggingReplica(0L, true))).isZero();
+    }
+
+    @Test
+    @DisplayName("복제본 연결이 실패하면 주 데이터베이스로 분기하고 상태 확인 후 다시 복제본으로 분기")
+    void getConnection_ReplicaDown_Test() {
+        createNode("routing-replica-down");
+        JdbcDataSource replica = new JdbcDataSource();
+        replica.setURL("jdbc:h2:mem:routing-replica-down;DB_CLOSE_DELAY=-1;IFEXISTS=TRUE");
+        ReplicaRoutingDataSource routing = createRouting(0, replica);
+        Routed routed = new Routed(routing);
+
+        assertThat(routed.read()).isEqualTo("routing-replica-down");
+
+        new JdbcTemplate(replica).execute("shutdown");
+        assertThat(routed.read()).isEqualTo("routing-primary");
+
+        createNode("routing-replica-down");
+        routing.checkHealth();
+        assertThat(routed.read()).isEqualTo("routing-replica-down");
+    }
+
+    private ReplicaRoutingDataSource createRouting(final long stickyMillis,
+                                                   final DataSource... replicas) {
+        return new ReplicaRoutingDataSource(primary, List.of(replicas), stickyMillis, 0, 1, 5);
+    }
+
+    private long routeReadOnly(final DataSource replica) {
+        ReplicaRoutingDataSource routing = createRouting(0, replica);
+        Routed routed = new Routed(routing);
+        routed.readOnlyTemplate.executeWithoutResult(status -> {
+            try (Connection connection = routing.getConnection()) {
+                assertThat(connection).isNotNull();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        return routing.getReplicaRouteCount();
+    }
+
+    private static DataSource createLaggingReplica(final long lagSeconds, final boolean stopped)
+        throws SQLException {
+        ResultSet resultSet = Mockito.mock(ResultSet.class);
+        Mockito.when(resultSet.next()).thenReturn(true);
+        Mockito.when(resultSet.getLong("Seconds_Behind_Master")).thenReturn(lagSeconds);
+        Mockito.when(resultSet.wasNull()).thenReturn(stopped);
+        Statement statement = Mockito.mock(Statement.class);
+        Mockito.when(statement.executeQuery("show slave status")).thenReturn(resultSet);
+        DatabaseMetaData metaData = Mockito.mock(DatabaseMetaData.class);
+        Mockito.when(metaData.getDatabaseProductName()).thenReturn("MariaDB");
+        Connection connection = Mockito.mock(Connection.class);
+        Mockito.when(connection.isValid(anyInt())).thenReturn(true);
+        Mockito.when(connection.getMetaData()).thenReturn(metaData);
+        Mockito.when(connection.createStatement()).thenReturn(statement);
+        DataSource replica = Mockito.mock(DataSource.class);
+        Mockito.when(replica.getConnection()).thenReturn(connection);
+        return replica;
+    }
+
+    private static DataSource createNode(final String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table if not exists node (name varchar(50))");
+        jdbcTemplate.update("delete from node");
+        jdbcTemplate.update("insert into node (name) values (?)", name);
+        return dataSource;
+    }
+
+    private static class Routed {
+
+        private final JdbcTemplate jdbcTemplate;
+        private final TransactionTemplate transactionTemplate;
+        private final TransactionTemplate readOnlyTemplate;
+
+        private Routed(final ReplicaRoutingDataSource routing) {
+            DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+            DataSourceTransactionManager transactionManager =
+                new DataSourceTransactionManager(dataSource);
+            this.jdbcTemplate = new JdbcTemplate(dataSource);
+            this.transactionTemplate = new TransactionTemplate(transactionManager);
+            this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+            this.readOnlyTemplate.setReadOnly(true);
+        }
+
+        private String read() {
+            return readOnlyTemplate.execute(status -> selectName());
+        }
+
+        private String write() {
+            return transactionTemplate.execute(status -> {
+                jdbcTemplate.update("update node set name = name");
+                return selectName();
+            });
+        }
+
+        private String selectName() {
+            return jdbcTemplate.queryForObject("select name from node", String.class);
+        }
+    }
+}
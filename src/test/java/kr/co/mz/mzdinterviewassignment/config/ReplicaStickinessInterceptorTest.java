@@ -0,0 +1,52 @@
+package kr.co.mz.mzdinterviewassignment.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ReplicaStickinessInterceptorTest {
+
+    private final ReplicaStickinessInterceptor interceptor = new ReplicaStickinessInterceptor(1000);
+
+    @Test
+    @DisplayName("쿠키의 쓰기 커밋 시각으로 요청의 주 데이터베이스 유지 여부를 정하고, 새 쓰기 커밋 시각을 쿠키로 응답")
+    void preHandle_Cookie_Test() {
+        long now = System.currentTimeMillis();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(ReplicaStickinessInterceptor.COOKIE_NAME,
+            String.valueOf(now - 500)));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        interceptor.preHandle(request, response, null);
+
+        assertThat(ReplicaStickiness.current().isSticky(now, 1000)).isTrue();
+        assertThat(ReplicaStickiness.current().isSticky(now + 600, 1000)).isFalse();
+
+        ReplicaStickiness.current().recordWriteCommit(now);
+        Cookie cookie = response.getCookie(ReplicaStickinessInterceptor.COOKIE_NAME);
+        assertThat(cookie).isNotNull();
+        assertThat(cookie.getValue()).isEqualTo(String.valueOf(now));
+        assertThat(cookie.getMaxAge()).isEqualTo(1);
+        assertThat(cookie.isHttpOnly()).isTrue();
+
+        interceptor.afterCompletion(request, response, null, null);
+        assertThat(ReplicaStickiness.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("쿠키가 없거나 형식이 잘못되면 복제본 조회 허용")
+    void preHandle_InvalidCookie_Test() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie(ReplicaStickinessInterceptor.COOKIE_NAME, "invalid"));
+
+        interceptor.preHandle(request, new MockHttpServletResponse(), null);
+
+        assertThat(ReplicaStickiness.current().isSticky(System.currentTimeMillis(), 1000))
+            .isFalse();
+        ReplicaStickiness.clear();
+    }
+}
@@ -0,0 +1,55 @@
+package kr.co.mz.mzdinterviewassignment.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.sql.DataSource;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+class RequestStatisticsDataSourcePostProcessorTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+        .withUserConfiguration(DataSourceConfig.class);
+
+    @Test
+    @DisplayName("요청 지표를 기록하면 dataSource 빈을 감싸 쿼리 수를 집계")
+    void postProcess_MetricsEnabled_Test() {
+        contextRunner.run(context -> assertThat(context.getBean("dataSource"))
+            .isInstanceOf(RequestStatisticsDataSource.class));
+    }
+
+    @Test
+    @DisplayName("쿼리 수 한도를 적용하면 요청 지표를 끄더라도 dataSource 빈을 감쌈")
+    void postProcess_QueryBudgetEnabled_Test() {
+        contextRunner.withPropertyValues("member.request-metrics.enabled=false",
+                "member.query-budget.mode=LOG")
+            .run(context -> assertThat(context.getBean("dataSource"))
+                .isInstanceOf(RequestStatisticsDataSource.class));
+    }
+
+    @Test
+    @DisplayName("쿼리 수 한도와 요청 지표를 모두 끄면 dataSource 빈을 감싸지 않음")
+    void postProcess_Disabled_Test() {
+        contextRunner.withPropertyValues("member.request-metrics.enabled=false",
+                "member.query-budget.mode=OFF")
+            .run(context -> assertThat(context.getBean("dataSource"))
+                .isInstanceOf(JdbcDataSource.class));
+    }
+
+    @Configuration
+    @Import(RequestStatisticsDataSourcePostProcessor.class)
+    static class DataSourceConfig {
+
+        @Bean
+        DataSource dataSource() {
+            JdbcDataSource dataSource = new JdbcDataSource();
+            dataSource.setURL("jdbc:h2:mem:request-statistics");
+            return dataSource;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package kr.co.mz.mzdinterviewassignment.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import kr.co.mz.mzdinterviewassignment.dto.request.member.CreateMemberRequest;
+import kr.co.mz.mzdinterviewassignment.dto.request.profile.CreateProfileRequest;
+import kr.co.mz.mzdinterviewassignment.dto.response.member.MemberResponse;
+import kr.co.mz.mzdinterviewassignment.facade.MemberProfileFacade;
+import kr.co.mz.mzdinterviewassignment.service.MemberService;
+import kr.co.mz.mzdinterviewassignment.service.ProfileService;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.EmbeddedDatabaseConnection;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+@Transactional
+@AutoConfigureTestDatabase(connection = EmbeddedDatabaseConnection.H2)
+class RequestStatisticsTest {
+
+    @Autowired
+    MemberProfileFacade memberProfileFacade;
+
+    @Autowired
+    MemberService memberService;
+
+    @Autowired
+    ProfileService profileService;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    private RequestStatistics statistics;
+
+    @AfterEach
+    void tearDown() {
+        if (statistics != null) {
+            statistics.finish();
+        }
+    }
+
+    @Test
+    @DisplayName("요청 중 실행한 쿼리 수와 플러시 수를 집계")
+    void start_StatementsAndFlushes_Test() {
+
+        statistics = RequestStatistics.start();
+
+        memberProfileFacade.createMember(generateRequest("statistics1"));
+        entityManager.flush();
+
+        assertThat(statistics.getStatementCount()).isPositive();
+        assertThat(statistics.getFlushCount()).isPositive();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("JdbcTemplate 으로 실행한 쿼리와 트랜잭션도 집계")
+    void start_JdbcTemplateStatements_Test() {
+
+        statistics = RequestStatistics.start();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.queryForObject("select count(*) from member_tbl", Long.class);
+            jdbcTemplate.update("update member_tbl set name = name where member_no = -1");
+        });
+
+        assertThat(statistics.getStatementCount()).isEqualTo(2);
+        assertThat(statistics.getTransactionCount()).isEqualTo(1);
+        assertThat(statistics.getMaxTransactionStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("요청 중 불러온 엔티티 수를 집계하고 집계를 끝낸 뒤에는 더하지 않음")
+    void start_EntityLoads_Test() {
+
+        MemberResponse member = memberProfileFacade.createMember(generateRequest("statistics2"));
+        entityManager.flush();
+        entityManager.clear();
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+
+        statistics = RequestStatistics.start();
+        profileService.findProfiles(memberService.findMember(member.getMemberNo()));
+        statistics.finish();
+        long statementCount = statistics.getStatementCount();
+
+        profileService.findProfiles(memberService.findMember(member.getMemberNo()));
+
+        assertThat(statistics.getEntityLoadCount()).isGreaterThanOrEqualTo(2);
+        assertThat(statistics.getFlushCount()).isZero();
+        assertThat(statistics.getStatementCount()).isPositive().isEqualTo(statementCount);
+    }
+
+    private CreateMemberRequest generateRequest(final String loginId) {
+        return new CreateMemberRequest(loginId, "집계회원", "test123@",
+            new CreateProfileRequest("홍길동", "01098765432", null));
+    }
+}
@@ -0,0 +1,43 @@
+package kr.co.mz.mzdinterviewassignment.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.SQLException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.EmbeddedDatabaseConnection;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest
+@AutoConfigureTestDatabase(connection = EmbeddedDatabaseConnection.H2)
+class SchemaIndexVerifierTest {
+
+    @Autowired
+    private SchemaIndexVerifier schemaIndexVerifier;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("엔티티에 선언한 인덱스가 모두 생성되었는지 확인")
+    void findMissingIndexes_Test() throws SQLException {
+        assertThat(schemaIndexVerifier.findMissingIndexes()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("인덱스가 없으면 누락된 인덱스로 반환")
+    void findMissingIndexes_Missing_Test() throws SQLException {
+        jdbcTemplate.execute("drop index idx_member_status_member_no");
+
+        try {
+            assertThat(schemaIndexVerifier.findMissingIndexes())
+                .containsExactly(ExpectedIndex.MEMBER_STATUS_MEMBER_NO);
+        } finally {
+            jdbcTemplate.execute("create index idx_member_status_member_no"
+                + " on member_tbl (member_status, member_no)");
+        }
+    }
+}
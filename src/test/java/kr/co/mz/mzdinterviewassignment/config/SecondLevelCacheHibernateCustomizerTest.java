@@ -0,0 +1,36 @@
+package kr.co.mz.mzdinterviewassignment.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManagerFactory;
+import kr.co.mz.mzdinterviewassignment.service.SecondLevelCacheService;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.EmbeddedDatabaseConnection;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = "member.lock.mode=ADVISORY")
+@AutoConfigureTestDatabase(connection = EmbeddedDatabaseConnection.H2)
+class SecondLevelCacheHibernateCustomizerTest {
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    SecondLevelCacheService secondLevelCacheService;
+
+    @Test
+    @DisplayName("데이터베이스 잠금 모드에서는 노드별 2차 캐시와 쿼리 캐시를 사용하지 않는지 테스트")
+    void customize_AdvisoryLockMode_Test() {
+
+        SessionFactoryImplementor sessionFactory =
+            entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+
+        assertThat(sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled()).isFalse();
+        assertThat(sessionFactory.getSessionFactoryOptions().isQueryCacheEnabled()).isFalse();
+        assertThat(secondLevelCacheService.findRegionStats()).isEmpty();
+    }
+}
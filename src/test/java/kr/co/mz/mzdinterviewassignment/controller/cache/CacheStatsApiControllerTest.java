@@ -0,0 +1,91 @@
+package kr.co.mz.mzdinterviewassignment.controller.cache;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.util.List;
+import kr.co.mz.mzdinterviewassignment.controller.member.MemberResponseCache;
+import kr.co.mz.mzdinterviewassignment.dto.response.cache.CacheRegionStatsResponse;
+import kr.co.mz.mzdinterviewassignment.service.MemberDetailsCache;
+import kr.co.mz.mzdinterviewassignment.service.SecondLevelCacheService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(CacheStatsApiController.class)
+@MockBean(JpaMetamodelMappingContext.class)
+class CacheStatsApiControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    SecondLevelCacheService secondLevelCacheService;
+
+    @MockBean
+    MemberDetailsCache memberDetailsCache;
+
+    @MockBean
+    MemberResponseCache memberResponseCache;
+
+    @Test
+    @DisplayName("2차 캐시 영역별 통계 조회 테스트")
+    void findSecondLevelStats_Test() throws Exception {
+
+        given(secondLevelCacheService.findRegionStats()).willReturn(List.of(
+            CacheRegionStatsResponse.generateCacheRegionStats("member", 2,
+                CacheStats.of(3, 1, 0, 0, 0, 0, 0))));
+
+        mockMvc.perform(get("/api/caches/second-level/stats"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data[0].regionName").value("member"))
+            .andExpect(jsonPath("$.data[0].size").value(2))
+            .andExpect(jsonPath("$.data[0].hitCount").value(3))
+            .andExpect(jsonPath("$.data[0].missCount").value(1))
+            .andExpect(jsonPath("$.data[0].hitRate").value(0.75))
+            .andDo(print());
+    }
+
+    @Test
+    @DisplayName("회원 상세 정보 캐시 통계 조회 테스트")
+    void findMemberDetailsStats_Test() throws Exception {
+
+        given(memberDetailsCache.getStats()).willReturn(
+            CacheRegionStatsResponse.generateCacheRegionStats(MemberDetailsCache.REGION_NAME, 1,
+                CacheStats.of(9, 1, 1, 0, 4_000_000, 2, 3)));
+
+        mockMvc.perform(get("/api/caches/member-details/stats"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.regionName").value(MemberDetailsCache.REGION_NAME))
+            .andExpect(jsonPath("$.data.hitRate").value(0.9))
+            .andExpect(jsonPath("$.data.evictionCount").value(2))
+            .andExpect(jsonPath("$.data.averageLoadMillis").value(4.0))
+            .andDo(print());
+    }
+
+    @Test
+    @DisplayName("회원 응답 캐시 통계 조회 테스트")
+    void findMemberResponseStats_Test() throws Exception {
+
+        given(memberResponseCache.getStats()).willReturn(List.of(
+            CacheRegionStatsResponse.generateCacheRegionStats(
+                MemberResponseCache.DETAILS_REGION_NAME, 1, CacheStats.of(1, 1, 1, 0, 0, 0, 0)),
+            CacheRegionStatsResponse.generateCacheRegionStats(
+                MemberResponseCache.SLICES_REGION_NAME, 0, CacheStats.empty())));
+
+        mockMvc.perform(get("/api/caches/member-responses/stats"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data[0].regionName").value(MemberResponseCache.DETAILS_REGION_NAME))
+            .andExpect(jsonPath("$.data[0].hitRate").value(0.5))
+            .andExpect(jsonPath("$.data[1].regionName").value(MemberResponseCache.SLICES_REGION_NAME))
+            .andDo(print());
+    }
+}
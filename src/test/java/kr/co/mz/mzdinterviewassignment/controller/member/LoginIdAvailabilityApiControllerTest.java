@@ -0,0 +1,55 @@
+package kr.co.mz.mzdinterviewassignment.controller.member;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import kr.co.mz.mzdinterviewassignment.exception.member.InvalidLoginIdException;
+import kr.co.mz.mzdinterviewassignment.service.LoginIdAvailabilityService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(LoginIdAvailabilityApiController.class)
+@MockBean(JpaMetamodelMappingContext.class)
+class LoginIdAvailabilityApiControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    LoginIdAvailabilityService loginIdAvailabilityService;
+
+    @Test
+    @DisplayName("아이디 사용 가능 여부 조회 테스트")
+    void checkAvailability_Test() throws Exception {
+
+        given(loginIdAvailabilityService.isAvailable("testid")).willReturn(true);
+
+        mockMvc.perform(get("/api/members/login-ids/{loginId}/availability", "testid"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.loginId").value("testid"))
+            .andExpect(jsonPath("$.data.available").value(true))
+            .andDo(print());
+    }
+
+    @Test
+    @DisplayName("아이디 형식이 올바르지 않으면 사용 가능 여부 조회 실패 테스트")
+    void checkAvailability_InvalidLoginId_Fail_Test() throws Exception {
+
+        given(loginIdAvailabilityService.isAvailable("Test-Id"))
+            .willThrow(new InvalidLoginIdException("Test-Id"));
+
+        mockMvc.perform(get("/api/members/login-ids/{loginId}/availability", "Test-Id"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message")
+                .value("아이디는 영문 소문자와 숫자로 구성된 4 ~ 12자리로 입력해주세요."))
+            .andDo(print());
+    }
+}
@@ -1,13 +1,16 @@
 package kr.co.mz.mzdinterviewassignment.controller.member;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -21,23 +24,30 @@ import kr.co.mz.mzdinterviewassignment.domain.member.MemberStatus;
 import kr.co.mz.mzdinterviewassignment.domain.profile.ProfileStatus;
 import kr.co.mz.mzdinterviewassignment.dto.request.member.CreateMemberRequest;
 import kr.co.mz.mzdinterviewassignment.dto.request.profile.CreateProfileRequest;
+import kr.co.mz.mzdinterviewassignment.dto.response.member.MemberCursorResponse;
 import kr.co.mz.mzdinterviewassignment.dto.response.member.MemberDetailsResponse;
+import kr.co.mz.mzdinterviewassignment.dto.response.member.MemberDetailsVersion;
 import kr.co.mz.mzdinterviewassignment.dto.response.member.MemberInfoResponse;
 import kr.co.mz.mzdinterviewassignment.dto.response.member.MemberResponse;
+import kr.co.mz.mzdinterviewassignment.dto.response.member.MemberSliceResponse;
 import kr.co.mz.mzdinterviewassignment.dto.response.profile.ProfileResponse;
 import kr.co.mz.mzdinterviewassignment.facade.MemberProfileFacade;
+import kr.co.mz.mzdinterviewassignment.service.MemberSearchCount;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 @WebMvcTest(MemberApiController.class)
 @MockBean(JpaMetamodelMappingContext.class)
+@Import(MemberResponseCache.class)
 class MemberApiControllerTest {
 
     @Autowired
@@ -152,11 +162,90 @@ class MemberApiControllerTest {
             .andExpect(jsonPath("$.data.profiles[0].profileNo").value(1L))
             .andExpect(jsonPath("$.data.profiles[0].nickname").value("홍시"))
             .andExpect(jsonPath("$.data.profiles[0].phoneNumber").value("01012345678"))
+            .andExpect(header().exists(HttpHeaders.CONTENT_LENGTH))
             .andDo(print());
 
         verify(memberProfileFacade).findMemberDetails(1L);
     }
 
+    @Test
+    @DisplayName("회원 상세 정보를 다시 조회하면 캐시한 응답 본문을 그대로 반환")
+    void findMember_Cached_Test() throws Exception {
+
+        given(memberProfileFacade.findMemberDetails(2L))
+            .willReturn(MemberDetailsResponse.builder()
+                .memberNo(2L)
+                .loginId("hong456")
+                .name("홍길동")
+                .memberStatus(MemberStatus.ACTIVE)
+                .profiles(Collections.emptyList())
+                .build());
+
+        String first = mockMvc.perform(get("/api/members/{memberNo}", 2L))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+        mockMvc.perform(get("/api/members/{memberNo}", 2L))
+            .andExpect(status().isOk())
+            .andExpect(content().string(first))
+            .andExpect(jsonPath("$.data.loginId").value("hong456"));
+
+        verify(memberProfileFacade, times(1)).findMemberDetails(2L);
+    }
+
+    @Test
+    @DisplayName("회원 상세 정보 ETag 가 일치하면 본문 없이 304 응답")
+    void findMember_NotModified_Test() throws Exception {
+
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 3, 1, 12, 0);
+        given(memberProfileFacade.findMemberDetailsVersion(3L))
+            .willReturn(new MemberDetailsVersion(2L, 1L, updatedAt, updatedAt.plusHours(1)));
+
+        mockMvc.perform(get("/api/members/{memberNo}", 3L)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"2.1\""))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"2.1\""))
+            .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+            .andExpect(content().string(""))
+            .andDo(print());
+
+        verify(memberProfileFacade, never()).findMemberDetails(anyLong());
+        verify(memberProfileFacade, never()).findMemberDetails(anyLong(),
+            any(MemberDetailsVersion.class));
+    }
+
+    @Test
+    @DisplayName("회원 상세 정보 ETag 가 다르면 현재 버전의 본문과 ETag 로 응답")
+    void findMember_Modified_Test() throws Exception {
+
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 3, 1, 12, 0);
+        MemberDetailsVersion version = new MemberDetailsVersion(2L, 1L, updatedAt, updatedAt);
+        given(memberProfileFacade.findMemberDetailsVersion(4L)).willReturn(version);
+        given(memberProfileFacade.findMemberDetails(4L, version))
+            .willReturn(MemberDetailsResponse.builder()
+                .memberNo(4L)
+                .loginId("hong789")
+                .version(2L)
+                .updatedAt(updatedAt)
+                .profiles(Collections.singletonList(ProfileResponse.builder()
+                    .profileNo(4L)
+                    .version(1L)
+                    .updatedAt(updatedAt)
+                    .build()))
+                .build());
+
+        mockMvc.perform(get("/api/members/{memberNo}", 4L)
+                .header(HttpHeaders.IF_NONE_MATCH, "\"1.0\""))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"2.1\""))
+            .andExpect(jsonPath("$.data.loginId").value("hong789"))
+            .andDo(print());
+
+        verify(memberProfileFacade).findMemberDetails(4L, version);
+    }
+
     @Test
     @DisplayName("회원 전체 조회 요청 테스트")
     void findMembers_Test() throws Exception {
@@ -199,8 +288,7 @@ class MemberApiControllerTest {
                 .build())
             .build());
 
-        given(memberProfileFacade.findMembers(0, 5, "홍길"))
-            .willReturn(data);
+        given(memberProfileFacade.findMembers(0, 5, "홍길")).willReturn(data);
 
         mockMvc.perform(
                 get("/api/members")
@@ -209,8 +297,110 @@ class MemberApiControllerTest {
                     .param("name", "홍길"))
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.message").value("회원 전체 조회 성공"))
-            .andExpect(jsonPath("$.data").isArray());
+            .andExpect(jsonPath("$.data").isArray())
+            .andExpect(jsonPath("$.data[1].mainProfile.profileNo").value(2L));
 
         verify(memberProfileFacade, times(1)).findMembers(0, 5, "홍길");
     }
+
+    @Test
+    @DisplayName("회원 전체 조회 응답의 ETag 로 다시 요청하면 304 응답")
+    void findMembers_NotModified_Test() throws Exception {
+
+        given(memberProfileFacade.findMembersLastModifiedAt())
+            .willReturn(LocalDateTime.of(2024, 3, 1, 12, 0, 0, 123_456_000));
+        given(memberProfileFacade.findMembers(1, 5, "")).willReturn(Collections.emptyList());
+
+        String entityTag = mockMvc.perform(get("/api/members")
+                .param("page", "1")
+                .param("size", "5"))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/members")
+                .param("page", "1")
+                .param("size", "5")
+                .header(HttpHeaders.IF_NONE_MATCH, entityTag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, entityTag))
+            .andDo(print());
+
+        verify(memberProfileFacade, times(1)).findMembers(1, 5, "");
+    }
+
+    @Test
+    @DisplayName("회원 검색 요청 테스트")
+    void findMemberSlice_Test() throws Exception {
+
+        given(memberProfileFacade.findMemberSlice(0, 5, "", false))
+            .willReturn(MemberSliceResponse.generateMemberSlice(Collections.emptyList(), 0, 5,
+                false, null));
+
+        mockMvc.perform(
+                get("/api/members/search")
+                    .param("page", "0")
+                    .param("size", "5"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.message").value("회원 검색 성공"))
+            .andExpect(jsonPath("$.data.members").isArray())
+            .andExpect(jsonPath("$.data.hasNext").value(false))
+            .andExpect(jsonPath("$.data.totalCount").doesNotExist());
+
+        verify(memberProfileFacade, times(1)).findMemberSlice(0, 5, "", false);
+    }
+
+    @Test
+    @DisplayName("회원 검색 시 전체 회원 수 포함 요청 테스트")
+    void findMemberSlice_IncludeTotal_Test() throws Exception {
+
+        given(memberProfileFacade.findMemberSlice(0, 5, "", true))
+            .willReturn(MemberSliceResponse.generateMemberSlice(Collections.emptyList(), 0, 5,
+                false, new MemberSearchCount(0L, LocalDateTime.now())));
+
+        mockMvc.perform(
+                get("/api/members/search")
+                    .param("page", "0")
+                    .param("size", "5")
+                    .param("includeTotal", "true"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.totalCount").value(0))
+            .andExpect(jsonPath("$.data.totalCountedAt").exists());
+
+        verify(memberProfileFacade, times(1)).findMemberSlice(0, 5, "", true);
+    }
+
+    @Test
+    @DisplayName("회원 커서 기반 전체 조회 요청 테스트")
+    void findMembersAfter_Test() throws Exception {
+
+        List<MemberInfoResponse> members = Collections.singletonList(MemberInfoResponse.builder()
+            .memberNo(11L)
+            .loginId("test1")
+            .name("홍길동")
+            .password("test123@")
+            .createdAt(LocalDateTime.now())
+            .updatedAt(LocalDateTime.now())
+            .memberStatus(MemberStatus.ACTIVE)
+            .build());
+
+        given(memberProfileFacade.findMembersAfter(10L, 1, "홍길"))
+            .willReturn(MemberCursorResponse.generateMemberCursor(members, true));
+
+        mockMvc.perform(
+                get("/api/members")
+                    .param("after", "10")
+                    .param("size", "1")
+                    .param("name", "홍길"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.message").value("회원 전체 조회 성공"))
+            .andExpect(jsonPath("$.data.members").isArray())
+            .andExpect(jsonPath("$.data.members[0].memberNo").value(11L))
+            .andExpect(jsonPath("$.data.hasNext").value(true))
+            .andExpect(jsonPath("$.data.nextCursor").value(11L));
+
+        verify(memberProfileFacade, times(1)).findMembersAfter(10L, 1, "홍길");
+    }
 }
\ No newline at end of file
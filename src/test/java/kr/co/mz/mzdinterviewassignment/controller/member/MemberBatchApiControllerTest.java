@@ -0,0 +1,102 @@
+package kr.co.mz.mzdinterviewassignment.controller.member;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import kr.co.mz.mzdinterviewassignment.dto.request.member.CreateMemberRequest;
+import kr.co.mz.mzdinterviewassignment.dto.request.member.CreateMembersRequest;
+import kr.co.mz.mzdinterviewassignment.dto.request.member.MemberBatchMode;
+import kr.co.mz.mzdinterviewassignment.dto.request.profile.CreateProfileRequest;
+import kr.co.mz.mzdinterviewassignment.dto.response.member.CreateMembersResponse;
+import kr.co.mz.mzdinterviewassignment.dto.response.member.MemberBatchItemResponse;
+import kr.co.mz.mzdinterviewassignment.dto.response.member.MemberBatchItemStatus;
+import kr.co.mz.mzdinterviewassignment.facade.MemberProfileFacade;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+@WebMvcTest(MemberBatchApiController.class)
+@MockBean(JpaMetamodelMappingContext.class)
+class MemberBatchApiControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    MemberProfileFacade memberProfileFacade;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("회원 일괄 생성 요청 테스트")
+    void createMembers_Test() throws Exception {
+
+        CreateProfileRequest profileDto = new CreateProfileRequest("홍길동", "01098765432", null);
+        CreateMembersRequest request = new CreateMembersRequest(List.of(
+            new CreateMemberRequest("test1", "테스트", "test123@", profileDto),
+            new CreateMemberRequest("test2", "테스트", "test123@", profileDto)
+        ), MemberBatchMode.PARTIAL);
+
+        CreateMembersResponse response = CreateMembersResponse.generateCreateMembers(
+            MemberBatchMode.PARTIAL, List.of(
+                MemberBatchItemResponse.builder()
+                    .index(0)
+                    .loginId("test1")
+                    .status(MemberBatchItemStatus.CREATED)
+                    .memberNo(1L)
+                    .build(),
+                MemberBatchItemResponse.generateFailed(1, "test2",
+                    MemberBatchItemStatus.DUPLICATE, "이미 존재하는 아이디입니다.")
+            ));
+
+        given(memberProfileFacade.createMembers(any(CreateMembersRequest.class)))
+            .willReturn(response);
+
+        mockMvc.perform(
+                post("/api/members:batch")
+                    .content(objectMapper.writeValueAsString(request))
+                    .contentType(MediaType.APPLICATION_JSON))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.code").value(HttpStatus.OK.name()))
+            .andExpect(jsonPath("$.message").value("회원 일괄 생성 처리 완료"))
+            .andExpect(jsonPath("$.data.mode").value("PARTIAL"))
+            .andExpect(jsonPath("$.data.createdCount").value(1))
+            .andExpect(jsonPath("$.data.failedCount").value(1))
+            .andExpect(jsonPath("$.data.results[0].memberNo").value(1L))
+            .andExpect(jsonPath("$.data.results[1].status").value("DUPLICATE"))
+            .andExpect(jsonPath("$.data.results[1].memberNo").doesNotExist())
+            .andDo(print());
+
+        verify(memberProfileFacade).createMembers(any(CreateMembersRequest.class));
+    }
+
+    @Test
+    @DisplayName("빈 회원 목록으로 일괄 생성 요청 시 실패 테스트")
+    void createMembers_Empty_Fail_Test() throws Exception {
+
+        CreateMembersRequest request = new CreateMembersRequest(List.of(), null);
+
+        mockMvc.perform(
+                post("/api/members:batch")
+                    .content(objectMapper.writeValueAsString(request))
+                    .contentType(MediaType.APPLICATION_JSON))
+            .andExpect(status().isBadRequest())
+            .andDo(print());
+
+        verify(memberProfileFacade, never()).createMembers(any(CreateMembersRequest.class));
+    }
+}
@@ -0,0 +1,75 @@
+package kr.co.mz.mzdinterviewassignment.controller.member;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import kr.co.mz.mzdinterviewassignment.dto.request.member.MemberExportFormat;
+import kr.co.mz.mzdinterviewassignment.service.MemberExportService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@WebMvcTest(MemberExportApiController.class)
+@MockBean(JpaMetamodelMappingContext.class)
+class MemberExportApiControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    MemberExportService memberExportService;
+
+    @Test
+    @DisplayName("회원 CSV 내보내기 요청 테스트")
+    void exportMembers_Csv_Test() throws Exception {
+
+        given(memberExportService.export(eq(MemberExportFormat.CSV), any(OutputStream.class)))
+            .willAnswer(invocation -> {
+                OutputStream outputStream = invocation.getArgument(1);
+                outputStream.write("memberNo,loginId\n1,test1\n".getBytes(StandardCharsets.UTF_8));
+                return 1L;
+            });
+
+        MvcResult result = mockMvc.perform(get("/api/members/export").param("format", "csv"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Type", "text/csv;charset=UTF-8"))
+            .andExpect(header().string("Content-Disposition",
+                "attachment; filename=\"members.csv\""))
+            .andExpect(content().string("memberNo,loginId\n1,test1\n"))
+            .andDo(print());
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 형식으로 내보내기 요청 시 실패 테스트")
+    void exportMembers_InvalidFormat_Fail_Test() throws Exception {
+
+        mockMvc.perform(get("/api/members/export").param("format", "xml"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("지원하지 않는 내보내기 형식입니다."))
+            .andDo(print());
+
+        verify(memberExportService, never()).export(any(), any());
+    }
+}
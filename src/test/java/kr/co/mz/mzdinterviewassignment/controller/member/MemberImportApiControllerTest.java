@@ -0,0 +1,118 @@
+package kr.co.mz.mzdinterviewassignment.controller.member;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import kr.co.mz.mzdinterviewassignment.exception.member.InvalidImportSourceException;
+import kr.co.mz.mzdinterviewassignment.exception.member.NotFoundImportJobException;
+import kr.co.mz.mzdinterviewassignment.job.MemberImportJob;
+import kr.co.mz.mzdinterviewassignment.job.MemberImportJobManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@WebMvcTest(MemberImportApiController.class)
+@MockBean(JpaMetamodelMappingContext.class)
+class MemberImportApiControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    MemberImportJobManager memberImportJobManager;
+
+    @Test
+    @DisplayName("NDJSON 업로드로 회원 가져오기 작업 등록 요청 테스트")
+    void importUpload_Test() throws Exception {
+
+        MemberImportJob job = new MemberImportJob(1L, "upload", Path.of("upload.ndjson"), true,
+            100);
+        given(memberImportJobManager.submitUpload(any(InputStream.class)))
+            .willReturn(CompletableFuture.completedFuture(job));
+
+        MvcResult result = mockMvc.perform(
+                post("/api/members/imports")
+                    .content("{\"loginId\":\"test1\"}\n")
+                    .contentType("application/x-ndjson"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isAccepted())
+            .andExpect(header().string("location", "http://localhost/api/members/imports/1"))
+            .andExpect(jsonPath("$.code").value(HttpStatus.ACCEPTED.name()))
+            .andExpect(jsonPath("$.data.jobId").value(1L))
+            .andExpect(jsonPath("$.data.status").value("QUEUED"))
+            .andDo(print());
+
+        verify(memberImportJobManager).submitUpload(any(InputStream.class));
+    }
+
+    @Test
+    @DisplayName("기준 경로 밖의 로컬 파일 가져오기 요청 시 실패 테스트")
+    void importFile_InvalidSource_Fail_Test() throws Exception {
+
+        given(memberImportJobManager.submitFile("../secret"))
+            .willThrow(new InvalidImportSourceException("../secret"));
+
+        mockMvc.perform(
+                post("/api/members/imports").param("path", "../secret"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("가져올 수 없는 파일입니다."))
+            .andDo(print());
+    }
+
+    @Test
+    @DisplayName("회원 가져오기 작업 상태 조회 요청 테스트")
+    void findImportStatus_Test() throws Exception {
+
+        MemberImportJob job = new MemberImportJob(1L, "upload", Path.of("upload.ndjson"), true,
+            100);
+        job.start();
+        job.increaseReadLines();
+        job.increaseCreatedCount(1);
+        job.increaseReadLines();
+        job.reject(2L, null, "JSON parse error");
+        job.complete();
+        given(memberImportJobManager.findJob(1L)).willReturn(job);
+
+        mockMvc.perform(get("/api/members/imports/1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.status").value("COMPLETED"))
+            .andExpect(jsonPath("$.data.readLines").value(2))
+            .andExpect(jsonPath("$.data.createdCount").value(1))
+            .andExpect(jsonPath("$.data.rejectedCount").value(1))
+            .andExpect(jsonPath("$.data.throughput").exists())
+            .andExpect(jsonPath("$.data.rejectedLines[0].lineNumber").value(2))
+            .andDo(print());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 회원 가져오기 작업 조회 시 실패 테스트")
+    void findImportStatus_NotFound_Fail_Test() throws Exception {
+
+        given(memberImportJobManager.findJob(1L)).willThrow(new NotFoundImportJobException(1L));
+
+        mockMvc.perform(get("/api/members/imports/1"))
+            .andExpect(status().isNotFound())
+            .andDo(print());
+    }
+}
@@ -0,0 +1,187 @@
+package kr.co.mz.mzdinterviewassignment.controller.member;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import kr.co.mz.mzdinterviewassignment.facade.MemberLockMode;
+import kr.co.mz.mzdinterviewassignment.service.MemberChangedEvent;
+import kr.co.mz.mzdinterviewassignment.service.MemberCreatedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class MemberResponseCacheTest {
+
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    @Test
+    @DisplayName("직렬화한 상세 정보를 다시 직렬화하지 않고 Content-Length 와 함께 응답")
+    void writeDetails_Cached_Test() throws IOException {
+        MemberResponseCache memberResponseCache = createCache(1024);
+
+        MockHttpServletResponse first = writeDetails(memberResponseCache, 1L, null);
+        MockHttpServletResponse second = writeDetails(memberResponseCache, 1L, null);
+
+        assertThat(loadCount).hasValue(1);
+        assertThat(second.getContentAsString(StandardCharsets.UTF_8))
+            .isEqualTo(first.getContentAsString(StandardCharsets.UTF_8))
+            .contains("홍길동");
+        assertThat(second.getContentLength()).isEqualTo(second.getContentAsByteArray().length);
+        assertThat(second.getContentType()).startsWith("application/json");
+        assertThat(second.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(memberResponseCache.getStats().get(0).getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("여러 노드가 함께 쓰는 데이터베이스 잠금 모드에서는 응답을 보관하지 않고 매번 직렬화")
+    void writeDetails_AdvisoryMode_Test() throws IOException {
+        MemberResponseCache memberResponseCache = createCache(MemberLockMode.ADVISORY, 1024);
+
+        MockHttpServletResponse first = writeDetails(memberResponseCache, 1L, null);
+        MockHttpServletResponse second = writeDetails(memberResponseCache, 1L, null);
+
+        assertThat(loadCount).hasValue(2);
+        assertThat(first.getContentAsString(StandardCharsets.UTF_8)).contains("\"홍길동\"");
+        assertThat(second.getContentAsString(StandardCharsets.UTF_8)).contains("홍길동홍길동");
+        assertThat(memberResponseCache.getStats())
+            .allSatisfy(stats -> assertThat(stats.getSize()).isZero());
+    }
+
+    @Test
+    @DisplayName("gzip 을 받을 수 있는 요청에는 압축한 본문으로 응답")
+    void writeDetails_Gzip_Test() throws IOException {
+        MemberResponseCache memberResponseCache = createCache(1);
+
+        MockHttpServletResponse identity = writeDetails(memberResponseCache, 1L, null);
+        MockHttpServletResponse gzip = writeDetails(memberResponseCache, 1L, "gzip, deflate");
+
+        assertThat(gzip.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(gzip.getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(gzip.getContentLength()).isEqualTo(gzip.getContentAsByteArray().length);
+        try (GZIPInputStream in =
+                 new GZIPInputStream(new ByteArrayInputStream(gzip.getContentAsByteArray()))) {
+            assertThat(in.readAllBytes()).isEqualTo(identity.getContentAsByteArray());
+        }
+    }
+
+    @Test
+    @DisplayName("gzip 의 q 값이 0 이면 압축하지 않은 본문으로 응답")
+    void writeDetails_GzipRejected_Test() throws IOException {
+        MemberResponseCache memberResponseCache = createCache(1);
+
+        MockHttpServletResponse rejected = writeDetails(memberResponseCache, 1L, "gzip;q=0, deflate");
+        MockHttpServletResponse wildcard = writeDetails(memberResponseCache, 1L, "*;q=0.5");
+        MockHttpServletResponse wildcardRejected =
+            writeDetails(memberResponseCache, 1L, "gzip; q=0.0, *");
+
+        assertThat(rejected.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(wildcard.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(wildcardRejected.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(MemberResponseCache.acceptsGzip("GZIP;Q=0.8")).isTrue();
+        assertThat(MemberResponseCache.acceptsGzip("identity")).isFalse();
+    }
+
+    @Test
+    @DisplayName("회원 변경 커밋 이벤트를 받으면 해당 회원 상세 정보와 그 회원이 속하거나 들어갈 수 있는 목록만 다시 직렬화")
+    void evict_MemberChanged_Test() throws IOException {
+        MemberResponseCache memberResponseCache = createCache(1024);
+
+        writeDetails(memberResponseCache, 1L, null);
+        writeDetails(memberResponseCache, 2L, null);
+        writeSlice(memberResponseCache, "0:2:", List.of(1L, 2L), 2);
+        writeSlice(memberResponseCache, "1:2:", List.of(3L, 4L), 2);
+        writeSlice(memberResponseCache, "2:2:", List.of(), 2);
+        memberResponseCache.evict(new MemberChangedEvent(3L));
+        memberResponseCache.evict(new MemberChangedEvent(1L));
+        writeDetails(memberResponseCache, 1L, null);
+        writeDetails(memberResponseCache, 2L, null);
+        writeSlice(memberResponseCache, "1:2:", List.of(3L, 4L), 2);
+        writeSlice(memberResponseCache, "2:2:", List.of(), 2);
+
+        assertThat(loadCount).hasValue(8);
+    }
+
+    @Test
+    @DisplayName("회원 생성 커밋 이벤트를 받으면 새 회원이 들어갈 수 있는 목록만 다시 직렬화")
+    void evict_MemberCreated_Test() throws IOException {
+        MemberResponseCache memberResponseCache = createCache(1024);
+
+        writeDetails(memberResponseCache, 1L, null);
+        writeSlice(memberResponseCache, "0:2:", List.of(1L, 2L), 2);
+        writeSlice(memberResponseCache, "1:2:", List.of(3L), 2);
+        writeSlice(memberResponseCache, "2:2:", List.of(), 2);
+        memberResponseCache.evict(new MemberCreatedEvent(List.of("test4"), List.of(4L)));
+        writeDetails(memberResponseCache, 1L, null);
+        writeSlice(memberResponseCache, "0:2:", List.of(1L, 2L), 2);
+        writeSlice(memberResponseCache, "1:2:", List.of(3L, 4L), 2);
+        writeSlice(memberResponseCache, "2:2:", List.of(), 2);
+
+        assertThat(loadCount).hasValue(6);
+    }
+
+    @Test
+    @DisplayName("캐시한 본문의 ETag 가 현재 버전과 다르면 다시 직렬화하고 새 ETag 로 응답")
+    void writeDetails_EntityTagMismatch_Test() throws IOException {
+        MemberResponseCache memberResponseCache = createCache(1024);
+
+        MockHttpServletResponse first = writeDetails(memberResponseCache, 1L, null, "\"1.0\"");
+        MockHttpServletResponse same = writeDetails(memberResponseCache, 1L, null, "\"1.0\"");
+        MockHttpServletResponse changed = writeDetails(memberResponseCache, 1L, null, "\"2.0\"");
+
+        assertThat(loadCount).hasValue(2);
+        assertThat(first.getHeader(HttpHeaders.ETAG)).isEqualTo("\"1.0\"");
+        assertThat(same.getHeader(HttpHeaders.ETAG)).isEqualTo("\"1.0\"");
+        assertThat(changed.getHeader(HttpHeaders.ETAG)).isEqualTo("\"2.0\"");
+        assertThat(changed.getDateHeader(HttpHeaders.LAST_MODIFIED)).isEqualTo(0L);
+    }
+
+    private MemberResponseCache createCache(final int gzipMinBytes) {
+        return createCache(MemberLockMode.LOCAL, gzipMinBytes);
+    }
+
+    private MemberResponseCache createCache(final MemberLockMode lockMode, final int gzipMinBytes) {
+        return new MemberResponseCache(new ObjectMapper(), lockMode, 1024 * 1024, 60, gzipMinBytes);
+    }
+
+    private MockHttpServletResponse writeDetails(final MemberResponseCache memberResponseCache,
+                                                 final Long memberNo,
+                                                 final String acceptEncoding) throws IOException {
+        return writeDetails(memberResponseCache, memberNo, acceptEncoding, null);
+    }
+
+    private MockHttpServletResponse writeDetails(final MemberResponseCache memberResponseCache,
+                                                 final Long memberNo,
+                                                 final String acceptEncoding,
+                                                 final String entityTag) throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        if (acceptEncoding != null) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        memberResponseCache.writeDetails(memberNo, entityTag, key -> {
+            loadCount.incrementAndGet();
+            return memberResponseCache.serialize(
+                Map.of("memberNo", key, "name", "홍길동".repeat(loadCount.get())),
+                entityTag, entityTag == null ? -1 : 0);
+        }, request, response);
+        return response;
+    }
+
+    private void writeSlice(final MemberResponseCache memberResponseCache, final String key,
+                            final List<Long> memberNos, final int size) throws IOException {
+        memberResponseCache.writeSlice(key, null, sliceKey -> {
+            loadCount.incrementAndGet();
+            return memberResponseCache.serializeSlice(Map.of("key", sliceKey), null, -1,
+                memberNos, size);
+        }, new MockHttpServletRequest(), new MockHttpServletResponse());
+    }
+}
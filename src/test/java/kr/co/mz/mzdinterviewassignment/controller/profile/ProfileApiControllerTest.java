@@ -2,6 +2,8 @@ package kr.co.mz.mzdinterviewassignment.controller.profile;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -9,15 +11,18 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.LocalDateTime;
+import java.util.Set;
 import kr.co.mz.mzdinterviewassignment.domain.profile.ProfileStatus;
 import kr.co.mz.mzdinterviewassignment.dto.request.profile.CreateProfileRequest;
 import kr.co.mz.mzdinterviewassignment.dto.request.profile.UpdateProfileRequest;
 import kr.co.mz.mzdinterviewassignment.dto.response.profile.ProfileResponse;
+import kr.co.mz.mzdinterviewassignment.exception.profile.ProfileVersionMismatchException;
 import kr.co.mz.mzdinterviewassignment.facade.MemberProfileFacade;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -26,6 +31,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -116,13 +122,15 @@ class ProfileApiControllerTest {
             .phoneNumber(phoneNumber)
             .address(address)
             .profileStatus(status)
+            .version(2L)
             .createdAt(LocalDateTime.now())
             .updatedAt(LocalDateTime.now())
             .build();
 
         given(memberProfileFacade.updateProfile(any(UpdateProfileRequest.class),
             anyLong(),
-            anyLong())).willReturn(response);
+            anyLong(),
+            isNull())).willReturn(response);
 
         mockMvc.perform(
                 patch("/api/members/" + memberNo + "/profiles/" + profileNo)
@@ -136,10 +144,55 @@ class ProfileApiControllerTest {
             .andExpect(jsonPath("$.data.profileStatus").value(dto.getProfileStatus().name()))
             .andExpect(jsonPath("$.data.createdAt").exists())
             .andExpect(jsonPath("$.data.updatedAt").exists())
+            .andExpect(jsonPath("$.data.version").value(2))
+            .andExpect(header().string(HttpHeaders.ETAG, "\"2\""))
             .andDo(print());
 
         verify(memberProfileFacade, times(1))
-            .updateProfile(any(UpdateProfileRequest.class), anyLong(), anyLong());
+            .updateProfile(any(UpdateProfileRequest.class), anyLong(), anyLong(), isNull());
+    }
+
+    @Test
+    @DisplayName("If-Match 헤더의 버전으로 프로필 수정 요청 테스트")
+    void updateProfile_IfMatch_Test() throws Exception {
+
+        UpdateProfileRequest dto = new UpdateProfileRequest("사과", "01011001234", null,
+            ProfileStatus.NORMAL);
+
+        given(memberProfileFacade.updateProfile(any(UpdateProfileRequest.class), eq(1L), eq(1L),
+            eq(Set.of(3L, 4L))))
+            .willReturn(ProfileResponse.builder().profileNo(1L).version(4L).build());
+
+        mockMvc.perform(
+                patch("/api/members/1/profiles/1")
+                    .header(HttpHeaders.IF_MATCH, "\"3\", W/\"9\", \"4\"")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(dto)))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"4\""))
+            .andDo(print());
+    }
+
+    @Test
+    @DisplayName("If-Match 헤더의 버전이 프로필 버전과 다르면 412 응답 테스트")
+    void updateProfile_VersionMismatch_Fail_Test() throws Exception {
+
+        UpdateProfileRequest dto = new UpdateProfileRequest("사과", "01011001234", null,
+            ProfileStatus.NORMAL);
+
+        given(memberProfileFacade.updateProfile(any(UpdateProfileRequest.class), eq(1L), eq(1L),
+            eq(Set.of(3L))))
+            .willThrow(new ProfileVersionMismatchException(1L, 4L));
+
+        mockMvc.perform(
+                patch("/api/members/1/profiles/1")
+                    .header(HttpHeaders.IF_MATCH, "\"3\"")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(dto)))
+            .andExpect(status().isPreconditionFailed())
+            .andExpect(jsonPath("$.message")
+                .value("프로필이 다른 요청에 의해 변경되었습니다. 다시 조회 후 수정해주세요."))
+            .andDo(print());
     }
 
     @Test
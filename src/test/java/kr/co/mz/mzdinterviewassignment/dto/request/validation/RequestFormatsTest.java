@@ -0,0 +1,131 @@
+package kr.co.mz.mzdinterviewassignment.dto.request.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import kr.co.mz.mzdinterviewassignment.dto.request.member.CreateMemberRequest;
+import kr.co.mz.mzdinterviewassignment.dto.request.profile.CreateProfileRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RequestFormatsTest {
+
+    private static final int ITERATIONS = 200_000;
+    private static final String ALPHABET = "azAZ09gM5가힣각흐~!@#$%^&*()+|=-_ :`{[/.?\n";
+    private static final char[] BOUNDARIES = {'a' - 1, 'z' + 1, 'A' - 1, 'Z' + 1, '0' - 1, '9' + 1,
+        '가' - 1, '힣' + 1, '٣', '\uD83D', '\uDE00', '\u0000'};
+
+    private final Random random = new Random(20240301L);
+
+    @Test
+    @DisplayName("아이디 검증은 기존 정규식과 같은 결과를 반환")
+    void isLoginId_Test() {
+        assertEquivalent(Pattern.compile("^[a-z\\d]{4,20}$"), RequestFormats::isLoginId,
+            "member1234", 22);
+    }
+
+    @Test
+    @DisplayName("이름 검증은 기존 정규식과 같은 결과를 반환")
+    void isMemberName_Test() {
+        assertEquivalent(Pattern.compile("^[가-힣]{2,8}$"), RequestFormats::isMemberName,
+            "홍길동", 10);
+    }
+
+    @Test
+    @DisplayName("비밀번호 검증은 기존 정규식과 같은 결과를 반환")
+    void isPassword_Test() {
+        assertEquivalent(Pattern.compile("^[A-Za-z\\d~!@#$%^&*()+|=]{8,16}$"),
+            RequestFormats::isPassword, "Password1!", 18);
+    }
+
+    @Test
+    @DisplayName("닉네임 검증은 기존 정규식과 같은 결과를 반환")
+    void isNickname_Test() {
+        assertEquivalent(Pattern.compile("^[가-힣a-zA-Z0-9-_]{2,8}$"), RequestFormats::isNickname,
+            "길동_01", 10);
+    }
+
+    @Test
+    @DisplayName("휴대전화 번호 검증은 기존 정규식과 같은 결과를 반환")
+    void isPhoneNumber_Test() {
+        assertEquivalent(Pattern.compile("^01(?:0|1|[6-9])(?:\\d{7}|\\d{8})$"),
+            RequestFormats::isPhoneNumber, "01012345678", 13);
+    }
+
+    @Test
+    @DisplayName("검증 애너테이션은 기존과 같은 메시지로 위반 사항을 반환")
+    void validate_Message_Test() {
+        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+            Validator validator = factory.getValidator();
+            CreateMemberRequest request = new CreateMemberRequest("Member!", "hong", "short",
+                new CreateProfileRequest("길동@", "0212345678", "서울특별시 강남구"));
+
+            assertThat(validator.validate(request))
+                .extracting(ConstraintViolation::getMessage)
+                .containsExactlyInAnyOrder(
+                    "아이디는 영문 소문자와 숫자로 구성된 4 ~ 12자리로 입력해주세요.",
+                    "이름은 한글로 구성된 2 ~ 8자리로 입력해주세요.",
+                    "비밀번호는 영문 대소문자, 숫자, 특수문자'~!@#$%^&*()+|='로 구성된 8 ~ 16자리로 입력해주세요.",
+                    "닉네임은 영문 대소문자, 숫자, 한글로 구성된 2 ~ 8자리로 입력해주세요.",
+                    "휴대전화 번호는 하이픈(-)을 제외한 10자리 또는 11자리로 입력해주세요.");
+        }
+    }
+
+    private void assertEquivalent(final Pattern pattern,
+                                  final Predicate<CharSequence> format,
+                                  final String valid,
+                                  final int maxLength) {
+        for (int i = 0; i < ITERATIONS; i++) {
+            String value = i % 2 == 0 ? randomValue(maxLength) : mutate(valid);
+
+            assertThat(format.test(value))
+                .as("입력값 [%s]", value)
+                .isEqualTo(pattern.matcher(value).matches());
+        }
+    }
+
+    private String randomValue(final int maxLength) {
+        StringBuilder builder = new StringBuilder();
+        int length = random.nextInt(maxLength + 1);
+        for (int i = 0; i < length; i++) {
+            builder.append(randomChar());
+        }
+        return builder.toString();
+    }
+
+    private String mutate(final String valid) {
+        StringBuilder builder = new StringBuilder(valid);
+        int mutations = random.nextInt(3);
+        for (int i = 0; i < mutations; i++) {
+            int index = random.nextInt(builder.length() + 1);
+            switch (random.nextInt(3)) {
+                case 0 -> builder.insert(index, randomChar());
+                case 1 -> {
+                    if (index < builder.length()) {
+                        builder.setCharAt(index, randomChar());
+                    }
+                }
+                default -> {
+                    if (index < builder.length()) {
+                        builder.deleteCharAt(index);
+                    }
+                }
+            }
+        }
+        return builder.toString();
+    }
+
+    private char randomChar() {
+        return switch (random.nextInt(4)) {
+            case 0 -> BOUNDARIES[random.nextInt(BOUNDARIES.length)];
+            case 1 -> (char) random.nextInt(0x80);
+            default -> ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+        };
+    }
+}
@@ -0,0 +1,225 @@
+package kr.co.mz.mzdinterviewassignment.facade;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import kr.co.mz.mzdinterviewassignment.exception.member.MemberLockTimeoutException;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class MemberLockManagerTest {
+
+    @Test
+    @DisplayName("같은 회원의 변경 요청은 앞선 요청이 끝날 때까지 대기")
+    void executeWithLock_SameMember_Test() throws Exception {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        MemberLockManager lockManager = new MemberLockManager(Mockito.mock(JdbcTemplate.class),
+            meterRegistry, MemberLockMode.LOCAL, 16, 100, 500);
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> holder = holdLock(lockManager, 1L, locked, release);
+        locked.await(1, TimeUnit.SECONDS);
+
+        assertThatThrownBy(() -> lockManager.executeWithLock(1L, () -> "second"))
+            .isInstanceOf(MemberLockTimeoutException.class);
+
+        release.countDown();
+        assertThat(holder.get(1, TimeUnit.SECONDS)).isEqualTo("first");
+        assertThat(lockManager.executeWithLock(1L, () -> "third")).isEqualTo("third");
+
+        assertThat(meterRegistry.get("member.lock.wait").tag("lock", "local").timer().count())
+            .isEqualTo(2);
+        assertThat(meterRegistry.get("member.lock.timeouts").tag("lock", "local").counter()
+            .count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 회원의 변경 요청은 기다리지 않고 실행")
+    void executeWithLock_OtherMember_Test() throws Exception {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        MemberLockManager lockManager = new MemberLockManager(Mockito.mock(JdbcTemplate.class),
+            meterRegistry, MemberLockMode.LOCAL, 1024, 100, 500);
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> holder = holdLock(lockManager, 1L, locked, release);
+        locked.await(1, TimeUnit.SECONDS);
+
+        assertThat(lockManager.executeWithLock(2L, () -> "other")).isEqualTo("other");
+
+        release.countDown();
+        holder.get(1, TimeUnit.SECONDS);
+        assertThat(meterRegistry.get("member.lock.timeouts").tag("lock", "local").counter()
+            .count()).isZero();
+    }
+
+    @Test
+    @DisplayName("데이터베이스 잠금 모드에서는 다른 노드의 같은 회원 변경 요청도 커밋될 때까지 대기")
+    void lockInTransaction_Advisory_Test() throws Exception {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:member-lock;DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        TransactionTemplate transactionTemplate =
+            new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        jdbcTemplate.execute("create alias if not exists get_lock for '"
+            + AdvisoryLocks.class.getName() + ".getLock'");
+        jdbcTemplate.execute("create alias if not exists release_lock for '"
+            + AdvisoryLocks.class.getName() + ".releaseLock'");
+
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        MemberLockManager firstNode = new MemberLockManager(jdbcTemplate, meterRegistry,
+            MemberLockMode.ADVISORY, 16, 100, 500);
+        MemberLockManager secondNode = new MemberLockManager(jdbcTemplate, meterRegistry,
+            MemberLockMode.ADVISORY, 16, 100, 500);
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Integer> holder = CompletableFuture.supplyAsync(
+            () -> transactionTemplate.execute(status -> {
+                firstNode.lockInTransaction(1L);
+                locked.countDown();
+                await(release);
+                return jdbcTemplate.queryForObject("select session_id()", Integer.class);
+            }));
+        locked.await(1, TimeUnit.SECONDS);
+
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(
+            status -> secondNode.lockInTransaction(1L)))
+            .isInstanceOf(MemberLockTimeoutException.class);
+        transactionTemplate.executeWithoutResult(status -> secondNode.lockInTransaction(2L));
+
+        release.countDown();
+        assertThat(holder.get(1, TimeUnit.SECONDS))
+            .isEqualTo(AdvisoryLocks.SESSIONS.get("member-lock-1"));
+        transactionTemplate.executeWithoutResult(status -> secondNode.lockInTransaction(1L));
+
+        assertThat(meterRegistry.get("member.lock.wait").tag("lock", "advisory").timer().count())
+            .isEqualTo(3);
+        assertThat(meterRegistry.get("member.lock.timeouts").tag("lock", "advisory").counter()
+            .count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 끝날 때 커넥션을 반환하는 JPA 트랜잭션에서도 잠금을 잡은 커넥션으로 해제")
+    void lockInTransaction_AdvisoryWithJpaTransaction_Test() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:member-lock-jpa;DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create alias if not exists get_lock for '"
+            + AdvisoryLocks.class.getName() + ".getLock'");
+        jdbcTemplate.execute("create alias if not exists release_lock for '"
+            + AdvisoryLocks.class.getName() + ".releaseLock'");
+
+        LocalContainerEntityManagerFactoryBean entityManagerFactory =
+            new LocalContainerEntityManagerFactoryBean();
+        entityManagerFactory.setDataSource(dataSource);
+        entityManagerFactory.setPackagesToScan(MemberLockManagerTest.class.getPackageName());
+        entityManagerFactory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        entityManagerFactory.setJpaPropertyMap(Map.of(AvailableSettings.CONNECTION_HANDLING,
+            PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION.name()));
+        entityManagerFactory.afterPropertiesSet();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(
+            new JpaTransactionManager(entityManagerFactory.getObject()));
+
+        MemberLockManager lockManager = new MemberLockManager(jdbcTemplate,
+            new SimpleMeterRegistry(), MemberLockMode.ADVISORY, 16, 100, 500);
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> lockManager.lockInTransaction(3L));
+            assertThat(AdvisoryLocks.RELEASED_SESSIONS.get("member-lock-3"))
+                .isEqualTo(AdvisoryLocks.SESSIONS.get("member-lock-3"));
+
+            assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+                lockManager.lockInTransaction(3L);
+                throw new IllegalStateException("rollback");
+            })).isInstanceOf(IllegalStateException.class);
+            transactionTemplate.executeWithoutResult(status -> lockManager.lockInTransaction(3L));
+        } finally {
+            entityManagerFactory.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("데이터베이스 잠금 모드는 트랜잭션 밖에서 사용할 수 없음")
+    void lockInTransaction_WithoutTransaction_Fail_Test() {
+        MemberLockManager lockManager = new MemberLockManager(Mockito.mock(JdbcTemplate.class),
+            new SimpleMeterRegistry(), MemberLockMode.ADVISORY, 16, 100, 500);
+
+        assertThatThrownBy(() -> lockManager.lockInTransaction(1L))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static CompletableFuture<String> holdLock(final MemberLockManager lockManager,
+                                                      final Long memberNo,
+                                                      final CountDownLatch locked,
+                                                      final CountDownLatch release) {
+        return CompletableFuture.supplyAsync(() -> lockManager.executeWithLock(memberNo, () -> {
+            locked.countDown();
+            await(release);
+            return "first";
+        }));
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public static class AdvisoryLocks {
+        private static final Map<String, Semaphore> LOCKS = new ConcurrentHashMap<>();
+        private static final Map<String, Integer> SESSIONS = new ConcurrentHashMap<>();
+        private static final Map<String, Integer> RELEASED_SESSIONS = new ConcurrentHashMap<>();
+
+        public static int getLock(final Connection connection, final String name,
+                                  final double timeoutSeconds)
+            throws InterruptedException, SQLException {
+            Semaphore semaphore = LOCKS.computeIfAbsent(name, key -> new Semaphore(1));
+            if (!semaphore.tryAcquire((long) (timeoutSeconds * 1000), TimeUnit.MILLISECONDS)) {
+                return 0;
+            }
+            SESSIONS.put(name, sessionId(connection));
+            return 1;
+        }
+
+        public static int releaseLock(final Connection connection, final String name)
+            throws SQLException {
+            RELEASED_SESSIONS.put(name, sessionId(connection));
+            LOCKS.get(name).release();
+            return 1;
+        }
+
+        private static int sessionId(final Connection connection) throws SQLException {
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery("select session_id()")) {
+                resultSet.next();
+                return resultSet.getInt(1);
+            }
+        }
+    }
+}
@@ -1,26 +1,55 @@
 package kr.co.mz.mzdinterviewassignment.facade;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
 
+import jakarta.persistence.EntityManager;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import kr.co.mz.mzdinterviewassignment.domain.member.Member;
 import kr.co.mz.mzdinterviewassignment.domain.profile.ProfileStatus;
 import kr.co.mz.mzdinterviewassignment.dto.request.member.CreateMemberRequest;
+import kr.co.mz.mzdinterviewassignment.dto.request.member.CreateMembersRequest;
+import kr.co.mz.mzdinterviewassignment.dto.request.member.MemberBatchMode;
 import kr.co.mz.mzdinterviewassignment.dto.request.profile.CreateProfileRequest;
 import kr.co.mz.mzdinterviewassignment.dto.request.profile.UpdateProfileRequest;
+import kr.co.mz.mzdinterviewassignment.dto.response.member.CreateMembersResponse;
+import kr.co.mz.mzdinterviewassignment.dto.response.member.MemberBatchItemResponse;
+import kr.co.mz.mzdinterviewassignment.dto.response.member.MemberBatchItemStatus;
+import kr.co.mz.mzdinterviewassignment.dto.response.member.MemberCursorResponse;
 import kr.co.mz.mzdinterviewassignment.dto.response.member.MemberDetailsResponse;
 import kr.co.mz.mzdinterviewassignment.dto.response.member.MemberInfoResponse;
 import kr.co.mz.mzdinterviewassignment.dto.response.member.MemberResponse;
+import kr.co.mz.mzdinterviewassignment.dto.response.member.MemberSliceResponse;
 import kr.co.mz.mzdinterviewassignment.dto.response.profile.ProfileResponse;
+import kr.co.mz.mzdinterviewassignment.exception.member.DuplicateLoginIdException;
+import kr.co.mz.mzdinterviewassignment.exception.profile.ProfileVersionMismatchException;
+import kr.co.mz.mzdinterviewassignment.support.MaxQueries;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.jdbc.EmbeddedDatabaseConnection;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-@SpringBootTest
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @Transactional
 @AutoConfigureTestDatabase(connection = EmbeddedDatabaseConnection.H2)
 class MemberProfileFacadeTest {
@@ -28,6 +57,12 @@ class MemberProfileFacadeTest {
     @Autowired
     MemberProfileFacade memberProfileFacade;
 
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
     private CreateMemberRequest request;
 
     @BeforeEach
@@ -44,6 +79,7 @@ class MemberProfileFacadeTest {
     }
 
     @Test
+    @MaxQueries(7)
     @DisplayName("회원 등록 테스트")
     void createMember_Success_Test() {
 
@@ -59,121 +95,428 @@ class MemberProfileFacadeTest {
     }
 
     @Test
-    @DisplayName("회원 삭제 테스트")
-    void deleteMember_Success_Test() {
+    @DisplayName("부분 성공 모드 회원 일괄 등록 테스트")
+    void createMembers_Partial_Test() {
 
-        MemberResponse member = memberProfileFacade.createMember(request);
+        memberProfileFacade.createMember(request);
 
-        String deletedLoginId = memberProfileFacade.deleteMember(member.getMemberNo());
+        CreateMembersResponse response = memberProfileFacade.createMembers(
+            new CreateMembersRequest(generateBatchRequests(), MemberBatchMode.PARTIAL));
+
+        assertThat(response.getCreatedCount()).isEqualTo(2);
+        assertThat(response.getFailedCount()).isEqualTo(3);
+        assertThat(response.getResults()).extracting(MemberBatchItemResponse::getStatus)
+            .containsExactly(MemberBatchItemStatus.CREATED, MemberBatchItemStatus.DUPLICATE,
+                MemberBatchItemStatus.INVALID, MemberBatchItemStatus.CREATED,
+                MemberBatchItemStatus.DUPLICATE);
+
+        MemberBatchItemResponse created = response.getResults().get(0);
+        MemberDetailsResponse details = memberProfileFacade.findMemberDetails(created.getMemberNo());
+        assertThat(details.getLoginId()).isEqualTo("batch1");
+        assertThat(details.getProfiles()).singleElement()
+            .extracting(ProfileResponse::getProfileStatus)
+            .isEqualTo(ProfileStatus.MAIN);
+    }
 
-        assertThat(deletedLoginId).isEqualTo(member.getLoginId());
+    @Test
+    @DisplayName("회원 일괄 등록 시 회원마다 UPDATE 를 실행하지 않고 한 번에 프로필 요약을 갱신하는지 테스트")
+    void createMembers_NoMemberUpdate_Test() {
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+            .unwrap(SessionFactory.class)
+            .getStatistics();
+        statistics.clear();
+
+        CreateMembersResponse response = memberProfileFacade.createMembers(
+            new CreateMembersRequest(generateBatchRequests(), MemberBatchMode.PARTIAL));
+        entityManager.flush();
+
+        assertThat(response.getCreatedCount()).isEqualTo(3);
+        assertThat(statistics.getEntityUpdateCount()).isZero();
+
+        Long memberNo = response.getResults().get(0).getMemberNo();
+        entityManager.clear();
+        Member member = entityManager.find(Member.class, memberNo);
+        assertThat(member.getProfileCount()).isEqualTo(1);
+        assertThat(findMainProfileNos(memberNo)).containsExactly(member.getMainProfileNo());
     }
 
     @Test
-    @DisplayName("회원 상세 조회 테스트")
-    void findMemberDetails_Success_Test() {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("부분 성공 모드 일괄 저장이 실패하면 항목별로 다시 저장하여 나머지 회원은 등록하는지 테스트")
+    void createMembers_PartialFallback_Test() {
+
+        jdbcTemplate.update("""
+            insert into member_tbl (member_no, login_id, name, password, member_status,
+                                    profile_count, version, created_at, updated_at)
+            values (900000, 'fallback2', '기존회원', 'test123@', 'ACTIVE', 0, 0,
+                    current_timestamp, current_timestamp)
+            """);
+        CreateProfileRequest profileDto = new CreateProfileRequest("홍길동", "01098765432", null);
+
+        try {
+            CreateMembersResponse response = memberProfileFacade.createMembers(
+                new CreateMembersRequest(List.of(
+                    new CreateMemberRequest("fallback1", "일괄회원", "test123@", profileDto),
+                    new CreateMemberRequest("fallback2", "일괄회원", "test123@", profileDto),
+                    new CreateMemberRequest("fallback3", "일괄회원", "test123@", profileDto)),
+                    MemberBatchMode.PARTIAL));
+
+            assertThat(response.getResults()).extracting(MemberBatchItemResponse::getStatus)
+                .containsExactly(MemberBatchItemStatus.CREATED, MemberBatchItemStatus.DUPLICATE,
+                    MemberBatchItemStatus.CREATED);
+            assertThat(jdbcTemplate.queryForList("""
+                select login_id from member_tbl
+                where login_id like 'fallback%' and profile_count = 1
+                order by login_id
+                """, String.class))
+                .containsExactly("fallback1", "fallback3");
+        } finally {
+            jdbcTemplate.update("""
+                delete from member_name_gram where member_no in
+                    (select member_no from member_tbl where login_id like 'fallback%')
+                """);
+            jdbcTemplate.update("""
+                delete from profile_tbl where member_no in
+                    (select member_no from member_tbl where login_id like 'fallback%')
+                """);
+            jdbcTemplate.update("delete from member_tbl where login_id like 'fallback%'");
+        }
+    }
+
+    @Test
+    @DisplayName("전체 성공 모드에서 실패 항목이 있으면 회원을 등록하지 않는지 테스트")
+    void createMembers_AllOrNothing_Test() {
+
+        memberProfileFacade.createMember(request);
+
+        CreateMembersResponse response = memberProfileFacade.createMembers(
+            new CreateMembersRequest(generateBatchRequests(), MemberBatchMode.ALL_OR_NOTHING));
+
+        assertThat(response.getCreatedCount()).isZero();
+        assertThat(response.getResults()).extracting(MemberBatchItemResponse::getStatus)
+            .containsExactly(MemberBatchItemStatus.SKIPPED, MemberBatchItemStatus.DUPLICATE,
+                MemberBatchItemStatus.INVALID, MemberBatchItemStatus.SKIPPED,
+                MemberBatchItemStatus.DUPLICATE);
+        assertThat(memberProfileFacade.findMembers(0, 10, "").stream()
+            .map(MemberInfoResponse::getLoginId))
+            .containsExactly(request.getLoginId());
+    }
+
+    @Test
+    @DisplayName("탈퇴한 회원의 아이디로 가입 시 중복 아이디 실패 테스트")
+    void createMember_DeletedLoginId_Fail_Test() {
 
         MemberResponse member = memberProfileFacade.createMember(request);
+        memberProfileFacade.deleteMember(member.getMemberNo());
 
-        MemberDetailsResponse findMember =
-            memberProfileFacade.findMemberDetails(member.getMemberNo());
+        assertThatThrownBy(() -> memberProfileFacade.createMember(request))
+            .isInstanceOf(DuplicateLoginIdException.class);
+    }
+
+    @Test
+    @DisplayName("회원 검색 시 다음 페이지 여부 반환 테스트")
+    void findMemberSlice_Success_Test() {
 
-        assertThat(findMember.getMemberNo()).isEqualTo(member.getMemberNo());
-        assertThat(findMember.getLoginId()).isEqualTo(member.getLoginId());
-        assertThat(findMember.getName()).isEqualTo(member.getName());
-        assertThat(findMember.getCreatedAt()).isEqualTo(member.getCreatedAt());
-        assertThat(findMember.getProfiles()).hasSize(1);
+        memberProfileFacade.createMember(request);
+
+        generateMembers();
+
+        MemberSliceResponse response = memberProfileFacade.findMemberSlice(0, 10, "", false);
+
+        assertThat(response.getMembers()).hasSize(10);
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(response.getTotalCount()).isNull();
     }
 
     @Test
-    @DisplayName("회원 전체 조회 테스트")
-    void findMembers_Success_Test() {
+    @DisplayName("회원 검색 시 요청한 경우에만 전체 회원 수 포함")
+    void findMemberSlice_IncludeTotal_Success_Test() {
 
         memberProfileFacade.createMember(request);
 
         generateMembers();
 
-        List<MemberInfoResponse> responses = memberProfileFacade.findMembers(0, 10, "");
+        MemberSliceResponse response = memberProfileFacade.findMemberSlice(2, 10, "", true);
 
-        assertThat(responses).hasSize(10);
+        assertThat(response.getMembers()).hasSize(1);
+        assertThat(response.isHasNext()).isFalse();
+        assertThat(response.getTotalCount()).isEqualTo(21);
+        assertThat(response.getTotalCountedAt()).isNotNull();
     }
 
     @Test
-    @DisplayName("회원 전체 조회 이름 검색 테스트")
-    void findMembers_ByName_Success_Test() {
+    @DisplayName("회원 전체 조회 시 페이지 크기와 무관하게 실행되는 쿼리 수가 일정한지 테스트")
+    void findMembers_ConstantStatementCount_Test() {
 
         memberProfileFacade.createMember(request);
 
         generateMembers();
 
-        String name = "테스트";
-        List<MemberInfoResponse> responses = memberProfileFacade.findMembers(0, 5, name);
+        long smallPageCount = countStatements(() -> memberProfileFacade.findMembers(0, 5, ""));
+        long largePageCount = countStatements(() -> memberProfileFacade.findMembers(0, 20, ""));
 
-        assertThat(responses).hasSize(1);
-        assertThat(responses.get(0).getName()).isEqualTo(name);
-        assertThat(responses.get(0).getName()).isEqualTo(request.getName());
-        assertThat(responses.get(0).getLoginId()).isEqualTo(request.getLoginId());
+        assertThat(largePageCount).isEqualTo(smallPageCount);
     }
 
     @Test
-    @DisplayName("프로필 생성 테스트")
-    void createProfile_Success_Test() {
+    @DisplayName("이전 버전으로 프로필 수정 시 버전 불일치로 실패 테스트")
+    void updateProfile_StaleVersion_Fail_Test() {
 
         MemberResponse member = memberProfileFacade.createMember(request);
+        ProfileResponse profile = member.getProfile();
 
-        CreateProfileRequest profileRequest =
-            generateCreateProfileRequest();
+        ProfileResponse updated = memberProfileFacade.updateProfile(
+            new UpdateProfileRequest("첫번째수정", "01011112222", null, ProfileStatus.MAIN),
+            profile.getProfileNo(), member.getMemberNo(), Set.of(profile.getVersion()));
 
-        ProfileResponse response =
-            memberProfileFacade.createProfile(profileRequest, member.getMemberNo());
-
-        assertThat(response.getProfileNo()).isPositive();
-        assertThat(response.getNickname()).isEqualTo(profileRequest.getNickname());
-        assertThat(response.getPhoneNumber()).isEqualTo(profileRequest.getPhoneNumber());
-        assertThat(response.getAddress()).isEqualTo(profileRequest.getAddress());
+        assertThat(updated.getVersion()).isEqualTo(profile.getVersion() + 1);
+        assertThatThrownBy(() -> memberProfileFacade.updateProfile(
+            new UpdateProfileRequest("두번째수정", "01011112222", null, ProfileStatus.MAIN),
+            profile.getProfileNo(), member.getMemberNo(), Set.of(profile.getVersion())))
+            .isInstanceOf(ProfileVersionMismatchException.class);
     }
 
     @Test
-    @DisplayName("프로필 수정 테스트")
-    void updateProfile_Success_Test() {
+    @DisplayName("일반 프로필을 메인 프로필로 전환 후 다시 일반 프로필로 전환 테스트")
+    void updateProfile_SwitchMainProfile_Test() {
 
         MemberResponse member = memberProfileFacade.createMember(request);
+        Long firstProfileNo = member.getProfile().getProfileNo();
+        ProfileResponse second = memberProfileFacade.createProfile(generateCreateProfileRequest(),
+            member.getMemberNo());
 
-        UpdateProfileRequest updateProfileRequest = new UpdateProfileRequest(
-            "닉네임생성",
-            "01099999999",
-            "서울특별시 성북구 화랑도 11길 26 103동 1602호 (하월곡동, 한국아파트)",
-            ProfileStatus.MAIN
-        );
+        memberProfileFacade.updateProfile(new UpdateProfileRequest("메인전환", "01011112222",
+            null, ProfileStatus.MAIN), second.getProfileNo(), member.getMemberNo(), null);
+        entityManager.flush();
+        entityManager.clear();
 
-        ProfileResponse response =
-            memberProfileFacade.updateProfile(updateProfileRequest,
-                member.getProfile().getProfileNo(), member.getMemberNo());
+        assertThat(findMainProfileNos(member.getMemberNo()))
+            .containsExactly(second.getProfileNo());
 
-        assertThat(response.getNickname()).isEqualTo(updateProfileRequest.getNickname());
-        assertThat(response.getPhoneNumber()).isEqualTo(updateProfileRequest.getPhoneNumber());
-        assertThat(response.getAddress()).isEqualTo(updateProfileRequest.getAddress());
-        assertThat(response.getProfileStatus()).isEqualTo(updateProfileRequest.getProfileStatus());
-        assertThat(response.getNickname()).isNotEqualTo(member.getProfile().getNickname());
-        assertThat(response.getPhoneNumber()).isNotEqualTo(member.getProfile().getPhoneNumber());
-        assertThat(response.getAddress()).isNotEqualTo(member.getProfile().getAddress());
+        memberProfileFacade.updateProfile(new UpdateProfileRequest("일반전환", "01011112222",
+            null, ProfileStatus.NORMAL), second.getProfileNo(), member.getMemberNo(), null);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(findMainProfileNos(member.getMemberNo())).containsExactly(firstProfileNo);
+        assertThat(memberProfileFacade.findMemberDetails(member.getMemberNo()).getProfiles())
+            .filteredOn(profile -> profile.getProfileNo().equals(second.getProfileNo()))
+            .extracting(ProfileResponse::getNickname)
+            .containsExactly("일반전환");
     }
 
     @Test
-    @DisplayName("프로필 삭제 테스트")
-    void deleteProfile_Success_Test() {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("같은 회원에 프로필 생성과 메인 프로필 전환을 동시에 요청해도 메인 프로필은 하나이고 프로필 개수가 일치하는지 테스트")
+    void createProfileAndUpdateProfile_Concurrent_Test() throws Exception {
+
+        Long memberNo = memberProfileFacade.createMember(new CreateMemberRequest("concurrent1",
+            "동시회원", "test123@", generateCreateProfileRequest())).getMemberNo();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            List<Long> profileNos = IntStream.range(0, 4)
+                .mapToObj(i -> memberProfileFacade.createProfile(generateCreateProfileRequest(),
+                    memberNo).getProfileNo())
+                .toList();
+
+            List<Callable<ProfileResponse>> tasks = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                tasks.add(() -> memberProfileFacade.createProfile(generateCreateProfileRequest(),
+                    memberNo));
+            }
+            for (Long profileNo : profileNos) {
+                tasks.add(() -> memberProfileFacade.updateProfile(new UpdateProfileRequest(
+                    "메인전환", "01011112222", null, ProfileStatus.MAIN), profileNo, memberNo, null));
+            }
+            for (Future<ProfileResponse> future : executor.invokeAll(tasks)) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+
+            Map<String, Object> member = jdbcTemplate.queryForMap(
+                "select main_profile_no, profile_count from member_tbl where member_no = ?",
+                memberNo);
+            assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from profile_tbl where member_no = ?", Integer.class, memberNo))
+                .isEqualTo(13)
+                .isEqualTo(((Number) member.get("profile_count")).intValue());
+            assertThat(jdbcTemplate.queryForList(
+                "select profile_no from profile_tbl where member_no = ? and profile_status = 'MAIN'",
+                Long.class, memberNo))
+                .containsExactly(((Number) member.get("main_profile_no")).longValue())
+                .containsAnyElementsOf(profileNos);
+        } finally {
+            executor.shutdownNow();
+            jdbcTemplate.update("delete from member_name_gram where member_no = ?", memberNo);
+            jdbcTemplate.update("delete from profile_tbl where member_no = ?", memberNo);
+            jdbcTemplate.update("delete from member_tbl where member_no = ?", memberNo);
+        }
+    }
 
-        MemberResponse member = memberProfileFacade.createMember(request);
+    @Nested
+    @DisplayName("회원이 등록되어 있을 때")
+    class RegisteredMember {
+
+        private MemberResponse member;
 
-        CreateProfileRequest profileRequest =
-            generateCreateProfileRequest();
+        @BeforeEach
+        void setUp() {
+            member = memberProfileFacade.createMember(request);
+            memberProfileFacade.createProfile(generateCreateProfileRequest(), member.getMemberNo());
+            entityManager.flush();
+            entityManager.clear();
+        }
 
-        memberProfileFacade.createProfile(profileRequest, member.getMemberNo());
+        @Test
+        @MaxQueries(3)
+        @DisplayName("회원 삭제 테스트")
+        void deleteMember_Success_Test() {
 
-        String nickname = memberProfileFacade.deleteProfile(member.getProfile().getProfileNo(),
-            member.getMemberNo());
+            String deletedLoginId = memberProfileFacade.deleteMember(member.getMemberNo());
+            entityManager.flush();
+
+            assertThat(deletedLoginId).isEqualTo(member.getLoginId());
+        }
+
+        @Test
+        @MaxQueries(2)
+        @DisplayName("회원 상세 조회 테스트")
+        void findMemberDetails_Success_Test() {
 
-        assertThat(nickname).isEqualTo(member.getProfile().getNickname());
+            MemberDetailsResponse findMember =
+                memberProfileFacade.findMemberDetails(member.getMemberNo());
+
+            assertThat(findMember.getMemberNo()).isEqualTo(member.getMemberNo());
+            assertThat(findMember.getLoginId()).isEqualTo(member.getLoginId());
+            assertThat(findMember.getName()).isEqualTo(member.getName());
+            assertThat(findMember.getCreatedAt())
+                .isCloseTo(member.getCreatedAt(), within(1, ChronoUnit.MICROS));
+            assertThat(findMember.getProfiles()).hasSize(2);
+        }
+
+        @Test
+        @MaxQueries(5)
+        @DisplayName("프로필 생성 테스트")
+        void createProfile_Success_Test() {
+
+            CreateProfileRequest profileRequest =
+                generateCreateProfileRequest();
+
+            ProfileResponse response =
+                memberProfileFacade.createProfile(profileRequest, member.getMemberNo());
+            entityManager.flush();
+
+            assertThat(response.getProfileNo()).isPositive();
+            assertThat(response.getNickname()).isEqualTo(profileRequest.getNickname());
+            assertThat(response.getPhoneNumber()).isEqualTo(profileRequest.getPhoneNumber());
+            assertThat(response.getAddress()).isEqualTo(profileRequest.getAddress());
+        }
+
+        @Test
+        @MaxQueries(5)
+        @DisplayName("프로필 수정 테스트")
+        void updateProfile_Success_Test() {
+
+            UpdateProfileRequest updateProfileRequest = new UpdateProfileRequest(
+                "닉네임생성",
+                "01099999999",
+                "서울특별시 성북구 화랑도 11길 26 103동 1602호 (하월곡동, 한국아파트)",
+                ProfileStatus.MAIN
+            );
+
+            ProfileResponse response =
+                memberProfileFacade.updateProfile(updateProfileRequest,
+                    member.getProfile().getProfileNo(), member.getMemberNo(), null);
+            entityManager.flush();
+
+            assertThat(response.getNickname()).isEqualTo(updateProfileRequest.getNickname());
+            assertThat(response.getPhoneNumber()).isEqualTo(updateProfileRequest.getPhoneNumber());
+            assertThat(response.getAddress()).isEqualTo(updateProfileRequest.getAddress());
+            assertThat(response.getProfileStatus()).isEqualTo(updateProfileRequest.getProfileStatus());
+            assertThat(response.getNickname()).isNotEqualTo(member.getProfile().getNickname());
+            assertThat(response.getPhoneNumber()).isNotEqualTo(member.getProfile().getPhoneNumber());
+            assertThat(response.getAddress()).isNotEqualTo(member.getProfile().getAddress());
+        }
+
+        @Test
+        @MaxQueries(5)
+        @DisplayName("프로필 삭제 테스트")
+        void deleteProfile_Success_Test() {
+
+            String nickname = memberProfileFacade.deleteProfile(member.getProfile().getProfileNo(),
+                member.getMemberNo());
+            entityManager.flush();
+
+            assertThat(nickname).isEqualTo(member.getProfile().getNickname());
+        }
+    }
+
+    @Nested
+    @DisplayName("회원이 여러 명 등록되어 있을 때")
+    class RegisteredMembers {
+
+        @BeforeEach
+        void setUp() {
+            memberProfileFacade.createMember(request);
+            generateMembers();
+            entityManager.flush();
+            entityManager.clear();
+        }
+
+        @Test
+        @MaxQueries(2)
+        @DisplayName("회원 전체 조회 테스트")
+        void findMembers_Success_Test() {
+
+            List<MemberInfoResponse> responses = memberProfileFacade.findMembers(0, 10, "");
+
+            assertThat(responses).hasSize(10);
+        }
+
+        @Test
+        @MaxQueries(2)
+        @DisplayName("회원 전체 조회 이름 검색 테스트")
+        void findMembers_ByName_Success_Test() {
+
+            String name = "테스트";
+            List<MemberInfoResponse> responses =
+                memberProfileFacade.findMembers(0, 5, name);
+
+            assertThat(responses).hasSize(1);
+            assertThat(responses.get(0).getName()).isEqualTo(name);
+            assertThat(responses.get(0).getName()).isEqualTo(request.getName());
+            assertThat(responses.get(0).getLoginId()).isEqualTo(request.getLoginId());
+        }
+
+        @Test
+        @MaxQueries(4)
+        @DisplayName("회원 커서 기반 전체 조회 테스트")
+        void findMembersAfter_Success_Test() {
+
+            MemberCursorResponse first = memberProfileFacade.findMembersAfter(null, 15, "");
+            MemberCursorResponse second =
+                memberProfileFacade.findMembersAfter(first.getNextCursor(), 15, "");
+
+            assertThat(first.getMembers()).hasSize(15);
+            assertThat(first.isHasNext()).isTrue();
+            assertThat(second.getMembers()).hasSize(6);
+            assertThat(second.isHasNext()).isFalse();
+            assertThat(second.getNextCursor()).isNull();
+            assertThat(second.getMembers().get(0).getMemberNo()).isGreaterThan(first.getNextCursor());
+        }
+    }
+
+    private List<CreateMemberRequest> generateBatchRequests() {
+        CreateProfileRequest profileDto = new CreateProfileRequest("홍길동", "01098765432", null);
+
+        return List.of(
+            new CreateMemberRequest("batch1", "일괄회원", "test123@", profileDto),
+            new CreateMemberRequest(request.getLoginId(), "중복회원", "test123@", profileDto),
+            new CreateMemberRequest("BAD", "일괄회원", "test123@", profileDto),
+            new CreateMemberRequest("batch2", "일괄회원", "test123@", profileDto),
+            new CreateMemberRequest("batch1", "일괄회원", "test123@", profileDto)
+        );
     }
 
     private void generateMembers() {
@@ -192,6 +535,20 @@ class MemberProfileFacadeTest {
         }
     }
 
+    private long countStatements(final Runnable runnable) {
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+            .unwrap(SessionFactory.class)
+            .getStatistics();
+        statistics.clear();
+
+        runnable.run();
+
+        return statistics.getPrepareStatementCount();
+    }
+
     private static CreateProfileRequest generateCreateProfileRequest() {
         CreateProfileRequest profileRequest = new CreateProfileRequest(
             "닉네임생성",
@@ -200,4 +557,14 @@ class MemberProfileFacadeTest {
         );
         return profileRequest;
     }
-}
\ No newline at end of file
+
+    private List<Long> findMainProfileNos(final Long memberNo) {
+        return entityManager.createQuery("""
+                select p.profileNo from Profile p
+                where p.member.memberNo = :memberNo and p.profileStatus = :profileStatus
+                """, Long.class)
+            .setParameter("memberNo", memberNo)
+            .setParameter("profileStatus", ProfileStatus.MAIN)
+            .getResultList();
+    }
+}
@@ -0,0 +1,57 @@
+package kr.co.mz.mzdinterviewassignment.facade;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+class OptimisticLockRetryExecutorTest {
+
+    @Test
+    @DisplayName("동시 변경 충돌이 나면 정해진 횟수 안에서 다시 실행")
+    void execute_RetryOnConflict_Test() {
+        OptimisticLockRetryExecutor executor = new OptimisticLockRetryExecutor(2);
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = executor.execute(() -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new OptimisticLockingFailureException("conflict");
+            }
+            return "updated";
+        });
+
+        assertThat(result).isEqualTo("updated");
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("재시도 횟수를 넘으면 충돌 예외를 그대로 전달")
+    void execute_RetryExhausted_Test() {
+        OptimisticLockRetryExecutor executor = new OptimisticLockRetryExecutor(1);
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> executor.execute(() -> {
+            attempts.incrementAndGet();
+            throw new OptimisticLockingFailureException("conflict");
+        })).isInstanceOf(OptimisticLockingFailureException.class);
+
+        assertThat(attempts).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("충돌이 아닌 예외는 다시 실행하지 않음")
+    void execute_OtherException_Test() {
+        OptimisticLockRetryExecutor executor = new OptimisticLockRetryExecutor(2);
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> executor.execute(() -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("failed");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(attempts).hasValue(1);
+    }
+}
@@ -0,0 +1,167 @@
+package kr.co.mz.mzdinterviewassignment.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import kr.co.mz.mzdinterviewassignment.exception.member.InvalidImportSourceException;
+import kr.co.mz.mzdinterviewassignment.exception.member.NotFoundImportJobException;
+import kr.co.mz.mzdinterviewassignment.facade.MemberProfileFacade;
+import kr.co.mz.mzdinterviewassignment.repository.MemberRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.EmbeddedDatabaseConnection;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+@SpringBootTest(properties = {
+    "member.import.chunk-size=2",
+    "member.import.worker-count=2"
+})
+@AutoConfigureTestDatabase(connection = EmbeddedDatabaseConnection.H2)
+class MemberImportJobManagerTest {
+
+    @TempDir
+    static Path baseDir;
+
+    @Autowired
+    MemberImportJobManager memberImportJobManager;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    MemberProfileFacade memberProfileFacade;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @DynamicPropertySource
+    static void importProperties(final DynamicPropertyRegistry registry) {
+        registry.add("member.import.base-dir", () -> baseDir.toString());
+    }
+
+    @Test
+    @DisplayName("업로드한 NDJSON 을 청크 단위로 가져오고 거부된 줄을 기록")
+    void submitUpload_Success_Test() throws Exception {
+        String ndjson = String.join("\n",
+            memberLine("import1"),
+            memberLine("import2"),
+            "{\"loginId\": ",
+            memberLine("BAD"),
+            "",
+            memberLine("import1"),
+            memberLine("import3"));
+
+        MemberImportJob job = memberImportJobManager.submitUpload(
+            new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8))).get();
+        awaitFinished(job);
+
+        assertThat(job.getStatus()).isEqualTo(MemberImportJobStatus.COMPLETED);
+        assertThat(job.getReadLines()).hasValue(6);
+        assertThat(job.getCreatedCount()).hasValue(3);
+        assertThat(job.getRejectedCount()).hasValue(3);
+        assertThat(job.getRejectedLines()).extracting(MemberImportRejectedLine::getLineNumber)
+            .containsExactlyInAnyOrder(3L, 4L, 6L);
+        assertThat(memberRepository.findByLoginId("import3")).isPresent();
+        assertThat(Files.exists(job.getPath())).isFalse();
+    }
+
+    @Test
+    @DisplayName("기준 경로 안의 로컬 파일을 가져오기")
+    void submitFile_Success_Test() throws IOException, InterruptedException {
+        Files.write(baseDir.resolve("members.ndjson"),
+            List.of(memberLine("local1"), memberLine("local2"), memberLine("local3")));
+
+        MemberImportJob job = memberImportJobManager.submitFile("members.ndjson");
+        awaitFinished(job);
+
+        assertThat(job.getStatus()).isEqualTo(MemberImportJobStatus.COMPLETED);
+        assertThat(job.getCreatedCount()).hasValue(3);
+        assertThat(job.getRejectedCount()).hasValue(0);
+        assertThat(Files.exists(job.getPath())).isTrue();
+    }
+
+    @Test
+    @DisplayName("끝난 가져오기 작업은 보관 시간이 지나면 조회할 수 없음")
+    void findJob_Expired_Fail_Test() throws IOException, InterruptedException {
+        Files.write(baseDir.resolve("expired.ndjson"), List.of(memberLine("expired1")));
+        MemberImportJobManager manager = new MemberImportJobManager(memberProfileFacade,
+            objectMapper, 2, 1, 1, 100, baseDir.toString(), 0);
+
+        try {
+            MemberImportJob job = manager.submitFile("expired.ndjson");
+            awaitFinished(job);
+
+            assertThat(job.getStatus()).isEqualTo(MemberImportJobStatus.COMPLETED);
+            assertThatThrownBy(() -> manager.findJob(job.getJobId()))
+                .isInstanceOf(NotFoundImportJobException.class);
+        } finally {
+            manager.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("작업 스레드가 종료되면 대기 중인 청크를 기다리지 않고 작업을 실패 처리")
+    void shutdown_InFlightChunks_Test() throws IOException, InterruptedException {
+        Files.write(baseDir.resolve("shutdown.ndjson"), List.of(memberLine("shutdown1"),
+            memberLine("shutdown2"), memberLine("shutdown3"), memberLine("shutdown4")));
+        MemberProfileFacade blockingFacade = Mockito.mock(MemberProfileFacade.class);
+        CountDownLatch entered = new CountDownLatch(2);
+        CountDownLatch released = new CountDownLatch(1);
+        Mockito.when(blockingFacade.createMembers(any())).thenAnswer(invocation -> {
+            entered.countDown();
+            released.await();
+            return null;
+        });
+        MemberImportJobManager manager = new MemberImportJobManager(blockingFacade,
+            objectMapper, 1, 1, 1, 100, baseDir.toString(), 60);
+
+        MemberImportJob job = manager.submitFile("shutdown.ndjson");
+        assertThat(entered.await(10, TimeUnit.SECONDS)).isTrue();
+        manager.shutdown();
+        awaitFinished(job);
+
+        assertThat(job.getStatus()).isEqualTo(MemberImportJobStatus.FAILED);
+    }
+
+    @Test
+    @DisplayName("기준 경로 밖의 파일은 가져올 수 없음")
+    void submitFile_OutsideBaseDir_Fail_Test() {
+        assertThatThrownBy(() -> memberImportJobManager.submitFile("../members.ndjson"))
+            .isInstanceOf(InvalidImportSourceException.class);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 가져오기 작업 조회 시 실패")
+    void findJob_NotFound_Fail_Test() {
+        assertThatThrownBy(() -> memberImportJobManager.findJob(Long.MAX_VALUE))
+            .isInstanceOf(NotFoundImportJobException.class);
+    }
+
+    private static String memberLine(final String loginId) {
+        return "{\"loginId\":\"" + loginId + "\",\"name\":\"홍길동\",\"password\":\"test123@\","
+            + "\"profile\":{\"nickname\":\"히어로\",\"phoneNumber\":\"01012345678\"}}";
+    }
+
+    private static void awaitFinished(final MemberImportJob job) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!job.isFinished() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package kr.co.mz.mzdinterviewassignment.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManager;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import kr.co.mz.mzdinterviewassignment.domain.member.Member;
+import kr.co.mz.mzdinterviewassignment.domain.profile.Profile;
+import kr.co.mz.mzdinterviewassignment.domain.profile.ProfileStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.h2.tools.Server;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@SpringBootTest(properties = {
+    "spring.jpa.show-sql=false",
+    "logging.level.org.hibernate.SQL=warn",
+    "logging.level.org.hibernate.type.descriptor.sql=warn"
+})
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class BulkInsertBenchmarkTest {
+
+    private static final int MEMBER_COUNT = 20_000;
+    private static final int CHUNK_SIZE = 500;
+    private static final int WARM_UP_COUNT = 5_000;
+    private static final int ROW_BY_ROW = 1;
+
+    private static Server server;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void datasource(final DynamicPropertyRegistry registry)
+        throws IOException, SQLException {
+        String url = System.getenv("BENCHMARK_DATASOURCE_URL");
+        if (url != null) {
+            registry.add("spring.datasource.url", () -> url);
+            registry.add("spring.datasource.username",
+                () -> System.getenv("BENCHMARK_DATASOURCE_USERNAME"));
+            registry.add("spring.datasource.password",
+                () -> System.getenv("BENCHMARK_DATASOURCE_PASSWORD"));
+            return;
+        }
+
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        server = Server.createTcpServer("-tcpPort", String.valueOf(port), "-ifNotExists").start();
+
+        registry.add("spring.datasource.driver-class-name", () -> "org.h2.Driver");
+        registry.add("spring.datasource.url",
+            () -> "jdbc:h2:tcp://localhost:" + server.getPort() + "/mem:benchmark;DB_CLOSE_DELAY=-1");
+        registry.add("spring.datasource.username", () -> "sa");
+        registry.add("spring.datasource.password", () -> "");
+    }
+
+    @AfterAll
+    static void stopServer() {
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from profile_tbl");
+        jdbcTemplate.update("delete from member_tbl");
+    }
+
+    @Test
+    @DisplayName("JDBC 배치 없이 한 행씩 생성할 때 초당 처리 행 수 측정")
+    void bulkInsert_RowByRow_Benchmark() {
+        measure("한 행씩", ROW_BY_ROW);
+    }
+
+    @Test
+    @DisplayName("JDBC 배치로 회원과 프로필 대량 생성 시 초당 처리 행 수 측정")
+    void bulkInsert_Batched_Benchmark() {
+        measure("배치", null);
+    }
+
+    private void measure(final String mode, final Integer batchSize) {
+        insert(WARM_UP_COUNT, batchSize);
+        tearDown();
+
+        long start = System.nanoTime();
+        insert(MEMBER_COUNT, batchSize);
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        long rows = MEMBER_COUNT * 2L;
+        log.info("[{}] 회원 + 프로필 {} 행 생성, {} 초, 초당 {} 행", mode, rows,
+            String.format("%.2f", seconds), String.format("%.0f", rows / seconds));
+
+        assertThat(memberRepository.count()).isEqualTo(MEMBER_COUNT);
+    }
+
+    private void insert(final int count, final Integer batchSize) {
+        for (int offset = 0; offset < count; offset += CHUNK_SIZE) {
+            int from = offset;
+            transactionTemplate.executeWithoutResult(status -> {
+                entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+                insertChunk(from);
+            });
+        }
+    }
+
+    private void insertChunk(final int from) {
+        List<Member> members = IntStream.range(from, from + CHUNK_SIZE)
+            .mapToObj(i -> Member.builder()
+                .loginId("bench" + i)
+                .name("벤치마크")
+                .password("benchmark" + i)
+                .build())
+            .toList();
+        memberRepository.saveAll(members);
+
+        List<Profile> profiles = new ArrayList<>(members.size());
+        for (Member member : members) {
+            profiles.add(Profile.builder()
+                .member(member)
+                .nickname("벤치")
+                .phoneNumber("01012345678")
+                .profileStatus(ProfileStatus.MAIN)
+                .build());
+        }
+        profileRepository.saveAll(profiles);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,93 @@
+package kr.co.mz.mzdinterviewassignment.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import kr.co.mz.mzdinterviewassignment.domain.member.Member;
+import kr.co.mz.mzdinterviewassignment.domain.profile.Profile;
+import kr.co.mz.mzdinterviewassignment.domain.profile.ProfileStatus;
+import kr.co.mz.mzdinterviewassignment.dto.response.member.MemberExportRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+@DataJpaTest
+@Import(MemberExportRepository.class)
+class MemberExportRepositoryTest {
+
+    @Autowired
+    private MemberExportRepository memberExportRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Test
+    @DisplayName("탈퇴하지 않은 회원을 메인 프로필과 함께 회원 식별 번호 순으로 조회")
+    void streamActiveMembers_Test() {
+
+        Member first = generateMember("testid1");
+        Member deleted = generateMember("testid2");
+        Member withoutPointer = generateMember("testid3");
+        memberRepository.saveAll(List.of(first, deleted, withoutPointer));
+
+        Profile normal = generateProfile(first, "일반", ProfileStatus.NORMAL);
+        Profile main = generateProfile(first, "메인", ProfileStatus.MAIN);
+        Profile fallback = generateProfile(withoutPointer, "대체", ProfileStatus.MAIN);
+        profileRepository.saveAll(List.of(normal, main, fallback));
+
+        first.changeMainProfile(main.getProfileNo());
+        deleted.delete();
+        memberRepository.flush();
+
+        List<MemberExportRow> rows = new ArrayList<>();
+        memberExportRepository.streamActiveMembers(rows::add);
+
+        assertThat(rows).extracting(MemberExportRow::getLoginId)
+            .containsExactly("testid1", "testid3");
+        assertThat(rows).extracting(MemberExportRow::getNickname)
+            .containsExactly("메인", "대체");
+        assertThat(rows.get(0).getProfileStatus()).isEqualTo(ProfileStatus.MAIN);
+        assertThat(rows.get(0).getCreatedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("프로필이 없는 회원은 프로필 정보 없이 조회")
+    void streamActiveMembers_WithoutProfile_Test() {
+
+        memberRepository.saveAndFlush(generateMember("testid1"));
+
+        List<MemberExportRow> rows = new ArrayList<>();
+        memberExportRepository.streamActiveMembers(rows::add);
+
+        assertThat(rows).singleElement()
+            .satisfies(row -> {
+                assertThat(row.getProfileNo()).isNull();
+                assertThat(row.getProfileStatus()).isNull();
+            });
+    }
+
+    private static Member generateMember(final String loginId) {
+        return Member.builder()
+            .loginId(loginId)
+            .name("테스트")
+            .password("testPassword")
+            .build();
+    }
+
+    private static Profile generateProfile(final Member member, final String nickname,
+                                           final ProfileStatus profileStatus) {
+        return Profile.builder()
+            .nickname(nickname)
+            .phoneNumber("01012345678")
+            .address("서울")
+            .profileStatus(profileStatus)
+            .member(member)
+            .build();
+    }
+}
@@ -2,24 +2,42 @@ package kr.co.mz.mzdinterviewassignment.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.IntStream;
 import kr.co.mz.mzdinterviewassignment.domain.member.Member;
+import kr.co.mz.mzdinterviewassignment.domain.member.MemberNameGram;
 import kr.co.mz.mzdinterviewassignment.domain.member.MemberStatus;
+import kr.co.mz.mzdinterviewassignment.domain.profile.Profile;
+import kr.co.mz.mzdinterviewassignment.domain.profile.ProfileStatus;
+import kr.co.mz.mzdinterviewassignment.dto.response.member.MemberDetailsVersion;
+import kr.co.mz.mzdinterviewassignment.support.CapturingStatementInspector;
+import kr.co.mz.mzdinterviewassignment.support.QueryPlans;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
 
-@DataJpaTest
+@DataJpaTest(properties = CapturingStatementInspector.PROPERTY)
 class MemberRepositoryTest {
 
     @Autowired
     private MemberRepository memberRepository;
 
+    @Autowired
+    private MemberNameGramRepository memberNameGramRepository;
+
+    @Autowired
+    private ProfileRepository profileRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     @DisplayName("데이터베이스에 존재하지 않은 loginId로 회원 조회 테스트 ")
     void findByLoginId_HasNotLoginId_Test() {
@@ -60,6 +78,17 @@ class MemberRepositoryTest {
         assertThat(findMember.getMemberStatus()).isEqualTo(MemberStatus.ACTIVE);
     }
 
+    @Test
+    @DisplayName("회원 행이 보관 테이블로 옮겨져도 아이디 목록에 남은 loginId는 사용 중인 아이디로 집계")
+    void countByLoginIdIncludingDeleted_ArchivedMember_Test() {
+
+        jdbcTemplate.update("insert into login_id_registry (login_id, member_no, created_at)"
+            + " values ('testid', 1, current_timestamp)");
+
+        assertThat(memberRepository.countByLoginIdIncludingDeleted("testid")).isEqualTo(1L);
+        assertThat(memberRepository.countByLoginIdIncludingDeleted("testid2")).isZero();
+    }
+
     @Test
     @DisplayName("데이터베이스에 존재하지 않은 이름 키워드로 전체 회원 조회")
     void findMembersByNameContaining_HasNotName_Test() {
@@ -70,7 +99,7 @@ class MemberRepositoryTest {
 
         PageRequest pageRequest = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "memberNo"));
 
-        Page<Member> findMembers = memberRepository.findMembersByNameContaining("회원", pageRequest);
+        Slice<Member> findMembers = memberRepository.findMembersByNameContaining("회원", pageRequest);
 
         assertThat(findMembers.getContent()).isEmpty();
     }
@@ -87,7 +116,7 @@ class MemberRepositoryTest {
 
         PageRequest pageRequest = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "memberNo"));
 
-        Page<Member> findMembers =
+        Slice<Member> findMembers =
             memberRepository.findMembersByNameContaining("testName", pageRequest);
 
         assertThat(findMembers.getContent()).isEmpty();
@@ -103,7 +132,7 @@ class MemberRepositoryTest {
 
         PageRequest pageRequest = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "memberNo"));
 
-        Page<Member> findMembers =
+        Slice<Member> findMembers =
             memberRepository.findMembersByNameContaining("", pageRequest);
 
         findMembers.forEach(member -> assertThat(member.getName()).contains("테스트"));
@@ -121,13 +150,220 @@ class MemberRepositoryTest {
 
         PageRequest pageRequest = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "memberNo"));
 
-        Page<Member> findMembers =
+        Slice<Member> findMembers =
             memberRepository.findMembersByNameContaining("테스트", pageRequest);
 
         findMembers.forEach(member -> assertThat(member.getName()).contains("테스트"));
         assertThat(findMembers.getContent()).hasSize(10);
     }
 
+    @Test
+    @DisplayName("회원 식별 번호 커서 이후의 회원 조회")
+    void findMembersByNameContainingAndMemberNoGreaterThan_Test() {
+
+        List<Member> savedMembers = memberRepository.saveAllAndFlush(generateMembers());
+        Long cursor = savedMembers.get(9).getMemberNo();
+
+        PageRequest pageRequest = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "memberNo"));
+
+        Slice<Member> findMembers =
+            memberRepository.findMembersByNameContainingAndMemberNoGreaterThan("테스트", cursor,
+                pageRequest);
+
+        assertThat(findMembers.getContent()).hasSize(10);
+        assertThat(findMembers.getContent().get(0).getMemberNo())
+            .isEqualTo(savedMembers.get(10).getMemberNo());
+        assertThat(findMembers.hasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("마지막 커서 이후의 회원 조회")
+    void findMembersByNameContainingAndMemberNoGreaterThan_LastCursor_Test() {
+
+        List<Member> savedMembers = memberRepository.saveAllAndFlush(generateMembers());
+        Long cursor = savedMembers.get(24).getMemberNo();
+
+        PageRequest pageRequest = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "memberNo"));
+
+        Slice<Member> findMembers =
+            memberRepository.findMembersByNameContainingAndMemberNoGreaterThan("테스트", cursor,
+                pageRequest);
+
+        assertThat(findMembers.getContent()).hasSize(5);
+        assertThat(findMembers.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("이름 검색 색인으로 이름 부분 검색")
+    void findMembersByNameGram_Test() {
+
+        List<Member> savedMembers = memberRepository.saveAllAndFlush(List.of(
+            Member.builder().loginId("hong1").name("홍길동").password("testPassword").build(),
+            Member.builder().loginId("hong2").name("길동이").password("testPassword").build(),
+            Member.builder().loginId("hong3").name("동길이").password("testPassword").build()));
+        savedMembers.forEach(member ->
+            memberNameGramRepository.saveAll(MemberNameGram.generateGrams(member)));
+        memberNameGramRepository.flush();
+
+        PageRequest pageRequest = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "memberNo"));
+        Set<String> grams = MemberNameGram.extractGrams("길동");
+
+        Slice<Member> findMembers =
+            memberRepository.findMembersByNameGram("길동", grams, grams.size(), pageRequest);
+
+        assertThat(findMembers.getContent()).extracting(Member::getLoginId)
+            .containsExactly("hong1", "hong2");
+        assertThat(findMembers.hasNext()).isFalse();
+        assertThat(memberRepository.countMembersByNameGram("길동", grams, grams.size()))
+            .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("이름 검색 색인 조각은 모두 있지만 연속되지 않은 이름은 검색 제외")
+    void findMembersByNameGram_VerifyName_Test() {
+
+        Member member = memberRepository.saveAndFlush(
+            Member.builder().loginId("hong1").name("가나다나가").password("testPassword").build());
+        memberNameGramRepository.saveAllAndFlush(MemberNameGram.generateGrams(member));
+
+        PageRequest pageRequest = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "memberNo"));
+        Set<String> grams = MemberNameGram.extractGrams("가나가");
+
+        Slice<Member> findMembers =
+            memberRepository.findMembersByNameGram("가나가", grams, grams.size(), pageRequest);
+
+        assertThat(findMembers.getContent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이름 검색 색인의 LIKE 특수 문자는 문자 그대로 비교")
+    void findMembersByNameGram_EscapedKeyword_Test() {
+
+        Member member = memberRepository.saveAndFlush(
+            Member.builder().loginId("hong1").name("홍길동").password("testPassword").build());
+        memberNameGramRepository.saveAllAndFlush(
+            List.of(new MemberNameGram("길_", member.getMemberNo())));
+
+        PageRequest pageRequest = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "memberNo"));
+
+        Slice<Member> findMembers = memberRepository.findMembersByNameGram("길!_", Set.of("길_"),
+            1, pageRequest);
+
+        assertThat(findMembers.getContent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이름 검색 색인이 없는 회원만 회원 식별 번호 순서로 조회")
+    void findMembersWithoutNameGram_Test() {
+
+        List<Member> savedMembers = memberRepository.saveAllAndFlush(List.of(
+            Member.builder().loginId("hong1").name("홍길동").password("testPassword").build(),
+            Member.builder().loginId("hong2").name("길동이").password("testPassword").build(),
+            Member.builder().loginId("hong3").name("동길이").password("testPassword").build()));
+        memberNameGramRepository.saveAllAndFlush(MemberNameGram.generateGrams(savedMembers.get(1)));
+
+        PageRequest pageRequest = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "memberNo"));
+
+        Slice<Member> findMembers = memberRepository.findMembersWithoutNameGram(0L, pageRequest);
+
+        assertThat(findMembers.getContent()).extracting(Member::getLoginId)
+            .containsExactly("hong1", "hong3");
+    }
+
+    @Test
+    @DisplayName("논리 삭제된 회원은 이름 검색 색인 검색에서 제외")
+    void findMembersByNameGramAndMemberNoGreaterThan_DeletedMember_Test() {
+
+        Member member = memberRepository.saveAndFlush(generateMember());
+        memberNameGramRepository.saveAllAndFlush(MemberNameGram.generateGrams(member));
+        member.delete();
+        memberRepository.flush();
+
+        PageRequest pageRequest = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "memberNo"));
+        Set<String> grams = MemberNameGram.extractGrams("테");
+
+        Slice<Member> findMembers =
+            memberRepository.findMembersByNameGramAndMemberNoGreaterThan("테", grams,
+                grams.size(), 0L, pageRequest);
+
+        assertThat(findMembers.getContent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("탈퇴하지 않은 회원을 커서 이후로 조회할 때 회원 상태 인덱스 사용")
+    void findActiveMembersAfterCursor_UsesIndex_Test() {
+
+        memberRepository.saveAllAndFlush(generateMembers());
+
+        String plan = QueryPlans.explain(jdbcTemplate,
+            () -> memberRepository.findMembersByMemberNoGreaterThan(0L,
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "memberNo"))));
+
+        assertThat(plan).containsIgnoringCase("idx_member_status_member_no");
+    }
+
+    @Test
+    @DisplayName("회원 버전과 프로필 버전 합으로 상세 정보 버전 조회")
+    void findMemberDetailsVersion_Test() {
+
+        Member member = memberRepository.saveAndFlush(generateMember());
+        Profile profile = profileRepository.saveAndFlush(Profile.builder()
+            .nickname("홍길동")
+            .phoneNumber("01012345678")
+            .profileStatus(ProfileStatus.MAIN)
+            .member(member)
+            .build());
+        profileRepository.saveAndFlush(Profile.builder()
+            .nickname("홍시")
+            .phoneNumber("01012345678")
+            .profileStatus(ProfileStatus.NORMAL)
+            .member(member)
+            .build());
+
+        MemberDetailsVersion before =
+            memberRepository.findMemberDetailsVersion(member.getMemberNo()).orElseThrow();
+
+        profile.update("수정", "01012345678", null, ProfileStatus.MAIN);
+        profileRepository.flush();
+
+        MemberDetailsVersion after =
+            memberRepository.findMemberDetailsVersion(member.getMemberNo()).orElseThrow();
+
+        assertThat(before.getMemberVersion()).isEqualTo(member.getVersion());
+        assertThat(before.getProfileVersionSum()).isZero();
+        assertThat(after.getProfileVersionSum()).isEqualTo(1L);
+        assertThat(after).isNotEqualTo(before);
+        assertThat(after.getLastModifiedAt()).isAfterOrEqualTo(before.getLastModifiedAt());
+    }
+
+    @Test
+    @DisplayName("논리 삭제된 회원은 상세 정보 버전을 조회하지 않음")
+    void findMemberDetailsVersion_DeletedMember_Test() {
+
+        Member member = memberRepository.saveAndFlush(generateMember());
+        member.delete();
+        memberRepository.flush();
+
+        assertThat(memberRepository.findMemberDetailsVersion(member.getMemberNo())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("논리 삭제된 회원의 변경 시각도 마지막 변경 시각에 포함")
+    void findLastModifiedAtIncludingDeleted_DeletedMember_Test() {
+
+        assertThat(memberRepository.findLastModifiedAtIncludingDeleted()).isEmpty();
+
+        Member member = memberRepository.saveAndFlush(generateMember());
+        member.delete();
+        memberRepository.flush();
+
+        LocalDateTime deletedAt = jdbcTemplate.queryForObject(
+            "select updated_at from member_tbl where member_no = ?", LocalDateTime.class,
+            member.getMemberNo());
+
+        assertThat(memberRepository.findLastModifiedAtIncludingDeleted()).contains(deletedAt);
+    }
+
     private static Member generateMember() {
         return Member.builder()
             .loginId("testid")
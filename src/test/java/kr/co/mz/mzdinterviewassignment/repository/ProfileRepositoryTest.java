@@ -1,26 +1,38 @@
 package kr.co.mz.mzdinterviewassignment.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.IntStream;
+import kr.co.mz.mzdinterviewassignment.config.MainProfileConstraintInitializer;
 import kr.co.mz.mzdinterviewassignment.domain.member.Member;
 import kr.co.mz.mzdinterviewassignment.domain.profile.Profile;
 import kr.co.mz.mzdinterviewassignment.domain.profile.ProfileStatus;
+import kr.co.mz.mzdinterviewassignment.support.CapturingStatementInspector;
+import kr.co.mz.mzdinterviewassignment.support.QueryPlans;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
 
-@DataJpaTest
+@DataJpaTest(properties = CapturingStatementInspector.PROPERTY)
+@Import(MainProfileConstraintInitializer.class)
 class ProfileRepositoryTest {
 
     @Autowired
     private ProfileRepository profileRepository;
     @Autowired
     private MemberRepository memberRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
 
     private Member member;
 
@@ -141,6 +153,162 @@ class ProfileRepositoryTest {
         assertThat(findProfiles).hasSize(30);
     }
 
+    @Test
+    @DisplayName("여러 회원의 프로필 일괄 조회 테스트")
+    void findAllByMemberInOrderByProfileNoAsc_Test() {
+        Member otherMember = Member.builder()
+            .loginId("otherid")
+            .name("다른이름")
+            .password("otherPassword")
+            .build();
+
+        memberRepository.saveAndFlush(otherMember);
+
+        profileRepository.saveAllAndFlush(generateProfiles());
+        profileRepository.saveAndFlush(Profile.builder()
+            .member(otherMember)
+            .nickname("다른별명")
+            .phoneNumber("01087654321")
+            .address("부산광역시 해운대구 재송동 1012-1")
+            .profileStatus(ProfileStatus.MAIN)
+            .build());
+
+        List<Profile> findProfiles =
+            profileRepository.findAllByMemberInOrderByProfileNoAsc(List.of(member, otherMember));
+
+        assertThat(findProfiles).hasSize(31);
+        assertThat(findProfiles).extracting(Profile::getProfileNo).isSorted();
+        assertThat(findProfiles).extracting(Profile::getMember)
+            .containsOnly(member, otherMember);
+    }
+
+    @Test
+    @DisplayName("기존 메인 프로필을 내린 뒤 식별 번호가 더 큰 프로필로 메인 프로필 전환")
+    void demoteMainProfile_PromoteHigherProfileNo_Test() {
+        List<Profile> profiles = profileRepository.saveAllAndFlush(generateProfiles());
+        Long mainProfileNo = profiles.get(0).getProfileNo();
+        Long targetProfileNo = profiles.get(5).getProfileNo();
+
+        int demotedCount = profileRepository.demoteMainProfile(member.getMemberNo(),
+            LocalDateTime.now());
+        int promotedCount = profileRepository.promoteProfile(member.getMemberNo(),
+            targetProfileNo, LocalDateTime.now());
+
+        assertThat(demotedCount).isEqualTo(1);
+        assertThat(promotedCount).isEqualTo(1);
+        assertThat(findVersion(mainProfileNo)).isEqualTo(1L);
+        assertThat(findVersion(targetProfileNo)).isEqualTo(1L);
+        assertThat(findMainProfileNos()).containsExactly(targetProfileNo);
+    }
+
+    @Test
+    @DisplayName("기존 메인 프로필을 내린 뒤 식별 번호가 더 작은 프로필로 메인 프로필 전환")
+    void demoteMainProfile_PromoteLowerProfileNo_Test() {
+        List<Profile> profiles = generateProfiles();
+        ReflectionTestUtils.setField(profiles.get(0), "profileStatus", ProfileStatus.NORMAL);
+        ReflectionTestUtils.setField(profiles.get(29), "profileStatus", ProfileStatus.MAIN);
+        profiles = profileRepository.saveAllAndFlush(profiles);
+        Long targetProfileNo = profiles.get(0).getProfileNo();
+
+        profileRepository.demoteMainProfile(member.getMemberNo(), LocalDateTime.now());
+        profileRepository.promoteProfile(member.getMemberNo(), targetProfileNo,
+            LocalDateTime.now());
+
+        assertThat(findMainProfileNos()).containsExactly(targetProfileNo);
+    }
+
+    @Test
+    @DisplayName("기존 메인 프로필을 내리지 않고 다른 프로필을 올리면 유니크 제약으로 실패")
+    void promoteProfile_MainProfileExists_Fail_Test() {
+        List<Profile> profiles = profileRepository.saveAllAndFlush(generateProfiles());
+
+        assertThatThrownBy(() -> profileRepository.promoteProfile(member.getMemberNo(),
+            profiles.get(5).getProfileNo(), LocalDateTime.now()))
+            .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("메인 프로필이 없는 회원은 내릴 메인 프로필 없이 대상 프로필만 메인 프로필로 전환")
+    void promoteProfile_WithoutMainProfile_Test() {
+        Profile profile = profileRepository.saveAndFlush(generateProfile(ProfileStatus.NORMAL));
+
+        int demotedCount = profileRepository.demoteMainProfile(member.getMemberNo(),
+            LocalDateTime.now());
+        profileRepository.promoteProfile(member.getMemberNo(), profile.getProfileNo(),
+            LocalDateTime.now());
+
+        assertThat(demotedCount).isZero();
+        assertThat(findMainProfileNos()).containsExactly(profile.getProfileNo());
+    }
+
+    @Test
+    @DisplayName("다른 회원의 프로필로는 메인 프로필을 전환하지 않음")
+    void promoteProfile_OtherMemberProfile_Test() {
+        Member otherMember = memberRepository.saveAndFlush(Member.builder()
+            .loginId("otherid")
+            .name("다른이름")
+            .password("otherPassword")
+            .build());
+        Profile otherProfile = profileRepository.saveAndFlush(Profile.builder()
+            .member(otherMember)
+            .nickname("다른별명")
+            .phoneNumber("01087654321")
+            .profileStatus(ProfileStatus.NORMAL)
+            .build());
+        profileRepository.saveAllAndFlush(generateProfiles());
+
+        int promotedCount = profileRepository.promoteProfile(member.getMemberNo(),
+            otherProfile.getProfileNo(), LocalDateTime.now());
+
+        assertThat(promotedCount).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+            "select profile_status from profile_tbl where profile_no = ?",
+            String.class, otherProfile.getProfileNo()))
+            .isEqualTo(ProfileStatus.NORMAL.name());
+    }
+
+    @Test
+    @DisplayName("한 회원에게 메인 프로필을 두 개 저장하면 실패")
+    void saveProfile_DuplicateMainProfile_Fail_Test() {
+        profileRepository.saveAndFlush(generateProfile(ProfileStatus.MAIN));
+
+        assertThatThrownBy(
+            () -> profileRepository.saveAndFlush(generateProfile(ProfileStatus.MAIN)))
+            .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("메인 프로필이 아닌 첫 번째 일반 프로필 식별 번호 조회")
+    void findFirstProfileNoByMemberAndProfileStatus_Test() {
+        List<Profile> profiles = profileRepository.saveAllAndFlush(generateProfiles());
+
+        assertThat(profileRepository.findFirstProfileNoByMemberAndProfileStatus(member,
+            ProfileStatus.NORMAL)).contains(profiles.get(1).getProfileNo());
+    }
+
+    @Test
+    @DisplayName("회원과 프로필 상태로 조회할 때 복합 인덱스 사용")
+    void findProfileByMemberAndProfileStatus_UsesIndex_Test() {
+
+        profileRepository.saveAllAndFlush(generateProfiles());
+
+        String plan = QueryPlans.explain(jdbcTemplate,
+            () -> profileRepository.findProfileByMemberAndProfileStatus(member, ProfileStatus.MAIN));
+
+        assertThat(plan).containsIgnoringCase("idx_profile_member_status");
+    }
+
+    private Long findVersion(final Long profileNo) {
+        return jdbcTemplate.queryForObject("select version from profile_tbl where profile_no = ?",
+            Long.class, profileNo);
+    }
+
+    private List<Long> findMainProfileNos() {
+        return jdbcTemplate.queryForList(
+            "select profile_no from profile_tbl where member_no = ? and profile_status = 'MAIN'",
+            Long.class, member.getMemberNo());
+    }
+
     private Profile generateProfile(final ProfileStatus status) {
         return Profile.builder()
             .member(member)
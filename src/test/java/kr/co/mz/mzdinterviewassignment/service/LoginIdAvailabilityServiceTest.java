@@ -0,0 +1,115 @@
+package kr.co.mz.mzdinterviewassignment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import kr.co.mz.mzdinterviewassignment.exception.member.InvalidLoginIdException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class LoginIdAvailabilityServiceTest {
+
+    private final MemberService memberService = Mockito.mock(MemberService.class);
+
+    @Test
+    @DisplayName("같은 아이디를 반복해서 확인해도 한 번만 조회")
+    void isAvailable_Cached_Test() {
+        LoginIdAvailabilityService service = new LoginIdAvailabilityService(memberService, 60, 10);
+        Mockito.when(memberService.existsLoginId("testid")).thenReturn(true);
+
+        assertThat(service.isAvailable("testid")).isFalse();
+        assertThat(service.isAvailable("testid")).isFalse();
+        Mockito.verify(memberService, Mockito.times(1)).existsLoginId("testid");
+    }
+
+    @Test
+    @DisplayName("사용 가능한 아이디는 유효 기간이 지나면 다시 조회")
+    void isAvailable_Expired_Test() {
+        LoginIdAvailabilityService service = new LoginIdAvailabilityService(memberService, -1, 10);
+        Mockito.when(memberService.existsLoginId("testid")).thenReturn(false, true);
+
+        assertThat(service.isAvailable("testid")).isTrue();
+        assertThat(service.isAvailable("testid")).isFalse();
+        assertThat(service.isAvailable("testid")).isFalse();
+        Mockito.verify(memberService, Mockito.times(2)).existsLoginId("testid");
+    }
+
+    @Test
+    @DisplayName("회원 생성이 커밋되면 캐시된 아이디를 제거")
+    void evict_MemberCreated_Test() {
+        LoginIdAvailabilityService service = new LoginIdAvailabilityService(memberService, 60, 10);
+        Mockito.when(memberService.existsLoginId("testid")).thenReturn(false, true);
+
+        assertThat(service.isAvailable("testid")).isTrue();
+        service.evict(new MemberCreatedEvent(List.of("testid"), List.of(1L)));
+
+        assertThat(service.isAvailable("testid")).isFalse();
+    }
+
+    @Test
+    @DisplayName("저장 개수를 넘으면 일부 아이디를 제거하여 저장 개수 유지")
+    void isAvailable_MaxEntries_Test() {
+        LoginIdAvailabilityService service = new LoginIdAvailabilityService(memberService, 60, 2);
+        Mockito.when(memberService.existsLoginId(any())).thenReturn(false);
+
+        service.isAvailable("testid1");
+        service.isAvailable("testid2");
+        service.isAvailable("testid3");
+
+        assertThat(service.cachedCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 같은 아이디를 동시에 확인해도 한 번만 조회")
+    void isAvailable_Concurrent_Test() throws Exception {
+        LoginIdAvailabilityService service = new LoginIdAvailabilityService(memberService, 60, 10);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Mockito.when(memberService.existsLoginId("testid")).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await();
+            return false;
+        });
+        Mockito.when(memberService.existsLoginId("otherid")).thenReturn(true);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                results.add(executor.submit(() -> service.isAvailable("testid")));
+            }
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThat(executor.submit(() -> service.isAvailable("otherid"))
+                .get(5, TimeUnit.SECONDS)).isFalse();
+
+            release.countDown();
+            for (Future<Boolean> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isTrue();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Mockito.verify(memberService, Mockito.times(1)).existsLoginId("testid");
+    }
+
+    @Test
+    @DisplayName("아이디 형식이 올바르지 않으면 조회하지 않고 실패")
+    void isAvailable_InvalidLoginId_Fail_Test() {
+        LoginIdAvailabilityService service = new LoginIdAvailabilityService(memberService, 60, 10);
+
+        assertThatThrownBy(() -> service.isAvailable("Test-Id"))
+            .isInstanceOf(InvalidLoginIdException.class)
+            .hasMessage("아이디는 영문 소문자와 숫자로 구성된 4 ~ 12자리로 입력해주세요.");
+        Mockito.verify(memberService, Mockito.never()).existsLoginId(any());
+    }
+}
@@ -0,0 +1,68 @@
+package kr.co.mz.mzdinterviewassignment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class LoginIdBloomFilterTest {
+
+    private final JdbcTemplate jdbcTemplate = Mockito.mock(JdbcTemplate.class);
+
+    @Test
+    @DisplayName("추가한 아이디는 항상 있을 수 있다고 판단")
+    void mightContain_NoFalseNegative_Test() {
+        LoginIdBloomFilter filter = new LoginIdBloomFilter(jdbcTemplate, 10_000, 0.01, 10_000);
+
+        IntStream.range(0, 10_000).forEach(i -> filter.put("member" + i));
+
+        assertThat(IntStream.range(0, 10_000)
+            .allMatch(i -> filter.mightContain("member" + i))).isTrue();
+    }
+
+    @Test
+    @DisplayName("추가하지 않은 아이디의 오탐률이 설정값 근처로 유지")
+    void mightContain_FalsePositiveRate_Test() {
+        LoginIdBloomFilter filter = new LoginIdBloomFilter(jdbcTemplate, 10_000, 0.01, 10_000);
+
+        IntStream.range(0, 10_000).forEach(i -> filter.put("member" + i));
+
+        long falsePositives = IntStream.range(0, 10_000)
+            .filter(i -> filter.mightContain("visitor" + i))
+            .count();
+        assertThat(falsePositives).isLessThan(300);
+    }
+
+    @Test
+    @DisplayName("시작 시 탈퇴, 보관된 회원을 포함한 전체 아이디를 아이디 순으로 나누어 적재")
+    void afterPropertiesSet_Test() {
+        Mockito.when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq(""), eq(2)))
+            .thenReturn(List.of("active1", "archived1"));
+        Mockito.when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("archived1"), eq(2)))
+            .thenReturn(List.of("deleted1"));
+
+        LoginIdBloomFilter filter = new LoginIdBloomFilter(jdbcTemplate, 1000, 0.01, 2);
+        filter.afterPropertiesSet();
+
+        assertThat(filter.mightContain("active1")).isTrue();
+        assertThat(filter.mightContain("deleted1")).isTrue();
+        assertThat(filter.mightContain("archived1")).isTrue();
+        Mockito.verify(jdbcTemplate, Mockito.times(2))
+            .queryForList(anyString(), eq(String.class), any(), any());
+    }
+
+    @Test
+    @DisplayName("필터 크기가 최대 크기를 넘는 설정은 생성 시 거부")
+    void create_OversizeFilter_Test() {
+        assertThatThrownBy(() -> new LoginIdBloomFilter(jdbcTemplate, 100_000_000_000L, 0.01, 10_000))
+            .isInstanceOf(IllegalStateException.class);
+    }
+}
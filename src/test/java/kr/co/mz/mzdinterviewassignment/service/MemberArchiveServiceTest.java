@@ -0,0 +1,164 @@
+package kr.co.mz.mzdinterviewassignment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.stream.IntStream;
+import kr.co.mz.mzdinterviewassignment.domain.member.Member;
+import kr.co.mz.mzdinterviewassignment.domain.profile.Profile;
+import kr.co.mz.mzdinterviewassignment.dto.request.member.CreateMemberRequest;
+import kr.co.mz.mzdinterviewassignment.dto.request.profile.CreateProfileRequest;
+import kr.co.mz.mzdinterviewassignment.dto.response.member.MemberResponse;
+import kr.co.mz.mzdinterviewassignment.exception.member.DuplicateLoginIdException;
+import kr.co.mz.mzdinterviewassignment.facade.MemberProfileFacade;
+import kr.co.mz.mzdinterviewassignment.repository.MemberArchiveCheckpointRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.EmbeddedDatabaseConnection;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@Transactional
+@AutoConfigureTestDatabase(connection = EmbeddedDatabaseConnection.H2)
+class MemberArchiveServiceTest {
+
+    @Autowired
+    MemberArchiveService memberArchiveService;
+
+    @Autowired
+    MemberProfileFacade memberProfileFacade;
+
+    @Autowired
+    MemberService memberService;
+
+    @Autowired
+    MemberArchiveCheckpointRepository memberArchiveCheckpointRepository;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("탈퇴 회원과 프로필만 보관 테이블로 옮기고 아이디는 계속 사용 중으로 판단")
+    void archive_Test() {
+
+        List<MemberResponse> members = createMembers(3);
+        deleteMembers(members.subList(0, 2));
+
+        MemberArchiveResult result = memberArchiveService.archive(10);
+
+        assertThat(result.getNextCursor()).isNull();
+        assertThat(result.getArchivedMemberCount()).isEqualTo(2);
+        assertThat(result.getArchivedProfileCount()).isEqualTo(2);
+        assertThat(count("member_tbl")).isEqualTo(1L);
+        assertThat(count("profile_tbl")).isEqualTo(1L);
+        assertThat(count("member_archive")).isEqualTo(2L);
+        assertThat(count("profile_archive")).isEqualTo(2L);
+        assertThat(memberService.existsLoginId("archive0")).isTrue();
+        assertThat(memberService.findExistingLoginIds(List.of("archive0", "archive2", "new")))
+            .containsExactlyInAnyOrder("archive0", "archive2");
+        assertThatThrownBy(() -> memberProfileFacade.createMember(generateRequest("archive0")))
+            .isInstanceOf(DuplicateLoginIdException.class);
+    }
+
+    @Test
+    @DisplayName("묶음 단위로 보관하면서 마지막 회원 식별 번호를 저장하고, 한 바퀴를 마치면 처음으로 되돌림")
+    void archive_Checkpoint_Test() {
+
+        List<MemberResponse> members = createMembers(3);
+        deleteMembers(members);
+
+        MemberArchiveResult first = memberArchiveService.archive(2);
+
+        assertThat(first.getNextCursor()).isEqualTo(members.get(1).getMemberNo());
+        assertThat(first.getArchivedRowCount()).isEqualTo(4);
+        assertThat(findCheckpoint()).isEqualTo(members.get(1).getMemberNo());
+
+        MemberArchiveResult second = memberArchiveService.archive(2);
+
+        assertThat(second.getNextCursor()).isNull();
+        assertThat(second.getArchivedMemberCount()).isEqualTo(1);
+        assertThat(findCheckpoint()).isZero();
+        assertThat(count("member_archive")).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("아이디 필터나 사전 확인을 거치지 않아도 보관된 회원의 아이디로는 회원을 만들 수 없음")
+    void archive_LoginIdRegistry_Test() {
+
+        deleteMembers(createMembers(1));
+        memberArchiveService.archive(10);
+
+        assertThat(count("login_id_registry")).isEqualTo(1L);
+        assertThatThrownBy(() -> memberService.createMembers(List.of(generateRequest("archive0"))))
+            .isInstanceOf(DuplicateLoginIdException.class);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("보관한 회원과 프로필을 2차 캐시와 조회 결과 캐시에서 제거")
+    void archive_EvictSecondLevelCache_Test() {
+
+        Long memberNo = memberProfileFacade.createMember(generateRequest("evict0")).getMemberNo();
+        try {
+            Long profileNo = jdbcTemplate.queryForObject(
+                "select profile_no from profile_tbl where member_no = ?", Long.class, memberNo);
+            memberProfileFacade.deleteMember(memberNo);
+            Cache cache = entityManagerFactory.getCache();
+            entityManager.find(Profile.class, profileNo);
+            assertThat(cache.contains(Profile.class, profileNo)).isTrue();
+
+            memberArchiveService.archive(10);
+
+            assertThat(cache.contains(Member.class, memberNo)).isFalse();
+            assertThat(cache.contains(Profile.class, profileNo)).isFalse();
+        } finally {
+            jdbcTemplate.update("delete from profile_archive where member_no = ?", memberNo);
+            jdbcTemplate.update("delete from member_archive where member_no = ?", memberNo);
+            jdbcTemplate.update("delete from member_name_gram where member_no = ?", memberNo);
+            jdbcTemplate.update("delete from login_id_registry where member_no = ?", memberNo);
+            jdbcTemplate.update("delete from member_archive_checkpoint");
+        }
+    }
+
+    private List<MemberResponse> createMembers(final int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> memberProfileFacade.createMember(generateRequest("archive" + i)))
+            .toList();
+    }
+
+    private void deleteMembers(final List<MemberResponse> members) {
+        members.forEach(member -> memberProfileFacade.deleteMember(member.getMemberNo()));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private long count(final String table) {
+        return jdbcTemplate.queryForObject("select count(*) from " + table, Long.class);
+    }
+
+    private Long findCheckpoint() {
+        return memberArchiveCheckpointRepository.findById(MemberArchiveService.JOB_NAME)
+            .orElseThrow()
+            .getLastMemberNo();
+    }
+
+    private CreateMemberRequest generateRequest(final String loginId) {
+        return new CreateMemberRequest(loginId, "보관회원", "test123@",
+            new CreateProfileRequest("홍길동", "01098765432", null));
+    }
+}
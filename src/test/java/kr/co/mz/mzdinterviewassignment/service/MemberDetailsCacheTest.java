@@ -0,0 +1,88 @@
+package kr.co.mz.mzdinterviewassignment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import kr.co.mz.mzdinterviewassignment.domain.member.Member;
+import kr.co.mz.mzdinterviewassignment.dto.response.cache.CacheRegionStatsResponse;
+import kr.co.mz.mzdinterviewassignment.dto.response.member.MemberDetailsResponse;
+import kr.co.mz.mzdinterviewassignment.facade.MemberLockMode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MemberDetailsCacheTest {
+
+    private final AtomicInteger loadCount = new AtomicInteger();
+    private final Function<Long, MemberDetailsResponse> loader = memberNo -> {
+        loadCount.incrementAndGet();
+        return MemberDetailsResponse.generateMemberDetails(Member.builder()
+            .loginId("testid")
+            .name("테스트")
+            .password("testPassword")
+            .build(), List.of());
+    };
+
+    @Test
+    @DisplayName("같은 회원의 상세 정보는 한 번만 불러오고 통계에 적중으로 기록")
+    void get_Cached_Test() {
+        MemberDetailsCache memberDetailsCache = new MemberDetailsCache(MemberLockMode.LOCAL, 100, 60);
+
+        MemberDetailsResponse first = memberDetailsCache.get(1L, loader);
+        MemberDetailsResponse second = memberDetailsCache.get(1L, loader);
+
+        CacheRegionStatsResponse stats = memberDetailsCache.getStats();
+        assertThat(second).isSameAs(first);
+        assertThat(loadCount).hasValue(1);
+        assertThat(stats.getHitCount()).isEqualTo(1);
+        assertThat(stats.getMissCount()).isEqualTo(1);
+        assertThat(stats.getAverageLoadMillis()).isNotNegative();
+    }
+
+    @Test
+    @DisplayName("여러 노드가 함께 쓰는 데이터베이스 잠금 모드에서는 캐시하지 않고 매번 불러옴")
+    void get_AdvisoryMode_Test() {
+        MemberDetailsCache memberDetailsCache = new MemberDetailsCache(MemberLockMode.ADVISORY,
+            100, 60);
+
+        memberDetailsCache.get(1L, loader);
+        memberDetailsCache.get(1L, loader);
+
+        assertThat(loadCount).hasValue(2);
+        assertThat(memberDetailsCache.getStats().getSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("회원 변경 커밋 이벤트를 받으면 상세 정보를 다시 불러옴")
+    void evict_Test() {
+        MemberDetailsCache memberDetailsCache = new MemberDetailsCache(MemberLockMode.LOCAL, 100, 60);
+
+        memberDetailsCache.get(1L, loader);
+        memberDetailsCache.get(2L, loader);
+        memberDetailsCache.evict(new MemberChangedEvent(1L));
+        memberDetailsCache.get(1L, loader);
+        memberDetailsCache.get(2L, loader);
+
+        assertThat(loadCount).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("가중치 합이 최대치를 넘으면 상세 정보를 제거")
+    void get_EvictByWeight_Test() throws InterruptedException {
+        MemberDetailsCache memberDetailsCache = new MemberDetailsCache(MemberLockMode.LOCAL, 2, 60);
+
+        for (long memberNo = 1; memberNo <= 10; memberNo++) {
+            memberDetailsCache.get(memberNo, loader);
+        }
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (memberDetailsCache.getStats().getEvictionCount() < 8
+            && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertThat(memberDetailsCache.getStats().getEvictionCount()).isEqualTo(8);
+        assertThat(memberDetailsCache.getStats().getSize()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,99 @@
+package kr.co.mz.mzdinterviewassignment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+import kr.co.mz.mzdinterviewassignment.domain.member.MemberStatus;
+import kr.co.mz.mzdinterviewassignment.domain.profile.ProfileStatus;
+import kr.co.mz.mzdinterviewassignment.dto.request.member.MemberExportFormat;
+import kr.co.mz.mzdinterviewassignment.dto.response.member.MemberExportRow;
+import kr.co.mz.mzdinterviewassignment.repository.MemberExportRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class MemberExportServiceTest {
+
+    private final MemberExportRepository memberExportRepository =
+        Mockito.mock(MemberExportRepository.class);
+    private MemberExportService memberExportService;
+
+    @BeforeEach
+    void setUp() {
+        memberExportService = new MemberExportService(memberExportRepository, new ObjectMapper());
+
+        Mockito.doAnswer(invocation -> {
+            Consumer<MemberExportRow> consumer = invocation.getArgument(0);
+            consumer.accept(generateRow(1L, "testid1", 10L, "서울, 종로구 \"본사\""));
+            consumer.accept(generateRow(2L, "testid2", null, null));
+            return null;
+        }).when(memberExportRepository).streamActiveMembers(any());
+    }
+
+    @Test
+    @DisplayName("회원을 한 줄에 하나씩 NDJSON 으로 내보내기")
+    void export_Ndjson_Test() throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        long count = memberExportService.export(MemberExportFormat.NDJSON, outputStream);
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        ObjectMapper objectMapper = new ObjectMapper();
+        assertThat(count).isEqualTo(2);
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[0]).get("loginId").asText()).isEqualTo("testid1");
+        assertThat(objectMapper.readTree(lines[0]).get("createdAt").asText())
+            .isEqualTo("2024-03-13T17:43:00");
+        assertThat(objectMapper.readTree(lines[0]).at("/mainProfile/address").asText())
+            .isEqualTo("서울, 종로구 \"본사\"");
+        assertThat(objectMapper.readTree(lines[1]).get("mainProfile").isNull()).isTrue();
+    }
+
+    @Test
+    @DisplayName("회원을 CSV 로 내보내기")
+    void export_Csv_Test() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        long count = memberExportService.export(MemberExportFormat.CSV, outputStream);
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(count).isEqualTo(2);
+        assertThat(lines).containsExactly(
+            "memberNo,loginId,name,memberStatus,createdAt,updatedAt,profileNo,nickname,"
+                + "phoneNumber,address,profileStatus",
+            "1,testid1,테스트,ACTIVE,2024-03-13T17:43:00,2024-03-13T17:43:00,10,히어로,"
+                + "01012345678,\"서울, 종로구 \"\"본사\"\"\",MAIN",
+            "2,testid2,테스트,ACTIVE,2024-03-13T17:43:00,2024-03-13T17:43:00,,,,,");
+    }
+
+    private static MemberExportRow generateRow(final Long memberNo, final String loginId,
+                                               final Long profileNo, final String address) {
+        LocalDateTime dateTime = LocalDateTime.of(2024, 3, 13, 17, 43);
+
+        MemberExportRow.MemberExportRowBuilder builder = MemberExportRow.builder()
+            .memberNo(memberNo)
+            .loginId(loginId)
+            .name("테스트")
+            .memberStatus(MemberStatus.ACTIVE)
+            .createdAt(dateTime)
+            .updatedAt(dateTime);
+
+        if (profileNo == null) {
+            return builder.build();
+        }
+
+        return builder
+            .profileNo(profileNo)
+            .nickname("히어로")
+            .phoneNumber("01012345678")
+            .address(address)
+            .profileStatus(ProfileStatus.MAIN)
+            .build();
+    }
+}
@@ -0,0 +1,97 @@
+package kr.co.mz.mzdinterviewassignment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+
+import java.util.List;
+import kr.co.mz.mzdinterviewassignment.domain.member.Member;
+import kr.co.mz.mzdinterviewassignment.domain.profile.Profile;
+import kr.co.mz.mzdinterviewassignment.domain.profile.ProfileStatus;
+import kr.co.mz.mzdinterviewassignment.repository.MemberRepository;
+import kr.co.mz.mzdinterviewassignment.repository.ProfileRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class MemberProfileSummaryServiceTest {
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private ProfileRepository profileRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private MemberProfileSummaryService memberProfileSummaryService;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        member = Member.builder()
+            .loginId("testid")
+            .name("테스트")
+            .password("testPassword")
+            .build();
+        ReflectionTestUtils.setField(member, "memberNo", 1L);
+
+        List<Profile> profiles = List.of(
+            generateProfile(10L, ProfileStatus.NORMAL),
+            generateProfile(11L, ProfileStatus.MAIN));
+
+        Mockito.when(memberRepository.findMembersByMemberNoGreaterThan(anyLong(),
+                any(PageRequest.class)))
+            .thenReturn(new SliceImpl<>(List.of(member)));
+        Mockito.when(profileRepository.findAllByMemberInOrderByProfileNoAsc(any()))
+            .thenReturn(profiles);
+    }
+
+    @Test
+    @DisplayName("점검 모드에서는 프로필 요약 정보 불일치를 세기만 하고 수정하지 않음")
+    void check_CheckOnly_Test() {
+
+        ProfileSummaryCheckResult result = memberProfileSummaryService.check(0L, 10, false);
+
+        assertThat(result.getCheckedCount()).isEqualTo(1);
+        assertThat(result.getMismatchCount()).isEqualTo(1);
+        assertThat(result.getNextCursor()).isNull();
+        assertThat(member.getMainProfileNo()).isNull();
+        assertThat(member.getProfileCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("복구 모드에서는 프로필 요약 정보를 실제 프로필 기준으로 수정")
+    void check_Repair_Test() {
+
+        ProfileSummaryCheckResult result = memberProfileSummaryService.check(0L, 10, true);
+
+        assertThat(result.getMismatchCount()).isEqualTo(1);
+        assertThat(member.getMainProfileNo()).isEqualTo(11L);
+        assertThat(member.getProfileCount()).isEqualTo(2);
+    }
+
+    private Profile generateProfile(final Long profileNo, final ProfileStatus status) {
+        Profile profile = Profile.builder()
+            .member(member)
+            .nickname("테스트별명")
+            .phoneNumber("01012345678")
+            .profileStatus(status)
+            .build();
+        ReflectionTestUtils.setField(profile, "profileNo", profileNo);
+        return profile;
+    }
+}
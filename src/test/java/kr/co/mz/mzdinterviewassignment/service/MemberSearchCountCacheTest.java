@@ -0,0 +1,60 @@
+package kr.co.mz.mzdinterviewassignment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class MemberSearchCountCacheTest {
+
+    private final MemberService memberService = Mockito.mock(MemberService.class);
+    private MemberSearchCountCache memberSearchCountCache;
+
+    @AfterEach
+    void tearDown() {
+        memberSearchCountCache.shutdown();
+    }
+
+    @Test
+    @DisplayName("유효 기간 안에서는 같은 이름의 회원 수를 다시 조회하지 않음")
+    void getCount_Cached_Test() {
+        memberSearchCountCache = new MemberSearchCountCache(memberService, 60, 10);
+        Mockito.when(memberService.countMembersContainName("테스트")).thenReturn(3L);
+
+        MemberSearchCount first = memberSearchCountCache.getCount("테스트");
+        MemberSearchCount second = memberSearchCountCache.getCount("테스트");
+
+        assertThat(first.getTotalCount()).isEqualTo(3L);
+        assertThat(second).isSameAs(first);
+        Mockito.verify(memberService, Mockito.times(1)).countMembersContainName("테스트");
+    }
+
+    @Test
+    @DisplayName("유효 기간이 지나면 이전 회원 수를 반환하고 백그라운드에서 갱신")
+    void getCount_Expired_Test() {
+        memberSearchCountCache = new MemberSearchCountCache(memberService, -1, 10);
+        Mockito.when(memberService.countMembersContainName("테스트")).thenReturn(3L, 5L);
+
+        MemberSearchCount first = memberSearchCountCache.getCount("테스트");
+        MemberSearchCount stale = memberSearchCountCache.getCount("테스트");
+
+        assertThat(stale).isSameAs(first);
+        Mockito.verify(memberService, Mockito.timeout(1000).times(2))
+            .countMembersContainName("테스트");
+    }
+
+    @Test
+    @DisplayName("저장 개수를 넘으면 가장 오래된 이름의 회원 수부터 제거")
+    void getCount_EvictOldest_Test() {
+        memberSearchCountCache = new MemberSearchCountCache(memberService, 60, 1);
+
+        memberSearchCountCache.getCount("홍길동");
+        memberSearchCountCache.getCount("테스트");
+        memberSearchCountCache.getCount("홍길동");
+
+        Mockito.verify(memberService, Mockito.times(2)).countMembersContainName("홍길동");
+        Mockito.verify(memberService, Mockito.times(1)).countMembersContainName("테스트");
+    }
+}
@@ -2,10 +2,11 @@ package kr.co.mz.mzdinterviewassignment.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.IntStream;
 import kr.co.mz.mzdinterviewassignment.domain.member.Member;
 import kr.co.mz.mzdinterviewassignment.domain.member.MemberStatus;
@@ -13,24 +14,40 @@ import kr.co.mz.mzdinterviewassignment.dto.request.member.CreateMemberRequest;
 import kr.co.mz.mzdinterviewassignment.dto.request.profile.CreateProfileRequest;
 import kr.co.mz.mzdinterviewassignment.exception.member.DuplicateLoginIdException;
 import kr.co.mz.mzdinterviewassignment.exception.member.NotFoundMemberException;
+import kr.co.mz.mzdinterviewassignment.repository.LoginIdRegistryRepository;
 import kr.co.mz.mzdinterviewassignment.repository.MemberRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
 
 class MemberServiceTest {
 
     private final MemberRepository memberRepository = Mockito.mock(MemberRepository.class);
+    private final MemberNameGramService memberNameGramService =
+        Mockito.mock(MemberNameGramService.class);
+    private final ApplicationEventPublisher eventPublisher =
+        Mockito.mock(ApplicationEventPublisher.class);
+    private LoginIdBloomFilter loginIdBloomFilter;
     private MemberService memberService;
 
     @BeforeEach
     void setUp() {
-        memberService = new MemberService(memberRepository);
+        loginIdBloomFilter = new LoginIdBloomFilter(Mockito.mock(JdbcTemplate.class), 1000, 0.01, 10_000);
+        memberService = new MemberService(memberRepository,
+            Mockito.mock(LoginIdRegistryRepository.class), memberNameGramService,
+            loginIdBloomFilter, eventPublisher);
+        Mockito.when(memberNameGramService.isIndexed()).thenReturn(true);
     }
 
     @Test
@@ -45,13 +62,51 @@ class MemberServiceTest {
         CreateMemberRequest dto =
             new CreateMemberRequest("testid", "테스트", "testPassword", profileDto);
 
-        Mockito.when(memberRepository.findByLoginId(dto.getLoginId()))
-            .thenReturn(Optional.of(member));
+        loginIdBloomFilter.put(member.getLoginId());
+        Mockito.when(memberRepository.countByLoginIdIncludingDeleted(dto.getLoginId()))
+            .thenReturn(1L);
 
         assertThatThrownBy(() -> memberService.createMember(dto))
             .isInstanceOf(DuplicateLoginIdException.class);
 
-        Mockito.verify(memberRepository, Mockito.never()).save(any(Member.class));
+        Mockito.verify(memberRepository, Mockito.never()).saveAndFlush(any(Member.class));
+    }
+
+    @Test
+    @DisplayName("아이디 필터에 있지만 실제로는 없는 아이디면 회원 생성 성공")
+    void createMember_FalsePositive_Success_Test() {
+
+        CreateMemberRequest dto = new CreateMemberRequest("testid", "테스트", "testPassword",
+            new CreateProfileRequest("홍길동", "01098765432", null));
+
+        loginIdBloomFilter.put(dto.getLoginId());
+        Mockito.when(memberRepository.countByLoginIdIncludingDeleted(dto.getLoginId()))
+            .thenReturn(0L);
+        Mockito.when(memberRepository.saveAndFlush(any(Member.class)))
+            .then(invocation -> {
+                Member member = invocation.getArgument(0);
+                ReflectionTestUtils.setField(member, "memberNo", 1L);
+                return member;
+            });
+
+        Member member = memberService.createMember(dto);
+
+        assertThat(member.getLoginId()).isEqualTo(dto.getLoginId());
+    }
+
+    @Test
+    @DisplayName("저장 중 아이디 유니크 제약에 걸리면 중복 아이디 예외로 변환")
+    void createMember_UniqueConstraint_Fail_Test() {
+
+        CreateMemberRequest dto = new CreateMemberRequest("testid", "테스트", "testPassword",
+            new CreateProfileRequest("홍길동", "01098765432", null));
+
+        Mockito.when(memberRepository.saveAndFlush(any(Member.class)))
+            .thenThrow(new DataIntegrityViolationException("unique"));
+
+        assertThatThrownBy(() -> memberService.createMember(dto))
+            .isInstanceOf(DuplicateLoginIdException.class);
+        Mockito.verify(memberNameGramService, Mockito.never()).index(any(Member.class));
     }
 
     @Test
@@ -64,15 +119,23 @@ class MemberServiceTest {
         CreateMemberRequest dto =
             new CreateMemberRequest("testid", "테스트", "testPassword", profileDto);
 
-        Mockito.when(memberRepository.save(any(Member.class)))
-            .then(returnsFirstArg());
+        Mockito.when(memberRepository.saveAndFlush(any(Member.class)))
+            .then(invocation -> {
+                Member member = invocation.getArgument(0);
+                ReflectionTestUtils.setField(member, "memberNo", 1L);
+                return member;
+            });
 
         Member member = memberService.createMember(dto);
 
         assertThat(member.getLoginId()).isEqualTo(dto.getLoginId());
         assertThat(member.getName()).isEqualTo(dto.getName());
+        assertThat(loginIdBloomFilter.mightContain(dto.getLoginId())).isTrue();
 
-        Mockito.verify(memberRepository, Mockito.times(1)).save(any(Member.class));
+        Mockito.verify(memberRepository, Mockito.never()).countByLoginIdIncludingDeleted(any());
+        Mockito.verify(memberRepository, Mockito.times(1)).saveAndFlush(any(Member.class));
+        Mockito.verify(eventPublisher, Mockito.times(1)).publishEvent(any(MemberCreatedEvent.class));
+        Mockito.verify(memberNameGramService, Mockito.times(1)).index(member);
     }
 
 
@@ -104,6 +167,7 @@ class MemberServiceTest {
         assertThat(member.getMemberStatus()).isEqualTo(MemberStatus.DELETED);
 
         Mockito.verify(memberRepository, Mockito.times(1)).findById(1L);
+        Mockito.verify(memberNameGramService, Mockito.times(1)).remove(1L);
     }
 
     @Test
@@ -119,6 +183,20 @@ class MemberServiceTest {
         Mockito.verify(memberRepository, Mockito.times(1)).findById(1L);
     }
 
+    @Test
+    @DisplayName("2차 캐시에 남아 있는 탈퇴 회원은 조회 실패 테스트")
+    void findMember_DeletedMember_Fail_Test() {
+
+        Member member = generateMember();
+        member.delete();
+
+        Mockito.when(memberRepository.findById(1L))
+            .thenReturn(Optional.of(member));
+
+        assertThatThrownBy(() -> memberService.findMember(1L))
+            .isInstanceOf(NotFoundMemberException.class);
+    }
+
     @Test
     @DisplayName("회원 조회 성공 테스트")
     void findMember_Success_Test() {
@@ -144,13 +222,170 @@ class MemberServiceTest {
 
         PageRequest pageRequest = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "memberNo"));
 
+        Set<String> grams = Set.of("테스", "스트");
+
+        Mockito.when(memberRepository.findMembersByNameGram("테스트", grams, 2, pageRequest))
+            .thenReturn(members);
+        Slice<Member> result = memberService.findMembersContainName("테스트", 0, 10);
+
+        assertThat(result.getContent()).hasSize(10);
+        Mockito.verify(memberRepository, Mockito.times(1))
+            .findMembersByNameGram("테스트", grams, 2, pageRequest);
+        Mockito.verify(memberRepository, Mockito.never())
+            .findMembersByNameContaining(any(String.class), any(PageRequest.class));
+    }
+
+    @Test
+    @DisplayName("이름 검색 색인을 만드는 중에는 이름 부분 일치로 회원 조회")
+    void findMembersByNameContaining_NotIndexed_Test() {
+        Page<Member> members = generatePageMembers();
+
+        PageRequest pageRequest = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "memberNo"));
+
+        Mockito.when(memberNameGramService.isIndexed()).thenReturn(false);
         Mockito.when(memberRepository.findMembersByNameContaining("테스트", pageRequest))
             .thenReturn(members);
-        Page<Member> result = memberService.findMembersContainName("테스트", 0, 10);
+        Slice<Member> result = memberService.findMembersContainName("테스트", 0, 10);
 
         assertThat(result.getContent()).hasSize(10);
+        Mockito.verify(memberRepository, Mockito.never())
+            .findMembersByNameGram(any(), any(), Mockito.anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("이름 검색 키워드의 LIKE 특수 문자는 이스케이프해서 조회")
+    void findMembersByNameContaining_EscapeKeyword_Test() {
+        PageRequest pageRequest = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "memberNo"));
+
+        Mockito.when(memberRepository.findMembersByNameGram(any(), any(), Mockito.anyLong(), any()))
+            .thenReturn(new SliceImpl<>(List.of()));
+        memberService.findMembersContainName("테%_!", 0, 10);
+
         Mockito.verify(memberRepository, Mockito.times(1))
-            .findMembersByNameContaining("테스트", pageRequest);
+            .findMembersByNameGram("테!%!_!!", Set.of("테%", "%_", "_!"), 3, pageRequest);
+    }
+
+    @Test
+    @DisplayName("빈 검색 키워드 회원 전체 조회 시 이름 검색 색인을 사용하지 않음")
+    void findMembersByNameContaining_EmptyName_Test() {
+        Page<Member> members = generatePageMembers();
+
+        PageRequest pageRequest = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "memberNo"));
+
+        Mockito.when(memberRepository.findMembersByNameContaining("", pageRequest))
+            .thenReturn(members);
+        Slice<Member> result = memberService.findMembersContainName("", 0, 10);
+
+        assertThat(result.getContent()).hasSize(10);
+        Mockito.verify(memberRepository, Mockito.times(1))
+            .findMembersByNameContaining("", pageRequest);
+    }
+
+    @Test
+    @DisplayName("이름 검색 키워드 회원 수 조회 시 이름 검색 색인 사용")
+    void countMembersContainName_Test() {
+        Set<String> grams = Set.of("테스", "스트");
+
+        Mockito.when(memberRepository.countMembersByNameGram("테스트", grams, 2)).thenReturn(3L);
+
+        assertThat(memberService.countMembersContainName("테스트")).isEqualTo(3L);
+        Mockito.verify(memberRepository, Mockito.never()).count();
+    }
+
+    @Test
+    @DisplayName("빈 검색 키워드 회원 수 조회 시 전체 회원 수 조회")
+    void countMembersContainName_EmptyName_Test() {
+        Mockito.when(memberRepository.count()).thenReturn(10L);
+
+        assertThat(memberService.countMembersContainName("")).isEqualTo(10L);
+        Mockito.verify(memberRepository, Mockito.never())
+            .countMembersByNameGram(any(), any(), Mockito.anyLong());
+    }
+
+    @Test
+    @DisplayName("커서가 없을 때 처음부터 회원 조회")
+    void findMembersContainNameAfter_NullCursor_Test() {
+        Slice<Member> members = new SliceImpl<>(generatePageMembers().getContent());
+
+        PageRequest pageRequest = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "memberNo"));
+
+        Mockito.when(memberRepository.findMembersByNameContainingAndMemberNoGreaterThan("",
+                MemberService.FIRST_CURSOR, pageRequest))
+            .thenReturn(members);
+        Slice<Member> result = memberService.findMembersContainNameAfter("", null, 10);
+
+        assertThat(result.getContent()).hasSize(10);
+        Mockito.verify(memberRepository, Mockito.times(1))
+            .findMembersByNameContainingAndMemberNoGreaterThan("", MemberService.FIRST_CURSOR,
+                pageRequest);
+    }
+
+    @Test
+    @DisplayName("회원 일괄 생성 시 한 번에 저장하고 이름 색인 생성")
+    void createMembers_Success_Test() {
+        List<CreateMemberRequest> requests = IntStream.range(0, 3)
+            .mapToObj(i -> new CreateMemberRequest("testid" + i, "테스트", "testPassword" + i,
+                new CreateProfileRequest("홍길동", "01098765432", null)))
+            .toList();
+
+        Mockito.when(memberRepository.saveAll(any()))
+            .thenAnswer(invocation -> invocation.getArgument(0));
+        List<Member> members = memberService.createMembers(requests);
+
+        assertThat(members).extracting(Member::getLoginId)
+            .containsExactly("testid0", "testid1", "testid2");
+        Mockito.verify(memberRepository, Mockito.times(1)).saveAll(any());
+        Mockito.verify(memberRepository, Mockito.never()).flush();
+        assertThat(loginIdBloomFilter.mightContain("testid1")).isTrue();
+        Mockito.verify(memberNameGramService, Mockito.times(1)).indexAll(members);
+    }
+
+    @Test
+    @DisplayName("일괄 생성한 회원 저장 중 아이디 유니크 제약에 걸리면 중복 아이디 예외로 변환")
+    void flushMembers_UniqueConstraint_Fail_Test() {
+        List<Member> members = List.of(Member.builder()
+            .loginId("testid")
+            .name("테스트")
+            .password("testPassword")
+            .build());
+
+        Mockito.doThrow(new DataIntegrityViolationException("unique"))
+            .when(memberRepository).flush();
+
+        assertThatThrownBy(() -> memberService.flushMembers(members))
+            .isInstanceOf(DuplicateLoginIdException.class);
+    }
+
+    @Test
+    @DisplayName("이미 사용 중인 아이디를 한 번의 쿼리로 조회")
+    void findExistingLoginIds_Test() {
+        loginIdBloomFilter.put("testid1");
+
+        Mockito.when(memberRepository.findAllLoginIdsIncludingDeleted(List.of("testid1")))
+            .thenReturn(List.of("testid1"));
+        Set<String> result = memberService.findExistingLoginIds(List.of("testid1", "testid2"));
+
+        assertThat(result).containsExactly("testid1");
+        Mockito.verify(memberRepository, Mockito.times(1))
+            .findAllLoginIdsIncludingDeleted(List.of("testid1"));
+    }
+
+    @Test
+    @DisplayName("아이디 필터에 없는 아이디만 확인하면 쿼리를 실행하지 않음")
+    void findExistingLoginIds_DefiniteMiss_Test() {
+        Set<String> result = memberService.findExistingLoginIds(List.of("testid1", "testid2"));
+
+        assertThat(result).isEmpty();
+        Mockito.verify(memberRepository, Mockito.never()).findAllLoginIdsIncludingDeleted(any());
+    }
+
+    @Test
+    @DisplayName("확인할 아이디가 없으면 쿼리를 실행하지 않음")
+    void findExistingLoginIds_Empty_Test() {
+        Set<String> result = memberService.findExistingLoginIds(Set.of());
+
+        assertThat(result).isEmpty();
+        Mockito.verify(memberRepository, Mockito.never()).findAllLoginIdsIncludingDeleted(any());
     }
 
     private static PageImpl<Member> generatePageMembers() {
@@ -4,11 +4,15 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.IntStream;
 import kr.co.mz.mzdinterviewassignment.domain.member.Member;
 import kr.co.mz.mzdinterviewassignment.domain.profile.Profile;
@@ -17,8 +21,10 @@ import kr.co.mz.mzdinterviewassignment.dto.request.profile.CreateProfileRequest;
 import kr.co.mz.mzdinterviewassignment.dto.request.profile.UpdateProfileRequest;
 import kr.co.mz.mzdinterviewassignment.dto.response.profile.ProfileResponse;
 import kr.co.mz.mzdinterviewassignment.exception.profile.CannotDeleteProfileException;
+import kr.co.mz.mzdinterviewassignment.exception.profile.DuplicateMainProfileException;
 import kr.co.mz.mzdinterviewassignment.exception.profile.EmptyProfileException;
 import kr.co.mz.mzdinterviewassignment.exception.profile.NotFoundProfileException;
+import kr.co.mz.mzdinterviewassignment.exception.profile.ProfileVersionMismatchException;
 import kr.co.mz.mzdinterviewassignment.repository.ProfileRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -28,6 +34,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 class ProfileServiceTest {
@@ -35,6 +44,9 @@ class ProfileServiceTest {
     @Mock
     private ProfileRepository profileRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ProfileService profileService;
 
@@ -53,24 +65,15 @@ class ProfileServiceTest {
     @DisplayName("회원에 메인 프로필이 없을 때 생성하는 프로필을 메인 프로필로 자동 지정 후 프로필 생성")
     void createProfile_setMainProfile_Test() {
 
-        List<Profile> profiles = IntStream.range(0, 5)
-            .mapToObj(i -> Profile.builder()
-                .member(member)
-                .nickname("테스트" + i)
-                .phoneNumber("0101234567" + i)
-                .address("서울특별시 성북구 화랑도 11길 " + i + " 103동 1602호 (하월곡동, 한국아파트)")
-                .profileStatus(ProfileStatus.NORMAL)
-                .build())
-            .toList();
-
         CreateProfileRequest dto = new CreateProfileRequest("홍길동", "01098765432",
             "서울특별시 종로구 청계천로 85 17층(관철동, 삼일빌딩) 한국지역정보개발원");
 
-        Mockito.when(profileRepository.findAllByMember(any(Member.class)))
-            .thenReturn(profiles);
-
         Mockito.when(profileRepository.save(any(Profile.class)))
-            .then(returnsFirstArg());
+            .then(invocation -> {
+                Profile profile = invocation.getArgument(0);
+                ReflectionTestUtils.setField(profile, "profileNo", 1L);
+                return profile;
+            });
 
         ProfileResponse response = profileService.createProfile(dto, member);
 
@@ -78,8 +81,10 @@ class ProfileServiceTest {
         assertThat(response.getNickname()).isEqualTo(dto.getNickname());
         assertThat(response.getPhoneNumber()).isEqualTo(dto.getPhoneNumber());
         assertThat(response.getAddress()).isEqualTo(dto.getAddress());
+        assertThat(member.getMainProfileNo()).isEqualTo(1L);
+        assertThat(member.getProfileCount()).isEqualTo(1);
 
-        Mockito.verify(profileRepository, Mockito.times(1)).findAllByMember(any(Member.class));
+        Mockito.verify(profileRepository, Mockito.never()).findAllByMember(any(Member.class));
         Mockito.verify(profileRepository, Mockito.times(1)).save(any(Profile.class));
     }
 
@@ -87,14 +92,11 @@ class ProfileServiceTest {
     @DisplayName("회원에 메인 프로필이 있을 때 생성하는 프로필을 일반 프로필로 자동 지정 후 프로필 생성")
     void createProfile_setNormalProfile_Test() {
 
-        List<Profile> profiles = generateProfiles();
+        registerProfiles(generateProfiles());
 
         CreateProfileRequest dto = new CreateProfileRequest("홍길동", "01098765432",
             "서울특별시 종로구 청계천로 85 17층(관철동, 삼일빌딩) 한국지역정보개발원");
 
-        Mockito.when(profileRepository.findAllByMember(any(Member.class)))
-            .thenReturn(profiles);
-
         Mockito.when(profileRepository.save(any(Profile.class)))
             .then(returnsFirstArg());
 
@@ -104,8 +106,10 @@ class ProfileServiceTest {
         assertThat(response.getNickname()).isEqualTo(dto.getNickname());
         assertThat(response.getPhoneNumber()).isEqualTo(dto.getPhoneNumber());
         assertThat(response.getAddress()).isEqualTo(dto.getAddress());
+        assertThat(member.getMainProfileNo()).isEqualTo(1L);
+        assertThat(member.getProfileCount()).isEqualTo(6);
 
-        Mockito.verify(profileRepository, Mockito.times(1)).findAllByMember(any(Member.class));
+        Mockito.verify(profileRepository, Mockito.never()).findAllByMember(any(Member.class));
         Mockito.verify(profileRepository, Mockito.times(1)).save(any(Profile.class));
     }
 
@@ -119,16 +123,53 @@ class ProfileServiceTest {
         Mockito.when(profileRepository.findById(any(Long.class)))
             .thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> profileService.updateProfile(dto, 1L, member))
+        assertThatThrownBy(() -> profileService.updateProfile(dto, 1L, member, null))
             .isInstanceOf(NotFoundProfileException.class);
 
         Mockito.verify(profileRepository, Mockito.times(1)).findById(any(Long.class));
     }
 
+    @Test
+    @DisplayName("요청한 버전과 프로필 버전이 다르면 프로필 수정 실패 테스트")
+    void updateProfile_VersionMismatch_Fail_Test() {
+        Profile profile = generateProfile();
+        registerProfiles(List.of(profile));
+
+        UpdateProfileRequest dto = new UpdateProfileRequest("홍길동", "01098765432",
+            null, ProfileStatus.MAIN);
+
+        Mockito.when(profileRepository.findById(any(Long.class)))
+            .thenReturn(Optional.of(profile));
+
+        assertThatThrownBy(() -> profileService.updateProfile(dto, 1L, member, Set.of(3L)))
+            .isInstanceOf(ProfileVersionMismatchException.class);
+
+        assertThat(profile.getNickname()).isNotEqualTo(dto.getNickname());
+        Mockito.verify(profileRepository, Mockito.never()).saveAndFlush(any(Profile.class));
+    }
+
+    @Test
+    @DisplayName("요청한 버전 중 하나가 프로필 버전과 같으면 프로필 수정 성공 테스트")
+    void updateProfile_VersionMatch_Success_Test() {
+        Profile profile = generateProfile();
+        registerProfiles(List.of(profile));
+
+        UpdateProfileRequest dto = new UpdateProfileRequest("홍길동", "01098765432",
+            null, ProfileStatus.MAIN);
+
+        Mockito.when(profileRepository.findById(any(Long.class)))
+            .thenReturn(Optional.of(profile));
+
+        profileService.updateProfile(dto, 1L, member, Set.of(0L, 3L));
+
+        assertThat(profile.getNickname()).isEqualTo(dto.getNickname());
+    }
+
     @Test
     @DisplayName("프로필 수정 성공 테스트 ")
     void updateProfile_Success_Test() {
         Profile profile = generateProfile();
+        registerProfiles(List.of(profile));
 
         UpdateProfileRequest dto = new UpdateProfileRequest("홍길동", "01098765432",
             "서울특별시 종로구 청계천로 85 17층(관철동, 삼일빌딩) 한국지역정보개발원", ProfileStatus.MAIN);
@@ -136,7 +177,7 @@ class ProfileServiceTest {
         Mockito.when(profileRepository.findById(any(Long.class)))
             .thenReturn(Optional.of(profile));
 
-        profileService.updateProfile(dto, 1L, member);
+        profileService.updateProfile(dto, 1L, member, null);
 
         assertThat(profile.getNickname()).isEqualTo(dto.getNickname());
         assertThat(profile.getPhoneNumber()).isEqualTo(dto.getPhoneNumber());
@@ -149,29 +190,69 @@ class ProfileServiceTest {
     @DisplayName("일반 프로필을 메인 프로필로 상태 수정 성공 테스트")
     void updateProfile_ChangeMainProfile_Success_Test() {
         List<Profile> profiles = generateProfiles();
+        registerProfiles(profiles);
 
         UpdateProfileRequest dto = new UpdateProfileRequest("신사임당", "0114321234",
             null, ProfileStatus.MAIN);
 
-        Mockito.when(profileRepository.findById(any(Long.class)))
+        Mockito.when(profileRepository.findById(5L))
             .thenReturn(Optional.of(profiles.get(4)));
 
-        Mockito.when(profileRepository.findAllByMember(any(Member.class)))
-            .thenReturn(profiles);
-
-        profileService.updateProfile(dto, 4L, member);
+        profileService.updateProfile(dto, 5L, member, null);
 
         assertThat(profiles.get(4).getNickname()).isEqualTo(dto.getNickname());
         assertThat(profiles.get(4).getPhoneNumber()).isEqualTo(dto.getPhoneNumber());
         assertThat(profiles.get(4).getAddress()).isEqualTo(dto.getAddress());
         assertThat(profiles.get(4).getProfileStatus()).isEqualTo(dto.getProfileStatus());
+        assertThat(member.getMainProfileNo()).isEqualTo(5L);
 
-        for (int i = 0; i < profiles.size() - 1; i++) {
-            assertThat(profiles.get(i).getProfileStatus()).isEqualTo(ProfileStatus.NORMAL);
-        }
-
+        Mockito.verify(profileRepository, Mockito.times(1))
+            .demoteMainProfile(any(), any(LocalDateTime.class));
         Mockito.verify(profileRepository, Mockito.times(1)).findById(any(Long.class));
-        Mockito.verify(profileRepository, Mockito.times(1)).findAllByMember(any(Member.class));
+        Mockito.verify(profileRepository, Mockito.never()).findAllByMember(any(Member.class));
+    }
+
+    @Test
+    @DisplayName("메인 프로필이 없는 회원은 기존 메인 프로필을 내리지 않고 메인 프로필로 상태 수정")
+    void updateProfile_WithoutMainProfile_Test() {
+        List<Profile> profiles = generateProfiles();
+        ReflectionTestUtils.setField(profiles.get(0), "profileStatus", ProfileStatus.NORMAL);
+        registerProfiles(profiles);
+
+        UpdateProfileRequest dto = new UpdateProfileRequest("신사임당", "0114321234",
+            null, ProfileStatus.MAIN);
+
+        Mockito.when(profileRepository.findById(3L))
+            .thenReturn(Optional.of(profiles.get(2)));
+
+        profileService.updateProfile(dto, 3L, member, null);
+
+        assertThat(profiles.get(2).getProfileStatus()).isEqualTo(ProfileStatus.MAIN);
+        assertThat(member.getMainProfileNo()).isEqualTo(3L);
+
+        Mockito.verify(profileRepository, Mockito.never())
+            .demoteMainProfile(any(), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("메인 프로필 유니크 제약에 걸리면 메인 프로필 중복 예외로 수정 실패")
+    void updateProfile_DuplicateMainProfile_Fail_Test() {
+        List<Profile> profiles = generateProfiles();
+        ReflectionTestUtils.setField(profiles.get(0), "profileStatus", ProfileStatus.NORMAL);
+        registerProfiles(profiles);
+
+        UpdateProfileRequest dto = new UpdateProfileRequest("신사임당", "0114321234",
+            null, ProfileStatus.MAIN);
+
+        Mockito.when(profileRepository.findById(3L))
+            .thenReturn(Optional.of(profiles.get(2)));
+        Mockito.when(profileRepository.saveAndFlush(any(Profile.class)))
+            .thenThrow(new DataIntegrityViolationException("uk_profile_main_member_no"));
+
+        assertThatThrownBy(() -> profileService.updateProfile(dto, 3L, member, null))
+            .isInstanceOf(DuplicateMainProfileException.class);
+
+        assertThat(member.hasMainProfile()).isFalse();
     }
 
     @Test
@@ -179,6 +260,7 @@ class ProfileServiceTest {
     void updateProfile_HasSingleProfileDoNotChangeProfileStatus_Test() {
 
         Profile profile = generateProfile();
+        registerProfiles(List.of(profile));
 
         UpdateProfileRequest dto = new UpdateProfileRequest("신사임당", "0114321234",
             null, ProfileStatus.NORMAL);
@@ -186,24 +268,23 @@ class ProfileServiceTest {
         Mockito.when(profileRepository.findById(any(Long.class)))
             .thenReturn(Optional.of(profile));
 
-        Mockito.when(profileRepository.findAllByMember(any(Member.class)))
-            .thenReturn(Collections.singletonList(profile));
-
-        profileService.updateProfile(dto, 1L, member);
+        profileService.updateProfile(dto, 1L, member, null);
 
         assertThat(profile.getNickname()).isEqualTo(dto.getNickname());
         assertThat(profile.getPhoneNumber()).isEqualTo(dto.getPhoneNumber());
         assertThat(profile.getAddress()).isEqualTo(dto.getAddress());
         assertThat(profile.getProfileStatus()).isNotEqualTo(dto.getProfileStatus());
+        assertThat(member.getMainProfileNo()).isEqualTo(1L);
 
         Mockito.verify(profileRepository, Mockito.times(1)).findById(any(Long.class));
-        Mockito.verify(profileRepository, Mockito.times(1)).findAllByMember(any(Member.class));
+        Mockito.verify(profileRepository, Mockito.never()).findAllByMember(any(Member.class));
     }
 
     @Test
     @DisplayName("메인 프로필을 일반 프로필로 전환한다면 회원의 다른 프로필 하나를 메인프로필로 전환 테스트")
     void updateProfile_IfChangeMainProfileToNormalProfile_Test() {
         List<Profile> profiles = generateProfiles();
+        registerProfiles(profiles);
 
         UpdateProfileRequest dto = new UpdateProfileRequest("신사임당", "0114321234",
             null, ProfileStatus.NORMAL);
@@ -211,22 +292,22 @@ class ProfileServiceTest {
         Mockito.when(profileRepository.findById(any(Long.class)))
             .thenReturn(Optional.of(profiles.get(0)));
 
-        Mockito.when(profileRepository.findAllByMember(any(Member.class)))
-            .thenReturn(profiles);
+        Mockito.when(profileRepository.findFirstProfileNoByMemberAndProfileStatus(
+                any(Member.class), eq(ProfileStatus.NORMAL)))
+            .thenReturn(Optional.of(profiles.get(1).getProfileNo()));
 
-        profileService.updateProfile(dto, 1L, member);
+        profileService.updateProfile(dto, 1L, member, null);
 
         assertThat(profiles.get(0).getProfileStatus()).isEqualTo(dto.getProfileStatus());
         assertThat(profiles.get(0).getNickname()).isEqualTo(dto.getNickname());
         assertThat(profiles.get(0).getPhoneNumber()).isEqualTo(dto.getPhoneNumber());
         assertThat(profiles.get(0).getAddress()).isEqualTo(dto.getAddress());
-
-        assertThat(profiles.stream()
-            .anyMatch(profile -> Objects.equals(profile.getProfileStatus(), ProfileStatus.MAIN)))
-            .isTrue();
+        assertThat(member.getMainProfileNo()).isEqualTo(profiles.get(1).getProfileNo());
 
         Mockito.verify(profileRepository, Mockito.times(1)).findById(any(Long.class));
-        Mockito.verify(profileRepository, Mockito.times(1)).findAllByMember(any(Member.class));
+        Mockito.verify(profileRepository, Mockito.times(1))
+            .promoteProfile(any(), eq(profiles.get(1).getProfileNo()),
+                any(LocalDateTime.class));
     }
 
     @Test
@@ -247,30 +328,33 @@ class ProfileServiceTest {
     @DisplayName("회원의 프로필이 1개만 있을 때 프로필 삭제 시 실패 테스트")
     void deleteProfile_SingleProfile_Fail_Test() {
         Profile profile = generateProfile();
+        registerProfiles(List.of(profile));
 
         Mockito.when(profileRepository.findById(any(Long.class)))
             .thenReturn(Optional.of(profile));
 
-        Mockito.when(profileRepository.findAllByMember(any(Member.class)))
-            .thenReturn(Collections.singletonList(profile));
-
         assertThatThrownBy(() -> profileService.deleteProfile(1L, member))
             .isInstanceOf(CannotDeleteProfileException.class);
 
         Mockito.verify(profileRepository, Mockito.times(1)).findById(any(Long.class));
         Mockito.verify(profileRepository, Mockito.never()).delete(any(Profile.class));
+        Mockito.verify(profileRepository, Mockito.never()).findAllByMember(any(Member.class));
     }
 
     @Test
     @DisplayName("프로필 삭제 성공 테스트")
     void deleteProfile_Success_Test() {
-        Profile profile = generateProfile();
+        List<Profile> profiles = generateProfiles();
+        registerProfiles(profiles);
 
         Mockito.when(profileRepository.findById(any(Long.class)))
-            .thenReturn(Optional.of(profile));
+            .thenReturn(Optional.of(profiles.get(0)));
 
         profileService.deleteProfile(1L, member);
 
+        assertThat(member.getProfileCount()).isEqualTo(4);
+        assertThat(member.hasMainProfile()).isFalse();
+
         Mockito.verify(profileRepository, Mockito.times(1)).findById(any(Long.class));
         Mockito.verify(profileRepository, Mockito.times(1)).delete(any(Profile.class));
     }
@@ -278,24 +362,24 @@ class ProfileServiceTest {
     @Test
     @DisplayName("회원이 프로필을 가지고 있지 않을 시 메인 프로필 조회 실패 테스트")
     void findMainProfile_EmptyProfile_Fail_Test() {
-        Mockito.when(profileRepository.findProfileByMemberAndProfileStatus(any(Member.class), any(
-            ProfileStatus.class))).thenReturn(Optional.empty());
+        Mockito.when(profileRepository.findFirstByMemberOrderByProfileNoAsc(any(Member.class)))
+            .thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> profileService.findMainProfile(member))
             .isInstanceOf(EmptyProfileException.class);
 
+        Mockito.verify(profileRepository, Mockito.never()).findById(any(Long.class));
         Mockito.verify(profileRepository, Mockito.times(1))
-            .findProfileByMemberAndProfileStatus(any(Member.class), any(ProfileStatus.class));
-        Mockito.verify(profileRepository, Mockito.times(1)).findAllByMember(any(Member.class));
+            .findFirstByMemberOrderByProfileNoAsc(any(Member.class));
     }
 
     @Test
     @DisplayName("메인 프로필 조회 테스트")
     void findMainProfile_Test() {
         Profile profile = generateProfile();
+        registerProfiles(List.of(profile));
 
-        Mockito.when(profileRepository.findProfileByMemberAndProfileStatus(any(Member.class), any(
-            ProfileStatus.class))).thenReturn(Optional.of(profile));
+        Mockito.when(profileRepository.findById(1L)).thenReturn(Optional.of(profile));
 
         ProfileResponse response = profileService.findMainProfile(member);
 
@@ -304,8 +388,9 @@ class ProfileServiceTest {
         assertThat(response.getPhoneNumber()).isEqualTo(profile.getPhoneNumber());
         assertThat(response.getAddress()).isEqualTo(profile.getAddress());
 
-        Mockito.verify(profileRepository, Mockito.times(1))
-            .findProfileByMemberAndProfileStatus(any(Member.class), any(ProfileStatus.class));
+        Mockito.verify(profileRepository, Mockito.times(1)).findById(1L);
+        Mockito.verify(profileRepository, Mockito.never())
+            .findFirstByMemberOrderByProfileNoAsc(any(Member.class));
         Mockito.verify(profileRepository, Mockito.never()).findAllByMember(any(Member.class));
     }
 
@@ -321,14 +406,12 @@ class ProfileServiceTest {
                 .profileStatus(ProfileStatus.NORMAL)
                 .build())
             .toList();
+        registerProfiles(profiles);
 
         Profile profile = profiles.stream().findFirst().orElseThrow();
 
-        Mockito.when(profileRepository.findProfileByMemberAndProfileStatus(any(Member.class), any(
-            ProfileStatus.class))).thenReturn(Optional.empty());
-
-        Mockito.when(profileRepository.findAllByMember(any(Member.class)))
-            .thenReturn(profiles);
+        Mockito.when(profileRepository.findFirstByMemberOrderByProfileNoAsc(any(Member.class)))
+            .thenReturn(Optional.of(profile));
 
         ProfileResponse response = profileService.findMainProfile(member);
 
@@ -339,9 +422,57 @@ class ProfileServiceTest {
         assertThat(response.getProfileStatus()).isEqualTo(profile.getProfileStatus());
 
 
+        Mockito.verify(profileRepository, Mockito.never()).findById(any(Long.class));
         Mockito.verify(profileRepository, Mockito.times(1))
-            .findProfileByMemberAndProfileStatus(any(Member.class), any(ProfileStatus.class));
-        Mockito.verify(profileRepository, Mockito.times(1)).findAllByMember(any(Member.class));
+            .findFirstByMemberOrderByProfileNoAsc(any(Member.class));
+    }
+
+    @Test
+    @DisplayName("여러 회원의 메인 프로필 일괄 조회 시 메인 프로필이 없다면 첫 번째 프로필로 대체 조회 테스트")
+    void findMainProfiles_Test() {
+        ReflectionTestUtils.setField(member, "memberNo", 1L);
+
+        Member otherMember = Member.builder()
+            .loginId("otherid")
+            .name("다른이름")
+            .password("otherPassword")
+            .build();
+        ReflectionTestUtils.setField(otherMember, "memberNo", 2L);
+
+        List<Profile> profiles = generateProfiles();
+        Profile normalProfile = Profile.builder()
+            .member(otherMember)
+            .nickname("다른별명")
+            .phoneNumber("01087654321")
+            .profileStatus(ProfileStatus.NORMAL)
+            .build();
+
+        Mockito.when(profileRepository.findAllByMemberInOrderByProfileNoAsc(any()))
+            .thenReturn(List.of(profiles.get(1), profiles.get(0), normalProfile));
+
+        Map<Long, ProfileResponse> responses =
+            profileService.findMainProfiles(List.of(member, otherMember));
+
+        assertThat(responses.get(1L).getNickname()).isEqualTo(profiles.get(0).getNickname());
+        assertThat(responses.get(1L).getProfileStatus()).isEqualTo(ProfileStatus.MAIN);
+        assertThat(responses.get(2L).getNickname()).isEqualTo(normalProfile.getNickname());
+        assertThat(responses.get(2L).getProfileStatus()).isEqualTo(ProfileStatus.NORMAL);
+
+        Mockito.verify(profileRepository, Mockito.times(1))
+            .findAllByMemberInOrderByProfileNoAsc(any());
+        Mockito.verify(profileRepository, Mockito.never()).findAllByMember(any(Member.class));
+    }
+
+    @Test
+    @DisplayName("프로필이 없는 회원이 포함된 메인 프로필 일괄 조회 시 실패 테스트")
+    void findMainProfiles_EmptyProfile_Fail_Test() {
+        ReflectionTestUtils.setField(member, "memberNo", 1L);
+
+        Mockito.when(profileRepository.findAllByMemberInOrderByProfileNoAsc(any()))
+            .thenReturn(Collections.emptyList());
+
+        assertThatThrownBy(() -> profileService.findMainProfiles(List.of(member)))
+            .isInstanceOf(EmptyProfileException.class);
     }
 
     @Test
@@ -379,6 +510,17 @@ class ProfileServiceTest {
         Mockito.verify(profileRepository, Mockito.times(1)).findAllByMember(any(Member.class));
     }
 
+    private void registerProfiles(final List<Profile> profiles) {
+        for (int i = 0; i < profiles.size(); i++) {
+            Profile profile = profiles.get(i);
+            ReflectionTestUtils.setField(profile, "profileNo", (long) i + 1);
+            member.increaseProfileCount();
+            if (Objects.equals(profile.getProfileStatus(), ProfileStatus.MAIN)) {
+                member.changeMainProfile(profile.getProfileNo());
+            }
+        }
+    }
+
     private Profile generateProfile() {
         return Profile.builder()
             .member(member)
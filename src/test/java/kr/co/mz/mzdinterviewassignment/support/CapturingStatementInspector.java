@@ -0,0 +1,34 @@
+package kr.co.mz.mzdinterviewassignment.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+public class CapturingStatementInspector implements StatementInspector {
+
+    public static final String PROPERTY =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+            + "kr.co.mz.mzdinterviewassignment.support.CapturingStatementInspector";
+
+    private static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+
+    public static List<String> capture(final Runnable runnable) {
+        List<String> captured = new ArrayList<>();
+        CAPTURED.set(captured);
+        try {
+            runnable.run();
+        } finally {
+            CAPTURED.remove();
+        }
+        return captured;
+    }
+
+    @Override
+    public String inspect(final String sql) {
+        List<String> captured = CAPTURED.get();
+        if (captured != null) {
+            captured.add(sql);
+        }
+        return sql;
+    }
+}
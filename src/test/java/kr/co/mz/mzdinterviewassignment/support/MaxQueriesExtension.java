@@ -0,0 +1,45 @@
+package kr.co.mz.mzdinterviewassignment.support;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.Optional;
+import kr.co.mz.mzdinterviewassignment.config.RequestStatistics;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+public class MaxQueriesExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+        ExtensionContext.Namespace.create(MaxQueriesExtension.class);
+
+    @Override
+    public void beforeTestExecution(final ExtensionContext context) {
+        findMaxQueries(context).ifPresent(maxQueries -> context.getStore(NAMESPACE)
+            .put(context.getUniqueId(), RequestStatistics.start(maxQueries.value(), false)));
+    }
+
+    @Override
+    public void afterTestExecution(final ExtensionContext context) {
+        RequestStatistics statistics =
+            context.getStore(NAMESPACE).remove(context.getUniqueId(), RequestStatistics.class);
+        if (statistics == null) {
+            return;
+        }
+        statistics.finish();
+
+        if (statistics.isExceeded() && context.getExecutionException().isEmpty()) {
+            fail(String.format("쿼리 수 한도 초과. 쿼리 수 : %d, 한도 : %d, 트랜잭션 수 : %d, "
+                    + "트랜잭션 최대 쿼리 수 : %d", statistics.getStatementCount(),
+                statistics.getMaxStatements(), statistics.getTransactionCount(),
+                statistics.getMaxTransactionStatementCount()));
+        }
+    }
+
+    private static Optional<MaxQueries> findMaxQueries(final ExtensionContext context) {
+        return AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), MaxQueries.class)
+            .or(() -> AnnotationSupport.findAnnotation(context.getRequiredTestClass(),
+                MaxQueries.class));
+    }
+}
@@ -0,0 +1,45 @@
+package kr.co.mz.mzdinterviewassignment.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public final class QueryPlans {
+
+    private QueryPlans() {
+    }
+
+    public static String explain(final JdbcTemplate jdbcTemplate, final Runnable query) {
+        List<String> statements = CapturingStatementInspector.capture(query);
+        assertThat(statements).as("실행 계획을 확인할 쿼리").hasSize(1);
+
+        return jdbcTemplate.execute("explain " + statements.get(0),
+            (PreparedStatement statement) -> {
+                int parameterCount = statement.getParameterMetaData().getParameterCount();
+                for (int i = 1; i <= parameterCount; i++) {
+                    statement.setNull(i, Types.NULL);
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    return readPlan(resultSet);
+                }
+            });
+    }
+
+    private static String readPlan(final ResultSet resultSet) throws SQLException {
+        List<String> rows = new ArrayList<>();
+        while (resultSet.next()) {
+            StringBuilder row = new StringBuilder();
+            for (int i = 1; i <= resultSet.getMetaData().getColumnCount(); i++) {
+                row.append(resultSet.getString(i)).append(' ');
+            }
+            rows.add(row.toString());
+        }
+        return String.join("\n", rows);
+    }
+}